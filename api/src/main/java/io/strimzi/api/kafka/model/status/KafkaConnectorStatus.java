@@ -30,6 +30,7 @@ public class KafkaConnectorStatus extends Status {
 
     private Map<String, Object> connectorStatus;
     private int tasksMax;
+    private String configHash;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @Description("The connector status, as reported by the Kafka Connect REST API.")
@@ -50,4 +51,14 @@ public class KafkaConnectorStatus extends Status {
     public void setTasksMax(int tasksMax) {
         this.tasksMax = tasksMax;
     }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Description("The hash of the connector configuration and of the generation of the Kafka Connect cluster which were last applied to the connector by the operator.")
+    public String getConfigHash() {
+        return configHash;
+    }
+
+    public void setConfigHash(String configHash) {
+        this.configHash = configHash;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.JavaCertManager;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the certificate managers, issuing the certificates of a Kafka broker or user in the same way as the
+ * Cluster and User Operators do: a new key and certificate signing request, the certificate signed by the clients or
+ * cluster CA and the PKCS#12 keystore. Renewing the CA certificate is benchmarked separately. Running the benchmarks
+ * with several threads (using the {@code -t} option) shows how the implementations scale when the certificates of
+ * several users are issued at the same time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class CertManagerBenchmark {
+    private static final int DAYS = 365;
+
+    @Param({"openssl", "java"})
+    String implementation;
+
+    private CertManager certManager;
+    private Subject caSubject;
+    private Subject subject;
+    private File directory;
+    private File caKey;
+    private File caCert;
+    private byte[] caKeyBytes;
+    private byte[] caCertBytes;
+    private File key;
+    private File csr;
+    private File cert;
+    private File keyStore;
+
+    @Setup
+    public void setup() throws IOException {
+        certManager = "openssl".equals(implementation) ? new OpenSslCertManager() : new JavaCertManager();
+
+        caSubject = new Subject();
+        caSubject.setOrganizationName("io.strimzi");
+        caSubject.setCommonName("cluster-ca");
+
+        subject = new Subject();
+        subject.setOrganizationName("io.strimzi");
+        subject.setCommonName("my-cluster-kafka");
+        Map<String, String> subjectAltNames = new HashMap<>();
+        subjectAltNames.put("DNS.1", "my-cluster-kafka-bootstrap");
+        subjectAltNames.put("DNS.2", "my-cluster-kafka-bootstrap.myproject.svc");
+        subjectAltNames.put("DNS.3", "my-cluster-kafka-0.my-cluster-kafka-brokers.myproject.svc");
+        subjectAltNames.put("IP.1", "10.0.0.1");
+        subject.setSubjectAltNames(subjectAltNames);
+
+        directory = Files.createTempDirectory("cert-manager-benchmark").toFile();
+        caKey = new File(directory, "ca.key");
+        caCert = new File(directory, "ca.crt");
+        key = new File(directory, "user.key");
+        csr = new File(directory, "user.csr");
+        cert = new File(directory, "user.crt");
+        keyStore = new File(directory, "user.p12");
+
+        certManager.generateSelfSignedCert(caKey, caCert, caSubject, DAYS);
+        caKeyBytes = Files.readAllBytes(caKey.toPath());
+        caCertBytes = Files.readAllBytes(caCert.toPath());
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public File issueCertificate() throws IOException {
+        certManager.generateCsr(key, csr, subject);
+        certManager.generateCert(csr, caKeyBytes, caCertBytes, cert, subject, DAYS);
+        certManager.addKeyAndCertToKeyStore(key, cert, "user", keyStore, "password");
+        return keyStore;
+    }
+
+    @Benchmark
+    public File renewCaCertificate() throws IOException {
+        certManager.renewSelfSignedCert(caKey, caCert, caSubject, DAYS);
+        return caCert;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.api.kafka.model.Kafka;
+
+/**
+ * Sizes of the Kafka clusters used as the benchmark parameter
+ */
+public enum ClusterSize {
+    /**
+     * Minimal production cluster
+     */
+    SMALL(3, 2, 1, 20),
+
+    /**
+     * Large cluster with many listeners, JBOD volumes and configuration options
+     */
+    LARGE(60, 10, 12, 500);
+
+    private final int replicas;
+    private final int listeners;
+    private final int volumes;
+    private final int configs;
+
+    ClusterSize(int replicas, int listeners, int volumes, int configs) {
+        this.replicas = replicas;
+        this.listeners = listeners;
+        this.volumes = volumes;
+        this.configs = configs;
+    }
+
+    /**
+     * Creates a Kafka custom resource of this size
+     *
+     * @param configValue Value of the custom configuration options
+     *
+     * @return The Kafka custom resource
+     */
+    Kafka kafka(String configValue) {
+        return KafkaResources.kafka(replicas, listeners, volumes, configs, configValue);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.model.ResourceVisitor;
+import io.strimzi.operator.common.model.ValidationVisitor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the model generation done in every reconciliation of a Kafka cluster: validation of the custom
+ * resource, creation of the Kafka model, generation of the broker configuration and of the StatefulSet.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaModelBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(KafkaModelBenchmark.class);
+
+    @Param
+    ClusterSize size;
+
+    private Kafka kafka;
+    private KafkaCluster kafkaCluster;
+
+    @Setup
+    public void setup() {
+        kafka = size.kafka("initial");
+        kafkaCluster = KafkaCluster.fromCrd(kafka, KafkaResources.VERSIONS);
+    }
+
+    @Benchmark
+    public Set<Condition> validateCustomResource() {
+        Set<Condition> warnings = new HashSet<>(0);
+        ResourceVisitor.visit(kafka, new ValidationVisitor(kafka, LOGGER, warnings));
+        return warnings;
+    }
+
+    @Benchmark
+    public KafkaCluster kafkaClusterFromCrd() {
+        return KafkaCluster.fromCrd(kafka, KafkaResources.VERSIONS);
+    }
+
+    @Benchmark
+    public StatefulSet generateStatefulSet() {
+        return kafkaCluster.generateStatefulSet(false, null, null);
+    }
+
+    @Benchmark
+    public String generateBrokerConfiguration() {
+        return KafkaResources.brokerConfiguration(kafka);
+    }
+}
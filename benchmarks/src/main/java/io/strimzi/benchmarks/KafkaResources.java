@@ -0,0 +1,175 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaClusterSpec;
+import io.strimzi.api.kafka.model.Rack;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationScramSha512;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationTls;
+import io.strimzi.api.kafka.model.listener.arraylistener.ArrayOrObjectKafkaListeners;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.storage.SingleVolumeStorage;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilder;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.VolumeUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Builds the Kafka custom resources used by the benchmarks. The size of the resources is configurable so that the
+ * benchmarks can be run with resources similar to the large production clusters.
+ */
+final class KafkaResources {
+    static final String NAMESPACE = "my-namespace";
+    static final String NAME = "my-cluster";
+    static final String KAFKA_VERSION = "2.7.0";
+    static final String KAFKA_IMAGE = "strimzi/kafka:latest-kafka-" + KAFKA_VERSION;
+
+    /**
+     * Versions from the kafka-versions.yaml bundled in the Cluster Operator. The images are set in the custom resources
+     * directly, so no image maps are needed.
+     */
+    static final KafkaVersion.Lookup VERSIONS = new KafkaVersion.Lookup(emptyMap(), emptyMap(), emptyMap(), emptyMap(), emptyMap());
+
+    private static final KafkaListenerType[] LISTENER_TYPES = {KafkaListenerType.INTERNAL, KafkaListenerType.NODEPORT, KafkaListenerType.LOADBALANCER};
+
+    private KafkaResources() { }
+
+    /**
+     * Creates a Kafka custom resource
+     *
+     * @param replicas Number of Kafka brokers
+     * @param listeners Number of listeners. The listeners rotate through the internal, node port and load balancer
+     *                  types with different TLS and authentication settings.
+     * @param volumes Number of persistent JBOD volumes
+     * @param configs Number of Kafka configuration options. Beyond the common broker options, custom options such as
+     *                the ones used by plugins are added.
+     * @param configValue Value of the custom configuration options. It makes it possible to create two resources which
+     *                    differ only in their configuration.
+     *
+     * @return The Kafka custom resource
+     */
+    static Kafka kafka(int replicas, int listeners, int volumes, int configs, String configValue) {
+        List<SingleVolumeStorage> jbodVolumes = new ArrayList<>(volumes);
+        for (int i = 0; i < volumes; i++) {
+            jbodVolumes.add(new PersistentClaimStorageBuilder()
+                    .withId(i)
+                    .withSize("1000Gi")
+                    .withStorageClass("fast-ssd")
+                    .withDeleteClaim(false)
+                    .build());
+        }
+
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(NAME)
+                    .addToLabels("app", "benchmark")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(replicas)
+                        .withImage(KAFKA_IMAGE)
+                        .withVersion(KAFKA_VERSION)
+                        .withListeners(new ArrayOrObjectKafkaListeners(listeners(listeners)))
+                        .withRack(new Rack("topology.kubernetes.io/zone"))
+                        .withAuthorization(new KafkaAuthorizationSimpleBuilder()
+                                .addToSuperUsers("CN=admin", "CN=mirror-maker")
+                                .build())
+                        .withConfig(config(configs, configValue))
+                        .withStorage(new JbodStorageBuilder()
+                                .withVolumes(jbodVolumes)
+                                .build())
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewPersistentClaimStorage()
+                            .withSize("100Gi")
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Generates the broker configuration of the given Kafka custom resource the same way as the Kafka model does
+     *
+     * @param kafka The Kafka custom resource
+     *
+     * @return The broker configuration
+     */
+    static String brokerConfiguration(Kafka kafka) {
+        KafkaClusterSpec spec = kafka.getSpec().getKafka();
+
+        return new KafkaBrokerConfigurationBuilder()
+                .withBrokerId()
+                .withRackId(spec.getRack())
+                .withZookeeper(NAME)
+                .withLogDirs(VolumeUtils.getDataVolumeMountPaths(spec.getStorage(), "/var/lib/kafka"))
+                .withListeners(NAME, NAMESPACE, spec.getListeners().newOrConverted())
+                .withAuthorization(NAME, spec.getAuthorization())
+                .withUserConfiguration(new KafkaConfiguration(spec.getConfig().entrySet()))
+                .build();
+    }
+
+    private static List<GenericKafkaListener> listeners(int count) {
+        List<GenericKafkaListener> listeners = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean tls = i % 2 == 0;
+            GenericKafkaListenerBuilder listener = new GenericKafkaListenerBuilder()
+                    .withName("listener" + i)
+                    .withPort(9100 + i)
+                    .withType(LISTENER_TYPES[i % LISTENER_TYPES.length])
+                    .withTls(tls);
+
+            if (tls) {
+                listener.withAuth(new KafkaListenerAuthenticationTls());
+            } else if (i % 3 == 1) {
+                listener.withAuth(new KafkaListenerAuthenticationScramSha512());
+            }
+
+            listeners.add(listener.build());
+        }
+
+        return listeners;
+    }
+
+    private static Map<String, Object> config(int count, String customValue) {
+        Map<String, Object> config = new LinkedHashMap<>(count);
+        config.put("num.partitions", 12);
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("log.retention.hours", 168);
+        config.put("log.segment.bytes", 1073741824);
+        config.put("num.network.threads", 8);
+        config.put("num.io.threads", 16);
+        config.put("auto.create.topics.enable", false);
+        config.put("log.message.format.version", "2.7");
+        config.put("inter.broker.protocol.version", "2.7");
+
+        for (int i = config.size(); i < count; i++) {
+            config.put("custom.plugin.property." + i, customValue);
+        }
+
+        return config;
+    }
+}
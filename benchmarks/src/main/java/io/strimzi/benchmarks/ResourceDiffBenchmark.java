@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.operator.resource.KafkaBrokerConfigurationDiff;
+import io.strimzi.operator.cluster.operator.resource.StatefulSetDiff;
+import io.strimzi.operator.common.model.OrderedProperties;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks of the diffs used in every reconciliation of a Kafka cluster to decide whether the StatefulSet has to be
+ * patched and whether the brokers can be reconfigured dynamically or have to be rolled.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceDiffBenchmark {
+    @Param
+    ClusterSize size;
+
+    private StatefulSet currentSts;
+    private StatefulSet unchangedSts;
+    private StatefulSet changedSts;
+
+    private Config currentBrokerConfig;
+    private String desiredBrokerConfig;
+    private KafkaCluster desiredKafkaCluster;
+
+    @Setup
+    public void setup() {
+        Kafka current = size.kafka("current");
+        Kafka desired = size.kafka("desired");
+
+        KafkaCluster currentKafkaCluster = KafkaCluster.fromCrd(current, KafkaResources.VERSIONS);
+        desiredKafkaCluster = KafkaCluster.fromCrd(desired, KafkaResources.VERSIONS);
+
+        unchangedSts = currentKafkaCluster.generateStatefulSet(false, null, null);
+        // The StatefulSet read from the API server has additional fields set by Kubernetes
+        currentSts = new StatefulSetBuilder(unchangedSts)
+                .editMetadata()
+                    .withResourceVersion("123456")
+                    .withUid("0b4a8d5c-2c4e-4a5f-9b6e-6f1c1d2f3a4b")
+                    .withGeneration(7L)
+                    .withCreationTimestamp("2021-01-01T00:00:00Z")
+                .endMetadata()
+                .withNewStatus()
+                    .withReplicas(unchangedSts.getSpec().getReplicas())
+                    .withReadyReplicas(unchangedSts.getSpec().getReplicas())
+                    .withObservedGeneration(7L)
+                .endStatus()
+                .build();
+        changedSts = KafkaCluster.fromCrd(new KafkaBuilder(current)
+                    .editSpec()
+                        .editKafka()
+                            .withImage(KafkaResources.KAFKA_IMAGE + "-patched")
+                        .endKafka()
+                    .endSpec()
+                    .build(), KafkaResources.VERSIONS)
+                .generateStatefulSet(false, null, null);
+
+        currentBrokerConfig = new Config(new OrderedProperties()
+                .addStringPairs(KafkaResources.brokerConfiguration(current))
+                .asMap()
+                .entrySet()
+                .stream()
+                .map(entry -> new ConfigEntry(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList()));
+        desiredBrokerConfig = KafkaResources.brokerConfiguration(desired);
+    }
+
+    @Benchmark
+    public boolean statefulSetDiffUnchanged() {
+        return new StatefulSetDiff(currentSts, unchangedSts).isEmpty();
+    }
+
+    @Benchmark
+    public boolean statefulSetDiffChanged() {
+        return new StatefulSetDiff(currentSts, changedSts).isEmpty();
+    }
+
+    @Benchmark
+    public int brokerConfigurationDiff() {
+        return new KafkaBrokerConfigurationDiff(currentBrokerConfig, desiredBrokerConfig, desiredKafkaCluster.getKafkaVersion(), 0).getDiffSize();
+    }
+
+    @Benchmark
+    public String orderedPropertiesRoundTrip() {
+        return new OrderedProperties()
+                .addStringPairs(desiredBrokerConfig)
+                .asPairs();
+    }
+}
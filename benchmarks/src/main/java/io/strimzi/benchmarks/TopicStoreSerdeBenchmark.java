@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.operator.topic.Topic;
+import io.strimzi.operator.topic.TopicCommand;
+import io.strimzi.operator.topic.TopicCommandSerde;
+import io.strimzi.operator.topic.TopicSerde;
+import io.strimzi.operator.topic.TopicStoreFormat;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the formats of the Kafka Streams based topic store of the Topic Operator. Restoring the store from its
+ * changelog topic deserializes every stored topic, and every read of the store deserializes the topic again. The write
+ * benchmarks also report the serialized bytes per second as a secondary result, as the sizes of the records decide the
+ * size of the store and changelog topics. Dividing it by the throughput gives the size of the record.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TopicStoreSerdeBenchmark {
+    private static final String TOPIC = "__strimzi_store_topic";
+    private static final int TOPICS = 1_000;
+
+    @Param
+    TopicStoreFormat format;
+
+    private TopicSerde topicSerde;
+    private TopicCommandSerde commandSerde;
+
+    private Topic[] topics;
+    private byte[][] topicRecords;
+    private TopicCommand command;
+    private byte[] commandRecord;
+
+    /**
+     * Secondary results of the write benchmarks
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Written {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        topicSerde = new TopicSerde(format);
+        commandSerde = new TopicCommandSerde(format);
+
+        topics = new Topic[TOPICS];
+        topicRecords = new byte[TOPICS][];
+        for (int i = 0; i < TOPICS; i++) {
+            topics[i] = topic(i);
+            topicRecords[i] = topicSerde.serialize(TOPIC, topics[i]);
+        }
+
+        command = TopicCommand.update(topics[0]);
+        commandRecord = commandSerde.serialize(TOPIC, command);
+    }
+
+    /**
+     * Creates a topic with the config options which are typically set in the KafkaTopic resources
+     */
+    private static Topic topic(int index) {
+        Map<String, String> config = new HashMap<>();
+        config.put("cleanup.policy", index % 2 == 0 ? "delete" : "compact");
+        config.put("retention.ms", String.valueOf(604_800_000L + index));
+        config.put("segment.bytes", "1073741824");
+        config.put("min.insync.replicas", "2");
+        config.put("max.message.bytes", "1048588");
+        config.put("compression.type", "producer");
+        return new Topic.Builder("my-application.events-" + index, 12, (short) 3, config).build();
+    }
+
+    /**
+     * Restore of the whole store from its changelog topic
+     *
+     * @param blackhole Consumes the deserialized topics
+     */
+    @Benchmark
+    public void restoreTopics(Blackhole blackhole) {
+        for (byte[] record : topicRecords) {
+            blackhole.consume(topicSerde.deserialize(TOPIC, record));
+        }
+    }
+
+    /**
+     * Write of all the topics to the store
+     *
+     * @param blackhole Consumes the serialized topics
+     * @param written   Counts the serialized bytes
+     */
+    @Benchmark
+    public void writeTopics(Blackhole blackhole, Written written) {
+        for (Topic topic : topics) {
+            byte[] record = topicSerde.serialize(TOPIC, topic);
+            written.bytes += record.length;
+            blackhole.consume(record);
+        }
+    }
+
+    @Benchmark
+    public TopicCommand readCommand() {
+        return commandSerde.deserialize(TOPIC, commandRecord);
+    }
+
+    @Benchmark
+    public byte[] writeCommand(Written written) {
+        byte[] record = commandSerde.serialize(TOPIC, command);
+        written.bytes += record.length;
+        return record;
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.CertIOException;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v1CertificateBuilder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.PKCS10CertificationRequestBuilder;
+import org.bouncycastle.pkcs.PKCSException;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A certificates manager which creates the keys, certificate signing requests, certificates and keystores in the JVM
+ * using Bouncy Castle, rather than by running the {@code openssl} command like {@link OpenSslCertManager}. It does not
+ * create any files other than the requested ones and it can be used from several threads at the same time.
+ * The files have the same formats and contents as the files created by {@link OpenSslCertManager} with OpenSSL 1.1.1:
+ * <ul>
+ *     <li>2048 bit RSA keys in unencrypted PKCS#8 PEM files</li>
+ *     <li>certificates signed using SHA-256, with random 159 bit serial numbers</li>
+ *     <li>self-signed certificates with the basic constraints, subject key identifier and authority key identifier
+ *     extensions of the {@code v3_ca} section of the default OpenSSL configuration</li>
+ *     <li>the subject alternative names as the only extension of the certificates of subjects which have them</li>
+ *     <li>version 1 certificates without any extensions for the other signed and renewed certificates</li>
+ *     <li>PKCS#12 keystores with the key and certificate stored under the given alias</li>
+ * </ul>
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class JavaCertManager implements CertManager {
+
+    private static final int KEY_SIZE = 2048;
+    private static final int SERIAL_NUMBER_BITS = 159;
+
+    private final SecureRandom random = new SecureRandom();
+
+    public JavaCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        X500Name name = name(sbj);
+        X509v3CertificateBuilder builder = new X509v3CertificateBuilder(name, serialNumber(), notBefore(), notAfter(days),
+                name, SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded()));
+        try {
+            if (hasSubjectAltNames(sbj)) {
+                // With the subject alt names, OpenSslCertManager uses the v3_req section of openssl.conf
+                builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+            } else {
+                JcaX509ExtensionUtils extensionUtils = new JcaX509ExtensionUtils();
+                builder.addExtension(Extension.subjectKeyIdentifier, false, extensionUtils.createSubjectKeyIdentifier(keyPair.getPublic()));
+                builder.addExtension(Extension.authorityKeyIdentifier, false, extensionUtils.createAuthorityKeyIdentifier(keyPair.getPublic()));
+                builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Error creating the extensions of the certificate", e);
+        }
+        X509CertificateHolder certificate = builder.build(signer(keyPair.getPrivate()));
+
+        writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        writePem(certFile, "CERTIFICATE", certificate.getEncoded());
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        KeyPair keyPair = readKeyPair(Files.readAllBytes(keyFile.toPath()));
+        X500Name name = name(sbj);
+        X509CertificateHolder certificate = new X509v1CertificateBuilder(name, serialNumber(), notBefore(), notAfter(days),
+                name, SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded()))
+                .build(signer(keyPair.getPrivate()));
+
+        writePem(certFile, "CERTIFICATE", certificate.getEncoded());
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        X509Certificate certificate;
+        try (InputStream is = new FileInputStream(certFile)) {
+            certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(is);
+        }
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        // the KeyStore class creates an empty store when there is no input stream
+        if (trustStoreFile.length() > 0) {
+            try (InputStream is = new FileInputStream(trustStoreFile)) {
+                trustStore.load(is, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        store(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey key = readKeyPair(Files.readAllBytes(keyFile.toPath())).getPrivate();
+            List<Certificate> chain = new ArrayList<>();
+            try (InputStream is = new FileInputStream(certFile)) {
+                chain.addAll(CertificateFactory.getInstance("X.509").generateCertificates(is));
+            }
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, key, keyStorePassword.toCharArray(), chain.toArray(new Certificate[0]));
+            store(keyStore, keyStoreFile, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Error creating the keystore " + keyStoreFile, e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream is = new FileInputStream(trustStoreFile)) {
+            trustStore.load(is, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        store(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        KeyPair keyPair = generateKeyPair();
+        PKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(name(sbj), keyPair.getPublic());
+        if (hasSubjectAltNames(sbj)) {
+            Extensions extensions = new Extensions(new Extension(Extension.subjectAlternativeName, false,
+                    subjectAltNames(sbj).getEncoded(ASN1Encoding.DER)));
+            builder.addAttribute(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest, extensions);
+        }
+        PKCS10CertificationRequest csr = builder.build(signer(keyPair.getPrivate()));
+
+        writePem(keyFile, "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        writePem(csrFile, "CERTIFICATE REQUEST", csr.getEncoded());
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        PKCS10CertificationRequest csr = readCsr(csrFile);
+        X500Name issuer;
+        try {
+            X509Certificate ca = (X509Certificate) CertificateFactory.getInstance("X.509")
+                    .generateCertificate(new ByteArrayInputStream(caCert));
+            issuer = X500Name.getInstance(ca.getSubjectX500Principal().getEncoded());
+        } catch (CertificateException e) {
+            throw new IOException("Error reading the CA certificate", e);
+        }
+        PrivateKey caPrivateKey = readKeyPair(caKey).getPrivate();
+
+        X509CertificateHolder certificate;
+        if (hasSubjectAltNames(sbj)) {
+            // With the subject alt names, OpenSslCertManager uses the v3_req section of openssl.conf
+            X509v3CertificateBuilder builder = new X509v3CertificateBuilder(issuer, serialNumber(), notBefore(), notAfter(days),
+                    csr.getSubject(), csr.getSubjectPublicKeyInfo());
+            builder.addExtension(Extension.subjectAlternativeName, false, subjectAltNames(sbj));
+            certificate = builder.build(signer(caPrivateKey));
+        } else {
+            certificate = new X509v1CertificateBuilder(issuer, serialNumber(), notBefore(), notAfter(days),
+                    csr.getSubject(), csr.getSubjectPublicKeyInfo())
+                    .build(signer(caPrivateKey));
+        }
+
+        writePem(crtFile, "CERTIFICATE", certificate.getEncoded());
+    }
+
+    private KeyPair generateKeyPair() throws IOException {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(KEY_SIZE, random);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Error generating the key", e);
+        }
+    }
+
+    /**
+     * Reads the private key from the PEM encoded PKCS#8 or traditional OpenSSL format and gets its public key.
+     * The public key of the PKCS#8 RSA keys is computed from the private key.
+     */
+    private static KeyPair readKeyPair(byte[] pem) throws IOException {
+        Object object;
+        try (PEMParser parser = new PEMParser(new StringReader(new String(pem, StandardCharsets.US_ASCII)))) {
+            object = parser.readObject();
+        }
+        JcaPEMKeyConverter converter = new JcaPEMKeyConverter();
+        if (object instanceof PEMKeyPair) {
+            return converter.getKeyPair((PEMKeyPair) object);
+        } else if (object instanceof PrivateKeyInfo) {
+            PrivateKey privateKey = converter.getPrivateKey((PrivateKeyInfo) object);
+            if (privateKey instanceof RSAPrivateCrtKey) {
+                RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+                try {
+                    PublicKey publicKey = KeyFactory.getInstance("RSA")
+                            .generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+                    return new KeyPair(publicKey, privateKey);
+                } catch (GeneralSecurityException e) {
+                    throw new IOException("Error computing the public key", e);
+                }
+            }
+            // The public key is not needed for signing
+            return new KeyPair(null, privateKey);
+        } else {
+            throw new IOException("The file does not contain a PEM encoded private key");
+        }
+    }
+
+    private static PKCS10CertificationRequest readCsr(File csrFile) throws IOException {
+        Object object;
+        try (PEMParser parser = new PEMParser(Files.newBufferedReader(csrFile.toPath(), StandardCharsets.US_ASCII))) {
+            object = parser.readObject();
+        }
+        if (!(object instanceof PKCS10CertificationRequest)) {
+            throw new IOException("The file " + csrFile + " does not contain a PEM encoded certificate signing request");
+        }
+        PKCS10CertificationRequest csr = (PKCS10CertificationRequest) object;
+        try {
+            if (!csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getSubjectPublicKeyInfo()))) {
+                throw new IOException("The signature of the certificate signing request " + csrFile + " is not valid");
+            }
+        } catch (OperatorCreationException | PKCSException e) {
+            throw new IOException("Error verifying the certificate signing request " + csrFile, e);
+        }
+        return csr;
+    }
+
+    private static ContentSigner signer(PrivateKey key) throws IOException {
+        String algorithm;
+        switch (key.getAlgorithm()) {
+            case "RSA":
+                algorithm = "SHA256withRSA";
+                break;
+            case "EC":
+            case "ECDSA":
+                algorithm = "SHA256withECDSA";
+                break;
+            case "DSA":
+                algorithm = "SHA256withDSA";
+                break;
+            default:
+                throw new IOException("Unsupported key algorithm " + key.getAlgorithm());
+        }
+        try {
+            return new JcaContentSignerBuilder(algorithm).build(key);
+        } catch (OperatorCreationException e) {
+            throw new IOException("Error creating the signer", e);
+        }
+    }
+
+    /**
+     * The distinguished name in the same order and with the same encoding as the {@code -subj} option of openssl.
+     * Without a subject, this is the default distinguished name of the default OpenSSL configuration.
+     */
+    private static X500Name name(Subject sbj) {
+        X500NameBuilder builder = new X500NameBuilder(BCStyle.INSTANCE);
+        if (sbj != null) {
+            if (sbj.organizationName() != null) {
+                builder.addRDN(BCStyle.O, sbj.organizationName());
+            }
+            if (sbj.commonName() != null) {
+                builder.addRDN(BCStyle.CN, sbj.commonName());
+            }
+        } else {
+            builder.addRDN(BCStyle.C, "AU");
+            builder.addRDN(BCStyle.ST, "Some-State");
+            builder.addRDN(BCStyle.O, "Internet Widgits Pty Ltd");
+        }
+        return builder.build();
+    }
+
+    private static boolean hasSubjectAltNames(Subject sbj) {
+        return sbj != null && sbj.subjectAltNames() != null && sbj.subjectAltNames().size() > 0;
+    }
+
+    /**
+     * The subject alt names in the order of the map, like in the {@code alt_names} section of openssl.conf
+     */
+    private static GeneralNames subjectAltNames(Subject sbj) throws CertIOException {
+        List<GeneralName> names = new ArrayList<>();
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            String type = entry.getKey().split("\\.", 2)[0];
+            switch (type) {
+                case "DNS":
+                    names.add(new GeneralName(GeneralName.dNSName, entry.getValue()));
+                    break;
+                case "IP":
+                    names.add(new GeneralName(GeneralName.iPAddress, entry.getValue()));
+                    break;
+                case "email":
+                    names.add(new GeneralName(GeneralName.rfc822Name, entry.getValue()));
+                    break;
+                case "URI":
+                    names.add(new GeneralName(GeneralName.uniformResourceIdentifier, entry.getValue()));
+                    break;
+                default:
+                    throw new CertIOException("Unsupported subject alternative name " + entry.getKey());
+            }
+        }
+        return new GeneralNames(names.toArray(new GeneralName[0]));
+    }
+
+    private BigInteger serialNumber() {
+        return new BigInteger(SERIAL_NUMBER_BITS, random);
+    }
+
+    private static Date notBefore() {
+        // Certificates have a precision of seconds
+        return new Date(TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())));
+    }
+
+    private static Date notAfter(int days) {
+        return new Date(notBefore().getTime() + TimeUnit.DAYS.toMillis(days));
+    }
+
+    /**
+     * Writes the PEM file with lines of 64 characters, like openssl
+     */
+    private static void writePem(File file, String type, byte[] der) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        Files.write(file.toPath(), pem.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void store(KeyStore keyStore, File file, String password) throws IOException {
+        try (OutputStream os = new FileOutputStream(file)) {
+            keyStore.store(os, password.toCharArray());
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Error writing the keystore " + file, e);
+        }
+    }
+}
@@ -32,8 +32,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 public class OpenSslCertManagerTest {
 
-    private static CertificateFactory certFactory;
-    private static CertManager ssl;
+    protected static CertificateFactory certFactory;
+    protected static CertManager ssl;
 
     @BeforeAll
     public static void before() throws CertificateException {
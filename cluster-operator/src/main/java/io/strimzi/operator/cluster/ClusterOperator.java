@@ -16,11 +16,11 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOpera
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Operator;
+import io.strimzi.operator.common.PeriodicReconciliationScheduler;
 import io.vertx.core.AbstractVerticle;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpServer;
 import org.apache.logging.log4j.LogManager;
@@ -57,6 +57,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final long reconciliationInterval;
 
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
+    private final List<PeriodicReconciliationScheduler> schedulers = new ArrayList<>();
 
     private long reconcileTimer;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
@@ -118,6 +119,12 @@ public class ClusterOperator extends AbstractVerticle {
         watchFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, kafkaConnectS2IAssemblyOperator, namespace));
         watchFutures.add(kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace));
 
+        List<Operator> periodicOperators = new ArrayList<>(operators);
+        periodicOperators.add(kafkaRebalanceAssemblyOperator);
+        for (Operator operator : periodicOperators) {
+            schedulers.add(new PeriodicReconciliationScheduler(vertx, operator, namespace, reconciliationInterval, metricsProvider));
+        }
+
         CompositeFuture.join(watchFutures)
                 .compose(f -> {
                     log.info("Setting up periodic reconciliation for namespace {}", namespace);
@@ -135,6 +142,9 @@ public class ClusterOperator extends AbstractVerticle {
     public void stop(Promise<Void> stop) {
         log.info("Stopping ClusterOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+        for (PeriodicReconciliationScheduler scheduler : schedulers) {
+            scheduler.cancel();
+        }
         for (Watch watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
@@ -146,19 +156,12 @@ public class ClusterOperator extends AbstractVerticle {
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations of the individual resources are
+      spread over the reconciliation interval.
      */
     private void reconcileAll(String trigger) {
-        Handler<AsyncResult<Void>> ignore = ignored -> { };
-        kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-
-        if (kafkaConnectS2IAssemblyOperator != null) {
-            kafkaConnectS2IAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+        for (PeriodicReconciliationScheduler scheduler : schedulers) {
+            scheduler.reconcileAll(trigger);
         }
     }
 
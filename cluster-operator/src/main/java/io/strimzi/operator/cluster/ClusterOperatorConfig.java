@@ -9,6 +9,8 @@ import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.NoImageException;
+import io.strimzi.operator.cluster.operator.resource.OperandHttpClients;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
@@ -70,6 +72,39 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
 
+    public static final String STRIMZI_RESOURCE_CACHE_ENABLED = "STRIMZI_RESOURCE_CACHE_ENABLED";
+    public static final boolean DEFAULT_RESOURCE_CACHE_ENABLED = false;
+
+    public static final String STRIMZI_MAX_CONCURRENT_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_RECONCILIATIONS";
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = AbstractOperator.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+
+    public static final String STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS = "STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS";
+    public static final int DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS = 1;
+
+    public static final String STRIMZI_HTTP_CLIENT_POOL_SIZE = "STRIMZI_HTTP_CLIENT_POOL_SIZE";
+    public static final int DEFAULT_HTTP_CLIENT_POOL_SIZE = OperandHttpClients.DEFAULT_POOL_SIZE;
+
+    public static final String STRIMZI_HTTP_CLIENT_PIPELINING = "STRIMZI_HTTP_CLIENT_PIPELINING";
+    public static final boolean DEFAULT_HTTP_CLIENT_PIPELINING = OperandHttpClients.DEFAULT_PIPELINING;
+
+    public static final String STRIMZI_HTTP_CLIENT_TIMEOUT_MS = "STRIMZI_HTTP_CLIENT_TIMEOUT_MS";
+    public static final long DEFAULT_HTTP_CLIENT_TIMEOUT_MS = OperandHttpClients.DEFAULT_TIMEOUT_MS;
+
+    public static final String STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS = "STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS";
+    public static final int DEFAULT_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS = 10;
+
+    public static final String STRIMZI_CONNECT_API_REQUESTS_PER_SECOND = "STRIMZI_CONNECT_API_REQUESTS_PER_SECOND";
+    public static final int DEFAULT_CONNECT_API_REQUESTS_PER_SECOND = 50;
+
+    public static final String STRIMZI_CONNECT_API_READS_FROM_WORKERS = "STRIMZI_CONNECT_API_READS_FROM_WORKERS";
+    public static final boolean DEFAULT_CONNECT_API_READS_FROM_WORKERS = false;
+
+    public static final String STRIMZI_CONNECTOR_VERIFICATION_INTERVAL_MS = "STRIMZI_CONNECTOR_VERIFICATION_INTERVAL_MS";
+    public static final long DEFAULT_CONNECTOR_VERIFICATION_INTERVAL_MS = 600_000;
+
+    public static final String STRIMZI_OPENSSL_CERT_MANAGER_ENABLED = "STRIMZI_OPENSSL_CERT_MANAGER_ENABLED";
+    public static final boolean DEFAULT_OPENSSL_CERT_MANAGER_ENABLED = false;
+
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
     private final long operationTimeoutMs;
@@ -81,6 +116,17 @@ public class ClusterOperatorConfig {
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
     private final RbacScope rbacScope;
+    private final boolean resourceCacheEnabled;
+    private final int maxConcurrentReconciliations;
+    private final int maxConcurrentBrokerRestarts;
+    private final int httpClientPoolSize;
+    private final boolean httpClientPipelining;
+    private final long httpClientTimeoutMs;
+    private final int maxConcurrentConnectorReconciliations;
+    private final int connectApiRequestsPerSecond;
+    private final boolean connectApiReadsFromWorkers;
+    private final long connectorVerificationIntervalMs;
+    private final boolean openSslCertManagerEnabled;
 
     /**
      * Constructor
@@ -96,7 +142,19 @@ public class ClusterOperatorConfig {
      * @param operatorNamespace Name of the namespace in which the operator is running
      * @param operatorNamespaceLabels Labels of the namespace in which the operator is running (used for network policies)
      * @param rbacScope true to use Roles where possible instead of ClusterRoles
+     * @param resourceCacheEnabled true to serve GETs and LISTs of the operands from watch-backed resource caches
+     * @param maxConcurrentReconciliations Maximal number of custom resources of one kind which are reconciled at the same time
+     * @param maxConcurrentBrokerRestarts Maximal number of Kafka brokers which can be restarted at the same time during a rolling update
+     * @param httpClientPoolSize Maximal number of connections of the operator to the REST API of each Kafka Connect and Cruise Control instance
+     * @param httpClientPipelining true to send several requests over a connection to Kafka Connect and Cruise Control without waiting for the responses
+     * @param httpClientTimeoutMs Timeout of the requests to the REST APIs of Kafka Connect and Cruise Control in milliseconds
+     * @param maxConcurrentConnectorReconciliations Maximal number of connectors of one Kafka Connect cluster which are reconciled at the same time
+     * @param connectApiRequestsPerSecond Maximal number of requests per second sent to the REST API of each Kafka Connect instance, or 0 for no limit
+     * @param connectApiReadsFromWorkers true to send the read-only requests to the Kafka Connect worker pods instead of the Kafka Connect service
+     * @param connectorVerificationIntervalMs Interval in milliseconds after which the configuration of an unchanged connector is verified against Kafka Connect again
+     * @param openSslCertManagerEnabled true to generate the keys and certificates with the openssl command instead of in Java
      */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
     public ClusterOperatorConfig(
             Set<String> namespaces,
             long reconciliationIntervalMs,
@@ -108,7 +166,18 @@ public class ClusterOperatorConfig {
             List<LocalObjectReference> imagePullSecrets,
             String operatorNamespace,
             Labels operatorNamespaceLabels,
-            RbacScope rbacScope
+            RbacScope rbacScope,
+            boolean resourceCacheEnabled,
+            int maxConcurrentReconciliations,
+            int maxConcurrentBrokerRestarts,
+            int httpClientPoolSize,
+            boolean httpClientPipelining,
+            long httpClientTimeoutMs,
+            int maxConcurrentConnectorReconciliations,
+            int connectApiRequestsPerSecond,
+            boolean connectApiReadsFromWorkers,
+            long connectorVerificationIntervalMs,
+            boolean openSslCertManagerEnabled
     ) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
@@ -121,6 +190,17 @@ public class ClusterOperatorConfig {
         this.operatorNamespace = operatorNamespace;
         this.operatorNamespaceLabels = operatorNamespaceLabels;
         this.rbacScope = rbacScope;
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.maxConcurrentBrokerRestarts = maxConcurrentBrokerRestarts;
+        this.httpClientPoolSize = httpClientPoolSize;
+        this.httpClientPipelining = httpClientPipelining;
+        this.httpClientTimeoutMs = httpClientTimeoutMs;
+        this.maxConcurrentConnectorReconciliations = maxConcurrentConnectorReconciliations;
+        this.connectApiRequestsPerSecond = connectApiRequestsPerSecond;
+        this.connectApiReadsFromWorkers = connectApiReadsFromWorkers;
+        this.connectorVerificationIntervalMs = connectorVerificationIntervalMs;
+        this.openSslCertManagerEnabled = openSslCertManagerEnabled;
     }
 
     /**
@@ -166,6 +246,17 @@ public class ClusterOperatorConfig {
         String operatorNamespace = map.get(STRIMZI_OPERATOR_NAMESPACE);
         Labels operatorNamespaceLabels = parseOperatorNamespaceLabels(map.get(STRIMZI_OPERATOR_NAMESPACE_LABELS));
         RbacScope rbacScope = parseRbacScope(map.get(STRIMZI_RBAC_SCOPE));
+        boolean resourceCacheEnabled = map.containsKey(STRIMZI_RESOURCE_CACHE_ENABLED) ? Boolean.parseBoolean(map.get(STRIMZI_RESOURCE_CACHE_ENABLED)) : DEFAULT_RESOURCE_CACHE_ENABLED;
+        int maxConcurrentReconciliations = parseMaxConcurrentReconciliations(map.get(STRIMZI_MAX_CONCURRENT_RECONCILIATIONS));
+        int maxConcurrentBrokerRestarts = parseMaxConcurrentBrokerRestarts(map.get(STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS));
+        int httpClientPoolSize = parseHttpClientPoolSize(map.get(STRIMZI_HTTP_CLIENT_POOL_SIZE));
+        boolean httpClientPipelining = map.containsKey(STRIMZI_HTTP_CLIENT_PIPELINING) ? Boolean.parseBoolean(map.get(STRIMZI_HTTP_CLIENT_PIPELINING)) : DEFAULT_HTTP_CLIENT_PIPELINING;
+        long httpClientTimeout = parseTimeout(map.get(STRIMZI_HTTP_CLIENT_TIMEOUT_MS), DEFAULT_HTTP_CLIENT_TIMEOUT_MS);
+        int maxConcurrentConnectorReconciliations = parseMaxConcurrentConnectorReconciliations(map.get(STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS));
+        int connectApiRequestsPerSecond = parseConnectApiRequestsPerSecond(map.get(STRIMZI_CONNECT_API_REQUESTS_PER_SECOND));
+        boolean connectApiReadsFromWorkers = map.containsKey(STRIMZI_CONNECT_API_READS_FROM_WORKERS) ? Boolean.parseBoolean(map.get(STRIMZI_CONNECT_API_READS_FROM_WORKERS)) : DEFAULT_CONNECT_API_READS_FROM_WORKERS;
+        long connectorVerificationInterval = parseTimeout(map.get(STRIMZI_CONNECTOR_VERIFICATION_INTERVAL_MS), DEFAULT_CONNECTOR_VERIFICATION_INTERVAL_MS);
+        boolean openSslCertManagerEnabled = map.containsKey(STRIMZI_OPENSSL_CERT_MANAGER_ENABLED) ? Boolean.parseBoolean(map.get(STRIMZI_OPENSSL_CERT_MANAGER_ENABLED)) : DEFAULT_OPENSSL_CERT_MANAGER_ENABLED;
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -178,7 +269,18 @@ public class ClusterOperatorConfig {
                 imagePullSecrets,
                 operatorNamespace,
                 operatorNamespaceLabels,
-                rbacScope);
+                rbacScope,
+                resourceCacheEnabled,
+                maxConcurrentReconciliations,
+                maxConcurrentBrokerRestarts,
+                httpClientPoolSize,
+                httpClientPipelining,
+                httpClientTimeout,
+                maxConcurrentConnectorReconciliations,
+                connectApiRequestsPerSecond,
+                connectApiReadsFromWorkers,
+                connectorVerificationInterval,
+                openSslCertManagerEnabled);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -261,6 +363,106 @@ public class ClusterOperatorConfig {
         return rbacScope;
     }
 
+    private static int parseMaxConcurrentReconciliations(String maxConcurrentReconciliationsEnvVar) {
+        int maxConcurrentReconciliations = DEFAULT_MAX_CONCURRENT_RECONCILIATIONS;
+
+        if (maxConcurrentReconciliationsEnvVar != null) {
+            try {
+                maxConcurrentReconciliations = Integer.parseInt(maxConcurrentReconciliationsEnvVar);
+            } catch (NumberFormatException e) {
+                maxConcurrentReconciliations = 0;
+            }
+
+            if (maxConcurrentReconciliations < 1) {
+                throw new InvalidConfigurationException(maxConcurrentReconciliationsEnvVar
+                        + " is not a valid " + STRIMZI_MAX_CONCURRENT_RECONCILIATIONS + " value. " +
+                        STRIMZI_MAX_CONCURRENT_RECONCILIATIONS + " has to be a positive integer.");
+            }
+        }
+
+        return maxConcurrentReconciliations;
+    }
+
+    private static int parseMaxConcurrentBrokerRestarts(String maxConcurrentBrokerRestartsEnvVar) {
+        int maxConcurrentBrokerRestarts = DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS;
+
+        if (maxConcurrentBrokerRestartsEnvVar != null) {
+            try {
+                maxConcurrentBrokerRestarts = Integer.parseInt(maxConcurrentBrokerRestartsEnvVar);
+            } catch (NumberFormatException e) {
+                maxConcurrentBrokerRestarts = 0;
+            }
+
+            if (maxConcurrentBrokerRestarts < 1) {
+                throw new InvalidConfigurationException(maxConcurrentBrokerRestartsEnvVar
+                        + " is not a valid " + STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS + " value. " +
+                        STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS + " has to be a positive integer.");
+            }
+        }
+
+        return maxConcurrentBrokerRestarts;
+    }
+
+    private static int parseHttpClientPoolSize(String httpClientPoolSizeEnvVar) {
+        int httpClientPoolSize = DEFAULT_HTTP_CLIENT_POOL_SIZE;
+
+        if (httpClientPoolSizeEnvVar != null) {
+            try {
+                httpClientPoolSize = Integer.parseInt(httpClientPoolSizeEnvVar);
+            } catch (NumberFormatException e) {
+                httpClientPoolSize = 0;
+            }
+
+            if (httpClientPoolSize < 1) {
+                throw new InvalidConfigurationException(httpClientPoolSizeEnvVar
+                        + " is not a valid " + STRIMZI_HTTP_CLIENT_POOL_SIZE + " value. " +
+                        STRIMZI_HTTP_CLIENT_POOL_SIZE + " has to be a positive integer.");
+            }
+        }
+
+        return httpClientPoolSize;
+    }
+
+    private static int parseMaxConcurrentConnectorReconciliations(String maxConcurrentConnectorReconciliationsEnvVar) {
+        int maxConcurrentConnectorReconciliations = DEFAULT_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS;
+
+        if (maxConcurrentConnectorReconciliationsEnvVar != null) {
+            try {
+                maxConcurrentConnectorReconciliations = Integer.parseInt(maxConcurrentConnectorReconciliationsEnvVar);
+            } catch (NumberFormatException e) {
+                maxConcurrentConnectorReconciliations = 0;
+            }
+
+            if (maxConcurrentConnectorReconciliations < 1) {
+                throw new InvalidConfigurationException(maxConcurrentConnectorReconciliationsEnvVar
+                        + " is not a valid " + STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS + " value. " +
+                        STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS + " has to be a positive integer.");
+            }
+        }
+
+        return maxConcurrentConnectorReconciliations;
+    }
+
+    private static int parseConnectApiRequestsPerSecond(String connectApiRequestsPerSecondEnvVar) {
+        int connectApiRequestsPerSecond = DEFAULT_CONNECT_API_REQUESTS_PER_SECOND;
+
+        if (connectApiRequestsPerSecondEnvVar != null) {
+            try {
+                connectApiRequestsPerSecond = Integer.parseInt(connectApiRequestsPerSecondEnvVar);
+            } catch (NumberFormatException e) {
+                connectApiRequestsPerSecond = -1;
+            }
+
+            if (connectApiRequestsPerSecond < 0) {
+                throw new InvalidConfigurationException(connectApiRequestsPerSecondEnvVar
+                        + " is not a valid " + STRIMZI_CONNECT_API_REQUESTS_PER_SECOND + " value. " +
+                        STRIMZI_CONNECT_API_REQUESTS_PER_SECOND + " has to be zero or a positive integer.");
+            }
+        }
+
+        return connectApiRequestsPerSecond;
+    }
+
     private static ImagePullPolicy parseImagePullPolicy(String imagePullPolicyEnvVar) {
         ImagePullPolicy imagePullPolicy = null;
 
@@ -425,6 +627,83 @@ public class ClusterOperatorConfig {
         return rbacScope;
     }
 
+    /**
+     * @return Indicates whether GETs and LISTs of the operands should be served from the watch-backed resource caches
+     */
+    public boolean isResourceCacheEnabled() {
+        return resourceCacheEnabled;
+    }
+
+    /**
+     * @return Maximal number of custom resources of one kind which are reconciled at the same time
+     */
+    public int getMaxConcurrentReconciliations() {
+        return maxConcurrentReconciliations;
+    }
+
+    /**
+     * @return Maximal number of Kafka brokers which can be restarted at the same time during a rolling update
+     */
+    public int getMaxConcurrentBrokerRestarts() {
+        return maxConcurrentBrokerRestarts;
+    }
+
+    /**
+     * @return Maximal number of connections of the operator to the REST API of each Kafka Connect and Cruise Control instance
+     */
+    public int getHttpClientPoolSize() {
+        return httpClientPoolSize;
+    }
+
+    /**
+     * @return Indicates whether several requests are sent over a connection to Kafka Connect and Cruise Control without waiting for the responses
+     */
+    public boolean isHttpClientPipelining() {
+        return httpClientPipelining;
+    }
+
+    /**
+     * @return Timeout of the requests to the REST APIs of Kafka Connect and Cruise Control in milliseconds
+     */
+    public long getHttpClientTimeoutMs() {
+        return httpClientTimeoutMs;
+    }
+
+    /**
+     * @return Maximal number of connectors of one Kafka Connect cluster which are reconciled at the same time
+     */
+    public int getMaxConcurrentConnectorReconciliations() {
+        return maxConcurrentConnectorReconciliations;
+    }
+
+    /**
+     * @return Maximal number of requests per second sent to the REST API of each Kafka Connect instance, or 0 for no limit
+     */
+    public int getConnectApiRequestsPerSecond() {
+        return connectApiRequestsPerSecond;
+    }
+
+    /**
+     * @return Indicates whether the read-only requests are sent to the Kafka Connect worker pods instead of the Kafka Connect service
+     */
+    public boolean isConnectApiReadsFromWorkers() {
+        return connectApiReadsFromWorkers;
+    }
+
+    /**
+     * @return Interval in milliseconds after which the configuration of an unchanged connector is verified against Kafka Connect again
+     */
+    public long getConnectorVerificationIntervalMs() {
+        return connectorVerificationIntervalMs;
+    }
+
+    /**
+     * @return Indicates whether the keys and certificates should be generated with the openssl command instead of in Java
+     */
+    public boolean isOpenSslCertManagerEnabled() {
+        return openSslCertManagerEnabled;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -439,6 +718,17 @@ public class ClusterOperatorConfig {
                 ",operatorNamespace=" + operatorNamespace +
                 ",operatorNamespaceLabels=" + operatorNamespaceLabels +
                 ",rbacScope=" + rbacScope +
+                ",resourceCacheEnabled=" + resourceCacheEnabled +
+                ",maxConcurrentReconciliations=" + maxConcurrentReconciliations +
+                ",maxConcurrentBrokerRestarts=" + maxConcurrentBrokerRestarts +
+                ",httpClientPoolSize=" + httpClientPoolSize +
+                ",httpClientPipelining=" + httpClientPipelining +
+                ",httpClientTimeoutMs=" + httpClientTimeoutMs +
+                ",maxConcurrentConnectorReconciliations=" + maxConcurrentConnectorReconciliations +
+                ",connectApiRequestsPerSecond=" + connectApiRequestsPerSecond +
+                ",connectApiReadsFromWorkers=" + connectApiReadsFromWorkers +
+                ",connectorVerificationIntervalMs=" + connectorVerificationIntervalMs +
+                ",openSslCertManagerEnabled=" + openSslCertManagerEnabled +
                 ")";
     }
 }
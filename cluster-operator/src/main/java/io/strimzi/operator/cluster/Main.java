@@ -9,6 +9,8 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.JavaCertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
@@ -102,7 +104,7 @@ public class Main {
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.getOperationTimeoutMs());
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        CertManager certManager = config.isOpenSslCertManagerEnabled() ? new OpenSslCertManager() : new JavaCertManager();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -131,12 +133,24 @@ public class Main {
                 new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
 
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
-                new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier);
+                new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
+
+            if (config.isResourceCacheEnabled()) {
+                resourceOperatorSupplier.enableCaches(namespace).onComplete(res -> {
+                    if (res.succeeded()) {
+                        log.info("Resource caches for namespace {} are synced", namespace);
+                    } else {
+                        // The operator still works without the caches, just with more requests to the API server
+                        log.warn("Failed to sync the resource caches for namespace {}", namespace, res.cause());
+                    }
+                });
+            }
+
             ClusterOperator operator = new ClusterOperator(namespace,
                     config.getReconciliationIntervalMs(),
                     client,
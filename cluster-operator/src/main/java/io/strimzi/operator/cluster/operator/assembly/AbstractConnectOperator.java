@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tag;
@@ -47,6 +48,7 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.KafkaConnectCluster;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.operator.resource.OperandHttpClients;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
@@ -61,11 +63,13 @@ import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.PodDisruptionBudgetOperator;
+import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -74,6 +78,7 @@ import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.net.ConnectException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -84,9 +89,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -116,6 +126,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final PlatformFeaturesAvailability pfa;
     protected final ServiceAccountOperator serviceAccountOperations;
     private final int port;
+    private final PodOperator podOperations;
+    private final int maxConcurrentConnectorReconciliations;
+    private final boolean connectApiReadsFromWorkers;
+    private final AtomicInteger readHostIndex = new AtomicInteger();
+    private final long connectorVerificationIntervalMs;
+
+    /**
+     * The time (in terms of {@link System#nanoTime()}) when the configuration of each connector was last verified
+     * against the Connect REST API, by the namespace and name of the Connect cluster and the name of the connector. The
+     * connectors which were not verified since the operator started are verified in their first reconciliation. The
+     * entries are removed when the connector or its Connect cluster is deleted.
+     */
+    private final Map<String, Long> connectorVerifiedNanos = new ConcurrentHashMap<>();
+
+    /**
+     * Number of attempts to create, update or delete a connector when the request to the Connect REST API fails with
+     * a transient error (a timeout, a refused connection or a rebalance in progress).
+     */
+    private static final int CONNECTOR_RECONCILIATION_ATTEMPTS = 3;
+    private static final long CONNECTOR_RECONCILIATION_RETRY_DELAY_MS = 1_000L;
 
     private final Counter connectorsReconciliationsCounter;
     private final Counter connectorsFailedReconciliationsCounter;
@@ -123,12 +153,30 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     private final AtomicInteger connectorsResourceCounter;
     private final Timer connectorsReconciliationsTimer;
 
+    /**
+     * Creates the provider of the Kafka Connect REST API client used by default by the operators. It creates one HTTP
+     * client for the operator, so that all the reconciliations reuse the pooled keep-alive connections to the Kafka
+     * Connect clusters instead of opening a new connection for every request.
+     *
+     * @param vertx The Vertx instance
+     * @param config Cluster Operator configuration with the options of the HTTP client
+     *
+     * @return Function providing the shared Kafka Connect REST API client
+     */
+    protected static Function<Vertx, KafkaConnectApi> connectClientProvider(Vertx vertx, ClusterOperatorConfig config) {
+        KafkaConnectApi apiClient = new KafkaConnectApiImpl(vertx,
+                vertx.createHttpClient(OperandHttpClients.options("kafka-connect", config).setLogActivity(KafkaConnectApiImpl.HTTP_CLIENT_ACTIVITY_LOGGING)),
+                config.getHttpClientTimeoutMs(),
+                config.getConnectApiRequestsPerSecond());
+        return connect -> apiClient;
+    }
+
     public AbstractConnectOperator(Vertx vertx, PlatformFeaturesAvailability pfa, String kind,
                                    CrdOperator<C, T, L> resourceOperator,
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider);
+        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getMaxConcurrentReconciliations());
         this.connectorOperator = supplier.kafkaConnectorOperator;
         this.connectClientProvider = connectClientProvider;
         this.configMapOperations = supplier.configMapOperations;
@@ -144,6 +192,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.pfa = pfa;
         this.port = port;
+        this.podOperations = supplier.podOperations;
+        this.maxConcurrentConnectorReconciliations = config.getMaxConcurrentConnectorReconciliations();
+        this.connectApiReadsFromWorkers = config.isConnectApiReadsFromWorkers();
+        this.connectorVerificationIntervalMs = config.getConnectorVerificationIntervalMs();
 
         // Setup metrics for connectors
         Tags metricTags = Tags.of(Tag.of("kind", KafkaConnector.RESOURCE_KIND));
@@ -171,6 +223,9 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        String connectKeyPrefix = connectorKey(reconciliation, "");
+        connectorVerifiedNanos.keySet().removeIf(key -> key.startsWith(connectKeyPrefix));
+
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
         return connectorOperator.listAsync(reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name())).compose(connectors -> {
             List<Future> connectorFutures = new ArrayList<>();
@@ -248,7 +303,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                         () -> connectOperator.reconcileConnectorAndHandleResult(reconciliation,
                                                                     KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
                                                                     isUseResources(connect),
-                                                                    kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
+                                                                    kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector,
+                                                                    null, connect.getMetadata().getGeneration())
                                                                     .compose(reconcileResult -> {
                                                                         log.info("{}: reconciled", reconciliation);
                                                                         return Future.succeededFuture(reconcileResult);
@@ -271,7 +327,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                         () -> connectS2IOperator.reconcileConnectorAndHandleResult(reconciliation,
                                                                     KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
                                                                     isUseResources(connectS2i),
-                                                                    kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
+                                                                    kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector,
+                                                                    null, connectS2i.getMetadata().getGeneration())
                                                                     .compose(reconcileResult -> {
                                                                         log.info("{}: reconciled", reconciliation);
                                                                         return Future.succeededFuture(reconcileResult);
@@ -346,6 +403,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         String connectName = connect.getMetadata().getName();
         String namespace = connect.getMetadata().getNamespace();
         String host = KafkaConnectResources.qualifiedServiceName(connectName, namespace);
+        Long connectGeneration = connect.getMetadata().getGeneration();
 
         if (!isUseResources(connect))    {
             return Future.succeededFuture();
@@ -363,12 +421,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                readHost(namespace, connectName, host).compose(readHost -> apiClient.listExpanded(host, readHost, port)),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(host, port),
                 apiClient.updateConnectLoggers(host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            ConnectorsSnapshot runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -379,18 +437,19 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 connectorsResourceCounter.set(desiredConnectors.size());
             }
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.getNames());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             log.debug("{}: {} cluster: delete connectors: {}", reconciliation, kind(), deleteConnectorNames);
-            Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+            Stream<Supplier<Future<Void>>> deletions = deleteConnectorNames.stream().map(connectorName ->
+                () -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, runningConnectors, connectGeneration)
             );
 
             log.debug("{}: {} cluster: required connectors: {}", reconciliation, kind(), desiredConnectors);
-            Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+            Stream<Supplier<Future<Void>>> createUpdates = desiredConnectors.stream().map(connector ->
+                () -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, runningConnectors, connectGeneration)
+            );
 
-            return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
+            return joinWithBoundedConcurrency(Stream.concat(deletions, createUpdates).collect(Collectors.toList()), maxConcurrentConnectorReconciliations);
         }).recover(error -> {
             if (error instanceof ConnectTimeoutException) {
                 Promise<Void> connectorStatuses = Promise.promise();
@@ -410,18 +469,196 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         });
     }
 
+    /**
+     * Runs the given operations with at most {@code maxConcurrency} of them in progress at the same time, so that a
+     * Connect cluster with many connectors is not flooded with requests. Like {@link CompositeFuture#join(List)}, it
+     * waits for all the operations to complete, even when some of them fail.
+     *
+     * @param operations The operations to run
+     * @param maxConcurrency The maximal number of operations in progress at the same time
+     * @return A future which completes when all the operations completed, failed with the first failure if any of them failed.
+     */
+    /*test*/ static Future<Void> joinWithBoundedConcurrency(List<Supplier<Future<Void>>> operations, int maxConcurrency) {
+        if (operations.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        return new BoundedJoin(operations, maxConcurrency).start();
+    }
+
+    /**
+     * State of {@link #joinWithBoundedConcurrency(List, int)}. The next operation is started from the completion handler
+     * of the previous one. All the handlers run on the same Vert.x context, so no synchronization is needed. The
+     * operations which complete immediately are started in a loop instead of recursively, so that the stack does not
+     * grow with the number of the operations.
+     */
+    private static class BoundedJoin {
+        private final List<Supplier<Future<Void>>> operations;
+        private final Promise<Void> promise = Promise.promise();
+        private int freeLanes;
+        private int nextOperation = 0;
+        private int completedOperations = 0;
+        private boolean starting = false;
+        private Throwable failure;
+
+        BoundedJoin(List<Supplier<Future<Void>>> operations, int maxConcurrency) {
+            this.operations = operations;
+            this.freeLanes = Math.min(maxConcurrency, operations.size());
+        }
+
+        Future<Void> start() {
+            startOperations();
+            return promise.future();
+        }
+
+        private void startOperations() {
+            if (starting) {
+                // The loop further up in the stack starts the operation in the freed lane
+                return;
+            }
+
+            starting = true;
+            while (freeLanes > 0 && nextOperation < operations.size()) {
+                freeLanes--;
+                operations.get(nextOperation++).get().onComplete(this::operationCompleted);
+            }
+            starting = false;
+        }
+
+        private void operationCompleted(AsyncResult<Void> result) {
+            if (result.failed() && failure == null) {
+                failure = result.cause();
+            }
+
+            completedOperations++;
+            freeLanes++;
+
+            if (completedOperations == operations.size()) {
+                if (failure != null) {
+                    promise.fail(failure);
+                } else {
+                    promise.complete();
+                }
+            } else {
+                startOperations();
+            }
+        }
+    }
+
+    /**
+     * Gets the host for the read-only requests to the Connect REST API. By default, it is the Connect service. When
+     * reading from the workers is enabled, the requests are spread round-robin across the ready Connect pods, and the
+     * service is used only when no ready pod is found. Connect workers forward the writes to the leader, so the writes
+     * always go through the service.
+     *
+     * @param namespace The namespace of the Connect cluster
+     * @param connectName The name of the Connect cluster
+     * @param serviceHost The host name of the Connect service
+     * @return A future with the host for the read-only requests
+     */
+    protected Future<String> readHost(String namespace, String connectName, String serviceHost) {
+        if (!connectApiReadsFromWorkers) {
+            return Future.succeededFuture(serviceHost);
+        }
+
+        return podOperations.listAsync(namespace, Labels.forStrimziCluster(connectName).withStrimziKind(kind()))
+                .map(pods -> {
+                    List<String> podIps = pods.stream()
+                            .filter(pod -> pod.getStatus() != null && pod.getStatus().getPodIP() != null && Readiness.isReady(pod))
+                            .map(pod -> pod.getStatus().getPodIP())
+                            .sorted()
+                            .collect(Collectors.toList());
+
+                    return podIps.isEmpty() ? serviceHost : podIps.get(Math.floorMod(readHostIndex.getAndIncrement(), podIps.size()));
+                })
+                .otherwise(error -> {
+                    log.warn("Failed to list the pods of {} {} in namespace {} => reading from the service", kind(), connectName, namespace, error);
+                    return serviceHost;
+                });
+    }
+
+    /**
+     * Runs the given request to the REST API of the connector and retries it, with an exponential delay and jitter,
+     * when it fails with a transient error. The jitter avoids that the connectors which failed at the same time are all
+     * retried at the same time again. A request which timed out might have been applied anyway, so only the idempotent
+     * requests, such as reading or setting the config or the status of the connector, can be retried. The requests
+     * which already retry with their own {@link BackOff} are not wrapped again.
+     *
+     * @param reconciliation The reconciliation
+     * @param connectorName The name of the connector
+     * @param request The idempotent request
+     * @param <X> The type of the result of the request
+     * @return A future with the result of the first successful attempt, or the failure of the last attempt
+     */
+    protected <X> Future<X> withRetries(Reconciliation reconciliation, String connectorName, Supplier<Future<X>> request) {
+        return withRetries(reconciliation, connectorName, request, 1);
+    }
+
+    private <X> Future<X> withRetries(Reconciliation reconciliation, String connectorName, Supplier<Future<X>> request, int attempt) {
+        return request.get().recover(error -> {
+            if (attempt >= CONNECTOR_RECONCILIATION_ATTEMPTS || !isRetriable(error)) {
+                return Future.failedFuture(error);
+            }
+
+            long delayMs = retryDelayMs(attempt);
+            log.warn("{}: Request for connector {} failed with {} => retrying in {}ms", reconciliation, connectorName, error.toString(), delayMs);
+
+            Promise<X> retry = Promise.promise();
+            vertx.setTimer(delayMs, ignored -> withRetries(reconciliation, connectorName, request, attempt + 1).onComplete(retry));
+            return retry.future();
+        });
+    }
+
+    /**
+     * Deleting a connector is not idempotent. When an attempt times out after the connector was deleted, the retried
+     * attempt gets 404 from the REST API. The connector does not exist in both cases, so the 404 counts as success.
+     *
+     * @param deletion The future of the deletion
+     * @return A future which succeeds when the connector was deleted or did not exist
+     */
+    /*test*/ static Future<Void> deletedOrNotFound(Future<Void> deletion) {
+        return deletion.recover(error -> {
+            if (error instanceof ConnectRestException && ((ConnectRestException) error).getStatusCode() == 404) {
+                return Future.succeededFuture();
+            } else {
+                return Future.failedFuture(error);
+            }
+        });
+    }
+
+    /*test*/ static long retryDelayMs(int attempt) {
+        long delayMs = CONNECTOR_RECONCILIATION_RETRY_DELAY_MS << (attempt - 1);
+        return Math.max(1, (long) (delayMs * (0.5 + ThreadLocalRandom.current().nextDouble())));
+    }
+
+    /*test*/ static boolean isRetriable(Throwable error) {
+        return error instanceof ConnectException
+                || error instanceof TimeoutException
+                || (error instanceof ConnectRestException && ((ConnectRestException) error).getStatusCode() == 409);
+    }
+
+    protected int maxConcurrentConnectorReconciliations() {
+        return maxConcurrentConnectorReconciliations;
+    }
+
     protected KafkaConnectApi getKafkaConnectApi() {
         return connectClientProvider.apply(vertx);
     }
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             ConnectorsSnapshot runningConnectors, Long connectGeneration) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter.increment();
         Timer.Sample connectorsReconciliationsTimerSample = Timer.start(metrics.meterRegistry());
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, runningConnectors, connectGeneration)
                 .onComplete(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer);
 
@@ -438,11 +675,14 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             ConnectorsSnapshot runningConnectors, Long connectGeneration) {
         if (connector == null) {
+            connectorVerifiedNanos.remove(connectorKey(reconciliation, connectorName));
+
             if (useResources) {
                 log.info("{}: deleting connector: {}", reconciliation, connectorName);
-                return apiClient.delete(host, port, connectorName);
+                return withRetries(reconciliation, connectorName, () -> deletedOrNotFound(apiClient.delete(host, port, connectorName)));
             } else {
                 return Future.succeededFuture();
             }
@@ -457,10 +697,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector)
+                String configHash = configHash(connectorName, connector.getSpec(), connectGeneration);
+                maybeVerifyConnector(reconciliation, host, apiClient, connectorName, connector, configHash, runningConnectors)
                         .onComplete(result -> {
                             if (result.succeeded()) {
-                                maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
+                                maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null, configHash)
                                     .onComplete(promise);
                             } else {
                                 maybeUpdateConnectorStatus(reconciliation, connector, result.result(), result.cause())
@@ -472,6 +713,90 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         }
     }
 
+    /**
+     * Skips the verification of the connector config when the connector exists and neither the connector nor the
+     * Connect cluster changed since the config was last applied, as recorded by the config hash in the status of the
+     * {@code KafkaConnector}. Only the status of the connector is then used, taken from the snapshot when it has it.
+     * The config of each connector is still verified in full once per verification interval, so that changes made
+     * directly through the Connect REST API are reverted.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connector The KafkaConnector resource.
+     * @param configHash The hash of the desired connector config and the Connect cluster generation.
+     * @param runningConnectors The snapshot of the running connectors or null.
+     * @return A Future with the current connector state plus any conditions that have arisen.
+     */
+    private Future<ConnectorStatusAndConditions> maybeVerifyConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                       String connectorName, KafkaConnector connector, String configHash,
+                                                                       ConnectorsSnapshot runningConnectors) {
+        String key = connectorKey(reconciliation, connectorName);
+
+        if (runningConnectors != null
+                && runningConnectors.contains(connectorName)
+                && isUnchanged(connector, configHash)
+                && !isVerificationDue(key)) {
+            Map<String, Object> snapshotStatus = runningConnectors.getStatus(connectorName);
+            Future<Map<String, Object>> currentStatus = snapshotStatus != null ? Future.succeededFuture(snapshotStatus) : withRetries(reconciliation, connectorName, () -> apiClient.status(host, port, connectorName));
+
+            return currentStatus.compose(status -> {
+                if (needsPauseOrResume(connector.getSpec(), status)) {
+                    return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, runningConnectors);
+                } else {
+                    log.debug("{}: Connector {} did not change since its config was applied => skipping the verification of its config", reconciliation, connectorName);
+                    return Future.succeededFuture(new ConnectorStatusAndConditions(status));
+                }
+            });
+        }
+
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, runningConnectors)
+                .map(result -> {
+                    connectorVerifiedNanos.put(key, System.nanoTime());
+                    return result;
+                });
+    }
+
+    /**
+     * @return Whether the config hash and observed generation in the status of the connector show that neither the
+     * connector nor the Connect cluster changed since the config was last applied, and no restart was requested.
+     */
+    private boolean isUnchanged(KafkaConnector connector, String configHash) {
+        KafkaConnectorStatus status = connector.getStatus();
+
+        return status != null
+                && configHash.equals(status.getConfigHash())
+                && connector.getMetadata().getGeneration() != null
+                && connector.getMetadata().getGeneration() == status.getObservedGeneration()
+                && !hasRestartAnnotation(connector, connector.getMetadata().getName())
+                && getRestartTaskAnnotationTaskID(connector, connector.getMetadata().getName()) < 0;
+    }
+
+    /*test*/ boolean isConnectorVerificationTracked(Reconciliation reconciliation, String connectorName) {
+        return connectorVerifiedNanos.containsKey(connectorKey(reconciliation, connectorName));
+    }
+
+    private boolean isVerificationDue(String key) {
+        Long verifiedNanos = connectorVerifiedNanos.get(key);
+
+        return verifiedNanos == null
+                || System.nanoTime() - verifiedNanos >= TimeUnit.MILLISECONDS.toNanos(connectorVerificationIntervalMs);
+    }
+
+    private static String connectorKey(Reconciliation reconciliation, String connectorName) {
+        return reconciliation.namespace() + "/" + reconciliation.name() + "/" + connectorName;
+    }
+
+    /**
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param connectGeneration The generation of the Connect cluster or null if it is not known.
+     * @return The hash of the desired connector config and of the generation of the Connect cluster.
+     */
+    /*test*/ static String configHash(String connectorName, KafkaConnectorSpec connectorSpec, Long connectGeneration) {
+        return Util.stringHash(new TreeMap<>(desiredConfig(connectorName, connectorSpec)) + "@" + connectGeneration);
+    }
+
     /**
      * Try to get the current connector config. If the connector does not exist, or its config differs from the 
      * {@code connectorSpec}'s, then call
@@ -487,23 +812,43 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                        String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Like {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but takes the current config and status of the connector from the snapshot of the running connectors when it
+     * has them. The REST API is then called only when the connector has to be changed. Without the snapshot, or when
+     * the snapshot is not expanded because Kafka Connect does not support it, the config and status are requested
+     * for the connector.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param runningConnectors The snapshot of the running connectors or null.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                       String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                       ConnectorsSnapshot runningConnectors) {
+        if (runningConnectors != null && runningConnectors.isExpanded()) {
+            if (!runningConnectors.contains(connectorName)) {
+                log.debug("{}: Connector {} does not exist", reconciliation, connectorName);
+                return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+                    .compose(createConnectorStatusAndConditions());
+            }
+
+            Map<String, String> config = runningConnectors.getConfig(connectorName);
+            Map<String, Object> status = runningConnectors.getStatus(connectorName);
+            if (config != null && status != null) {
+                return maybeUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, config, status);
+            }
+        }
+
         return apiClient.getConnectorConfig(new BackOff(200L, 2, 6), host, port, connectorName).compose(
-            config -> {
-                if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
-                    log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
-                    return apiClient.status(host, port, connectorName)
-                        .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)));
-                } else {
-                    log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
-                        .compose(createConnectorStatusAndConditions());
-                }
-            },
+            config -> maybeUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, config, null),
             error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
@@ -516,9 +861,52 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             });
     }
 
+    /**
+     * Updates the existing connector when its config differs from the {@code connectorSpec}'s, pauses, resumes or
+     * restarts it when needed and returns its current state.
+     * @param config The current config of the connector.
+     * @param status The current status of the connector or null when it has to be requested.
+     */
+    private Future<ConnectorStatusAndConditions> maybeUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                       String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                       Map<String, String> config, Map<String, Object> status) {
+        if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
+            log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+            if (status != null
+                    && !needsPauseOrResume(connectorSpec, status)
+                    && !hasRestartAnnotation(resource, connectorName)
+                    && getRestartTaskAnnotationTaskID(resource, connectorName) < 0) {
+                log.debug("{}: Connector {} does not need any change", reconciliation, connectorName);
+                return Future.succeededFuture(new ConnectorStatusAndConditions(status));
+            }
+
+            Future<Map<String, Object>> currentStatus = status != null ? Future.succeededFuture(status) : withRetries(reconciliation, connectorName, () -> apiClient.status(host, port, connectorName));
+            return currentStatus
+                .compose(s -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, s))
+                .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
+                .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                .compose(conditions ->
+                    apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port, connectorName)
+                        .compose(createConnectorStatusAndConditions(conditions)));
+        } else {
+            log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec)
+                .compose(createConnectorStatusAndConditions());
+        }
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> actual) {
+        Map<String, String> desired = desiredConfig(connectorName, connectorSpec);
+        if (log.isDebugEnabled()) {
+            log.debug("{}: Desired: {}", reconciliation, new TreeMap<>(desired));
+            log.debug("{}: Actual:  {}", reconciliation, new TreeMap<>(actual));
+        }
+        return !desired.equals(actual);
+    }
+
+    private static Map<String, String> desiredConfig(String connectorName, KafkaConnectorSpec connectorSpec) {
         Map<String, String> desired = new HashMap<>(connectorSpec.getConfig().size());
         // The actual which comes from Connect API includes tasks.max, connector.class and name,
         // which connectorSpec.getConfig() does not
@@ -530,20 +918,23 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         for (Map.Entry<String, Object> entry : connectorSpec.getConfig().entrySet()) {
             desired.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
         }
-        if (log.isDebugEnabled()) {
-            log.debug("{}: Desired: {}", reconciliation, new TreeMap<>(desired));
-            log.debug("{}: Actual:  {}", reconciliation, new TreeMap<>(actual));
-        }
-        return !desired.equals(actual);
+        return desired;
     }
 
     protected Future<Map<String, Object>> createOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                   String connectorName, KafkaConnectorSpec connectorSpec) {
-        return apiClient.createOrUpdatePutRequest(host, port, connectorName, asJson(connectorSpec))
-            .compose(ignored -> apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port,
-                    connectorName))
+        return withRetries(reconciliation, connectorName, () -> apiClient.createOrUpdatePutRequest(host, port, connectorName, asJson(connectorSpec)))
+            .compose(ignored -> apiClient.statusWithBackOff(new BackOff(200L, 2, 10), host, port, connectorName))
             .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-            .compose(ignored ->  apiClient.status(host, port, connectorName));
+            .compose(ignored -> withRetries(reconciliation, connectorName, () -> apiClient.status(host, port, connectorName)));
+    }
+
+    private static boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+        return !(state instanceof String)
+                || "RUNNING".equals(state) && shouldPause
+                || "PAUSED".equals(state) && !shouldPause;
     }
 
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
@@ -700,6 +1091,14 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     Future<Void> maybeUpdateConnectorStatus(Reconciliation reconciliation, KafkaConnector connector, ConnectorStatusAndConditions connectorStatus, Throwable error) {
+        return maybeUpdateConnectorStatus(reconciliation, connector, connectorStatus, error, null);
+    }
+
+    /**
+     * Like {@link #maybeUpdateConnectorStatus(Reconciliation, KafkaConnector, ConnectorStatusAndConditions, Throwable)},
+     * but records the hash of the applied config in the status when the reconciliation succeeded.
+     */
+    private Future<Void> maybeUpdateConnectorStatus(Reconciliation reconciliation, KafkaConnector connector, ConnectorStatusAndConditions connectorStatus, Throwable error, String configHash) {
         KafkaConnectorStatus status = new KafkaConnectorStatus();
         if (error != null) {
             log.warn("{}: Error reconciling connector {}", reconciliation, connector.getMetadata().getName(), error);
@@ -720,6 +1119,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         status.setConnectorStatus(statusResult);
 
         status.setTasksMax(getActualTaskCount(connector, statusResult));
+        status.setConfigHash(error == null ? configHash : null);
         status.addConditions(conditions);
 
         return maybeUpdateStatusCommon(connectorOperator, connector, reconciliation, status,
@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The connectors running in a Kafka Connect cluster together with their configurations and statuses, as returned by a
+ * single {@code GET /connectors?expand=info&expand=status} request. Kafka Connect versions older than 2.3 do not
+ * support the {@code expand} parameter and return only the names of the connectors. Such snapshot is not expanded and
+ * the configurations and statuses of the connectors have to be requested one connector at a time.
+ */
+public class ConnectorsSnapshot {
+    private final Set<String> names;
+    private final Map<String, Map<String, String>> configs;
+    private final Map<String, Map<String, Object>> statuses;
+
+    private ConnectorsSnapshot(List<String> names, Map<String, Map<String, String>> configs, Map<String, Map<String, Object>> statuses) {
+        this.names = new LinkedHashSet<>(names);
+        this.configs = configs;
+        this.statuses = statuses;
+    }
+
+    /**
+     * @param names The names of the connectors
+     *
+     * @return Snapshot with only the names of the connectors
+     */
+    public static ConnectorsSnapshot ofNames(List<String> names) {
+        return new ConnectorsSnapshot(names, null, null);
+    }
+
+    /**
+     * @param names The names of the connectors
+     * @param configs The configurations of the connectors by their names
+     * @param statuses The statuses of the connectors by their names
+     *
+     * @return Snapshot with the configurations and statuses of the connectors
+     */
+    public static ConnectorsSnapshot expanded(List<String> names, Map<String, Map<String, String>> configs, Map<String, Map<String, Object>> statuses) {
+        return new ConnectorsSnapshot(names, configs, statuses);
+    }
+
+    /**
+     * @return A new modifiable list with the names of the connectors
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * @return Whether the snapshot contains the configurations and statuses of the connectors
+     */
+    public boolean isExpanded() {
+        return configs != null && statuses != null;
+    }
+
+    /**
+     * @param connectorName The name of the connector
+     *
+     * @return Whether the connector exists
+     */
+    public boolean contains(String connectorName) {
+        return names.contains(connectorName);
+    }
+
+    /**
+     * @param connectorName The name of the connector
+     *
+     * @return The configuration of the connector, in the same format as returned by
+     * {@code GET /connectors/${connectorName}/config}, or null if it is not part of the snapshot
+     */
+    public Map<String, String> getConfig(String connectorName) {
+        return configs != null ? configs.get(connectorName) : null;
+    }
+
+    /**
+     * @param connectorName The name of the connector
+     *
+     * @return The status of the connector, in the same format as returned by
+     * {@code GET /connectors/${connectorName}/status}, or null if it is not part of the snapshot
+     */
+    public Map<String, Object> getStatus(String connectorName) {
+        return statuses != null ? statuses.get(connectorName) : null;
+    }
+}
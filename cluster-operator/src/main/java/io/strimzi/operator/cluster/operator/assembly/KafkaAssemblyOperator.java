@@ -23,6 +23,9 @@ import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -158,6 +161,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private static final Logger log = LogManager.getLogger(KafkaAssemblyOperator.class.getName());
 
     private final long operationTimeoutMs;
+    private final int maxConcurrentBrokerRestarts;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
 
@@ -178,6 +182,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
 
+    private final Timer kafkaRollingRestartsTimer;
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -193,6 +199,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxConcurrentBrokerRestarts = config.getMaxConcurrentBrokerRestarts();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.rbacScope = config.getRbacScope();
@@ -210,6 +217,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
+
+        this.kafkaRollingRestartsTimer = metrics.timer(METRICS_PREFIX + "kafka.rolling.restarts.duration",
+                "The time the rolling restarts of the Kafka brokers take to complete",
+                Tags.of(Tag.of("kind", kind())));
     }
 
     @Override
@@ -264,17 +275,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(state -> state.getZookeeperDescription())
                 .compose(state -> state.zkModelWarnings())
                 .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
+                .compose(this::reconcileZkNetworking)
                 .compose(state -> state.zkManualRollingUpdate())
                 .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
                 .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
+                .compose(this::reconcileZkConfiguration)
                 .compose(state -> state.zkStatefulSet())
                 .compose(state -> state.zkScalingDown())
                 .compose(state -> state.zkRollingUpdate())
@@ -288,26 +293,17 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(state -> state.checkKafkaSpec())
                 .compose(state -> state.kafkaModelWarnings())
                 .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
+                .compose(this::reconcileKafkaAccess)
                 .compose(state -> state.kafkaManualRollingUpdate())
                 .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
                 .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
+                .compose(this::reconcileKafkaServices)
                 .compose(state -> state.kafkaInternalServicesReady())
                 .compose(state -> state.kafkaLoadBalancerServicesReady())
                 .compose(state -> state.kafkaNodePortServicesReady())
                 .compose(state -> state.kafkaRoutesReady())
                 .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
+                .compose(this::reconcileKafkaConfiguration)
                 .compose(state -> state.kafkaStatefulSet())
                 .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
                 .compose(state -> state.kafkaRollingUpdate())
@@ -323,7 +319,108 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
                 .compose(state -> state.checkUnsupportedTopicOperator())
 
-                .compose(state -> state.getEntityOperatorDescription())
+                // The entity operator, Cruise Control, Kafka Exporter and JmxTrans only depend on the Kafka cluster
+                // being ready and not on each other, so they are reconciled concurrently
+                .compose(state -> CompositeFuture.join(
+                        reconcileEntityOperator(state),
+                        reconcileCruiseControl(state),
+                        reconcileKafkaExporter(state),
+                        reconcileJmxTrans(state)))
+
+                .map((Void) null)
+                .onComplete(chainPromise);
+
+        return chainPromise.future();
+    }
+
+    /**
+     * Runs reconciliation steps which do not depend on each other concurrently. The returned future completes once all
+     * the steps completed, so the next step of the chain never overlaps with any of them. It fails with the first
+     * failure of the steps.
+     *
+     * @param reconcileState    Reconciliation state passed to all the steps
+     * @param steps             The steps which should be run
+     *
+     * @return  Future which completes when all the steps completed
+     */
+    @SafeVarargs
+    static Future<ReconciliationState> concurrently(ReconciliationState reconcileState, Function<ReconciliationState, Future<ReconciliationState>>... steps)  {
+        List<Future> futures = new ArrayList<>(steps.length);
+
+        for (Function<ReconciliationState, Future<ReconciliationState>> step : steps)   {
+            try {
+                futures.add(step.apply(reconcileState));
+            } catch (Throwable t) {
+                futures.add(Future.failedFuture(t));
+            }
+        }
+
+        return CompositeFuture.join(futures).map(reconcileState);
+    }
+
+    /**
+     * The network policy, service account and services of the ZooKeeper cluster do not depend on each other. They are
+     * reconciled before any ZooKeeper pod is rolled.
+     */
+    Future<ReconciliationState> reconcileZkNetworking(ReconciliationState reconcileState)  {
+        return concurrently(reconcileState,
+            state -> state.zkNetPolicy(),
+            state -> state.zookeeperServiceAccount(),
+            state -> state.zkService(),
+            state -> state.zkHeadlessService());
+    }
+
+    /**
+     * Only the nodes Secret needs the certificates generated first. The ConfigMap, Secret and pod disruption budget of
+     * the ZooKeeper cluster are then reconciled concurrently before the StatefulSet which uses them.
+     */
+    Future<ReconciliationState> reconcileZkConfiguration(ReconciliationState reconcileState)  {
+        return reconcileState.zkGenerateCertificates(this::dateSupplier)
+                .compose(state -> concurrently(state,
+                    s -> s.zkAncillaryCm(),
+                    s -> s.zkNodesSecret(),
+                    s -> s.zkPodDisruptionBudget()));
+    }
+
+    /**
+     * The network policy, service account and cluster role binding of the Kafka brokers do not depend on each other.
+     * They are reconciled before any Kafka pod is rolled.
+     */
+    Future<ReconciliationState> reconcileKafkaAccess(ReconciliationState reconcileState)  {
+        return concurrently(reconcileState,
+            state -> state.kafkaNetPolicy(),
+            state -> state.kafkaInitServiceAccount(),
+            state -> state.kafkaInitClusterRoleBinding());
+    }
+
+    /**
+     * The services, routes and ingresses of the Kafka brokers are reconciled concurrently. Their readiness is checked
+     * afterwards one after another, because it determines the order of the listeners in the status.
+     */
+    Future<ReconciliationState> reconcileKafkaServices(ReconciliationState reconcileState)  {
+        return concurrently(reconcileState,
+            state -> state.kafkaServices(),
+            state -> state.kafkaRoutes(),
+            state -> state.kafkaIngresses());
+    }
+
+    /**
+     * The certificates have to be generated and the custom listener certificates validated first. The ConfigMap,
+     * Secrets and pod disruption budget of the Kafka brokers are then reconciled concurrently before the StatefulSet
+     * which uses them.
+     */
+    Future<ReconciliationState> reconcileKafkaConfiguration(ReconciliationState reconcileState)  {
+        return reconcileState.kafkaGenerateCertificates(this::dateSupplier)
+                .compose(state -> state.customListenerCertificates())
+                .compose(state -> concurrently(state,
+                    s -> s.kafkaAncillaryCm(),
+                    s -> s.kafkaBrokersSecret(),
+                    s -> s.kafkaJmxSecret(),
+                    s -> s.kafkaPodDisruptionBudget()));
+    }
+
+    Future<ReconciliationState> reconcileEntityOperator(ReconciliationState reconcileState)  {
+        return reconcileState.getEntityOperatorDescription()
                 .compose(state -> state.entityOperatorRole())
                 .compose(state -> state.entityTopicOperatorRole())
                 .compose(state -> state.entityUserOperatorRole())
@@ -334,33 +431,34 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 .compose(state -> state.entityOperatorUserOpAncillaryCm())
                 .compose(state -> state.entityOperatorSecret(this::dateSupplier))
                 .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
+                .compose(state -> state.entityOperatorReady());
+    }
 
-                .compose(state -> state.getCruiseControlDescription())
+    Future<ReconciliationState> reconcileCruiseControl(ReconciliationState reconcileState)  {
+        return reconcileState.getCruiseControlDescription()
                 .compose(state -> state.cruiseControlNetPolicy())
                 .compose(state -> state.cruiseControlServiceAccount())
                 .compose(state -> state.cruiseControlAncillaryCm())
                 .compose(state -> state.cruiseControlSecret(this::dateSupplier))
                 .compose(state -> state.cruiseControlDeployment())
                 .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
+                .compose(state -> state.cruiseControlReady());
+    }
 
-                .compose(state -> state.getKafkaExporterDescription())
+    Future<ReconciliationState> reconcileKafkaExporter(ReconciliationState reconcileState)  {
+        return reconcileState.getKafkaExporterDescription()
                 .compose(state -> state.kafkaExporterServiceAccount())
                 .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
                 .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
+                .compose(state -> state.kafkaExporterReady());
+    }
 
-                .compose(state -> state.getJmxTransDescription())
+    Future<ReconciliationState> reconcileJmxTrans(ReconciliationState reconcileState)  {
+        return reconcileState.getJmxTransDescription()
                 .compose(state -> state.jmxTransServiceAccount())
                 .compose(state -> state.jmxTransConfigMap())
                 .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .compose(state -> state.jmxTransDeploymentReady());
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -731,10 +829,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 }
                 return zkRollFuture
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
-                        .compose(sts -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
+                        .compose(sts -> timedRollingRestart(new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
-                            .rollingRestart(rollPodAndLogReason))
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true, maxConcurrentBrokerRestarts),
+                            rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(CruiseControl.cruiseControlName(name), reason.toString()))
@@ -1107,10 +1205,29 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          */
         Future<Void> maybeRollKafka(StatefulSet sts, Function<Pod, List<String>> podNeedsRestart, boolean allowReconfiguration) {
             return adminClientSecrets()
-                .compose(compositeFuture -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
+                .compose(compositeFuture -> timedRollingRestart(new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
-                    .rollingRestart(podNeedsRestart));
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration, maxConcurrentBrokerRestarts),
+                    podNeedsRestart));
+        }
+
+        /**
+         * Runs the rolling restart of the Kafka brokers and records its duration when at least one broker was restarted
+         *
+         * @param roller Kafka roller which should be used for the rolling restart
+         * @param podNeedsRestart this function serves as a predicate whether to roll pod or not
+         *
+         * @return succeeded future when the rolling restart is complete
+         */
+        Future<Void> timedRollingRestart(KafkaRoller roller, Function<Pod, List<String>> podNeedsRestart) {
+            Timer.Sample rollingRestartSample = Timer.start(metrics.meterRegistry());
+
+            return roller.rollingRestart(podNeedsRestart)
+                    .onComplete(res -> {
+                        if (roller.restartedPods() > 0) {
+                            rollingRestartSample.stop(kafkaRollingRestartsTimer);
+                        }
+                    });
         }
 
         Future<ReconciliationState> getZookeeperDescription() {
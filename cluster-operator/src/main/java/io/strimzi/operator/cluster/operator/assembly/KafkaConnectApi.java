@@ -119,6 +119,27 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=info&expand=status}, which returns the configurations
+     * and statuses of all the connectors in a single request.
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the snapshot of the connectors. Kafka Connect versions which do not support the {@code expand}
+     * parameter return only the names of the connectors and the snapshot is not expanded.
+     */
+    Future<ConnectorsSnapshot> listExpanded(String host, int port);
+
+    /**
+     * Like {@link #listExpanded(String, int)}, but sends the request to the given worker of the Connect cluster, for
+     * example one of its pods. The request counts against the request rate limit of the whole Connect cluster.
+     * @param serviceHost The host of the Connect service, which identifies the Connect cluster.
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the snapshot of the connectors.
+     */
+    Future<ConnectorsSnapshot> listExpanded(String serviceHost, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param host The host to make the request to.
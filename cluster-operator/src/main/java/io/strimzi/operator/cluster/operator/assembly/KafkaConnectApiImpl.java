@@ -8,6 +8,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.operator.resource.OperandHttpClients;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.OrderedProperties;
@@ -17,7 +18,6 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
@@ -27,11 +27,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -40,6 +42,7 @@ import static java.util.Arrays.asList;
 @SuppressWarnings({"deprecation"})
 class KafkaConnectApiImpl implements KafkaConnectApi {
     private static final Logger log = LogManager.getLogger(KafkaConnectApiImpl.class);
+    static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = true;
     public static final TypeReference<Map<String, Object>> TREE_TYPE = new TypeReference<Map<String, Object>>() {
     };
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<Map<String, String>>() {
@@ -50,9 +53,43 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final long requestTimeoutMs;
+    private final long requestIntervalNanos;
 
+    /**
+     * The earliest time (in terms of {@link System#nanoTime()}) at which the next request can be sent to the REST API
+     * of a Connect cluster, by the host of its service and the port.
+     */
+    private final Map<String, Long> nextRequestNanos = new HashMap<>();
+
+    /**
+     * Creates the Kafka Connect REST API client with its own pool of HTTP connections, the default HTTP client options
+     * and no limit on the request rate
+     *
+     * @param vertx The Vertx instance
+     */
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, vertx.createHttpClient(OperandHttpClients.options("kafka-connect").setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING)),
+                OperandHttpClients.DEFAULT_TIMEOUT_MS, 0);
+    }
+
+    /**
+     * Creates the Kafka Connect REST API client using the given HTTP client. The HTTP client keeps a pool of
+     * keep-alive connections for each Connect cluster, so it should be shared by the reconciliations and never closed
+     * while the operator runs.
+     *
+     * @param vertx The Vertx instance
+     * @param httpClient The shared HTTP client
+     * @param requestTimeoutMs The timeout of the requests in milliseconds
+     * @param requestsPerSecond The maximal number of requests per second sent to each Connect cluster, or 0 for no
+     *                          limit. The requests over the limit are delayed rather than rejected.
+     */
+    public KafkaConnectApiImpl(Vertx vertx, HttpClient httpClient, long requestTimeoutMs, int requestsPerSecond) {
         this.vertx = vertx;
+        this.httpClient = httpClient;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.requestIntervalNanos = requestsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / requestsPerSecond : 0;
     }
 
     @Override
@@ -63,7 +100,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         log.debug("Making PUT request to {} with body {}", path, configJson);
-        return withHttpClient((httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.put(port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -87,6 +124,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             })
             .exceptionHandler(result::tryFail)
             .setFollowRedirects(true)
+            .setTimeout(requestTimeoutMs)
             .putHeader("Accept", "application/json")
             .putHeader("Content-Type", "application/json")
             .putHeader("Content-Length", String.valueOf(data.length()))
@@ -95,25 +133,60 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     /**
-     * Perform the given operation, which completes the promise, using an HTTP client instance,
-     * after which the client is closed and the future for the promise returned.
+     * Perform the given operation, which completes the promise, using the shared HTTP client,
+     * and return the future for the promise. The connection goes back to the pool once the response was read.
+     * When the request rate to the given host and port is limited, the operation is delayed until its turn comes.
+     * @param host The host the operation sends its request to.
+     * @param port The port the operation sends its request to.
      * @param operation The operation to perform.
      * @param <T> The type of the result
      * @return A future which is completed with the result performed by the operation
      */
-    private <T> Future<T> withHttpClient(BiConsumer<HttpClient, Promise<T>> operation) {
-        HttpClient httpClient = vertx.createHttpClient(new HttpClientOptions().setLogActivity(true));
+    private <T> Future<T> withHttpClient(String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
+        return withHttpClient(host, host, port, operation);
+    }
+
+    /**
+     * Like {@link #withHttpClient(String, int, BiConsumer)}, but the request rate is limited for the Connect cluster
+     * with the given service host rather than for the host the request is sent to.
+     * @param serviceHost The host of the Connect service, which identifies the Connect cluster.
+     * @param host The host the operation sends its request to.
+     * @param port The port the operation sends its request to.
+     * @param operation The operation to perform.
+     * @param <T> The type of the result
+     * @return A future which is completed with the result performed by the operation
+     */
+    private <T> Future<T> withHttpClient(String serviceHost, String host, int port, BiConsumer<HttpClient, Promise<T>> operation) {
         Promise<T> promise = Promise.promise();
-        operation.accept(httpClient, promise);
-        return promise.future().compose(
-            result -> {
-                httpClient.close();
-                return Future.succeededFuture(result);
-            },
-            error -> {
-                httpClient.close();
-                return Future.failedFuture(error);
-            });
+        long delayMs = reserveRequest(serviceHost + ":" + port, System.nanoTime());
+        if (delayMs > 0) {
+            vertx.setTimer(delayMs, ignored -> operation.accept(httpClient, promise));
+        } else {
+            operation.accept(httpClient, promise);
+        }
+        return promise.future();
+    }
+
+    /**
+     * Reserves the next free slot for a request to the given endpoint, so that the requests to one Connect cluster
+     * are spread evenly at most at the configured rate.
+     *
+     * @param endpoint The service host and port of the Connect REST API
+     * @param nowNanos The current time in terms of {@link System#nanoTime()}
+     * @return The time in milliseconds for which the request has to be delayed
+     */
+    /*test*/ synchronized long reserveRequest(String endpoint, long nowNanos) {
+        if (requestIntervalNanos == 0) {
+            return 0;
+        }
+
+        // Forget the endpoints which have been idle for a while (e.g. the Connect clusters which were deleted)
+        nextRequestNanos.values().removeIf(next -> next - nowNanos < 0);
+
+        Long next = nextRequestNanos.get(endpoint);
+        long slot = next == null ? nowNanos : next;
+        nextRequestNanos.put(endpoint, slot + requestIntervalNanos);
+        return TimeUnit.NANOSECONDS.toMillis(slot - nowNanos);
     }
 
     @Override
@@ -127,7 +200,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         log.debug("Making GET request to {}", path);
-        return withHttpClient((httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.get(port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (okStatusCodes.contains(response.statusCode())) {
@@ -151,6 +224,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             })
             .exceptionHandler(result::tryFail)
             .setFollowRedirects(true)
+            .setTimeout(requestTimeoutMs)
             .putHeader("Accept", "application/json")
             .end());
     }
@@ -173,7 +247,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
-        return withHttpClient((httpClient, result) ->
+        return withHttpClient(host, port, (httpClient, result) ->
             httpClient.delete(port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (response.statusCode() == 204) {
@@ -197,6 +271,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             })
             .exceptionHandler(result::tryFail)
             .setFollowRedirects(true)
+            .setTimeout(requestTimeoutMs)
             .putHeader("Accept", "application/json")
             .putHeader("Content-Type", "application/json")
             .end());
@@ -283,7 +358,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> pauseResume(String host, int port, String path) {
-        return withHttpClient((httpClient, result) -> httpClient
+        return withHttpClient(host, port, (httpClient, result) -> httpClient
                 .put(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 202) {
@@ -295,6 +370,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 })
                 .exceptionHandler(result::tryFail)
                 .setFollowRedirects(true)
+                .setTimeout(requestTimeoutMs)
                 .putHeader("Accept", "application/json")
                 .end());
     }
@@ -302,7 +378,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
-        return withHttpClient((httpClient, result) -> httpClient
+        return withHttpClient(host, port, (httpClient, result) -> httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
@@ -324,14 +400,83 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 })
                 .exceptionHandler(result::tryFail)
                 .setFollowRedirects(true)
+                .setTimeout(requestTimeoutMs)
                 .putHeader("Accept", "application/json")
                 .end());
     }
 
+    @Override
+    public Future<ConnectorsSnapshot> listExpanded(String host, int port) {
+        return listExpanded(host, host, port);
+    }
+
+    @Override
+    public Future<ConnectorsSnapshot> listExpanded(String serviceHost, String host, int port) {
+        String path = "/connectors?expand=info&expand=status";
+        return withHttpClient(serviceHost, host, port, (httpClient, result) -> httpClient
+                .get(port, host, path, response -> {
+                    response.exceptionHandler(result::tryFail);
+                    if (response.statusCode() == 200) {
+                        response.bodyHandler(buffer -> {
+                            try {
+                                result.complete(parseConnectorsSnapshot(mapper.readValue(buffer.getBytes(), Object.class)));
+                            } catch (IOException | RuntimeException e) {
+                                log.warn("Failed to parse list of connectors", e);
+                                result.fail(new ConnectRestException(response, "Failed to parse list of connectors", e));
+                            }
+                        });
+                    } else {
+                        result.fail(new ConnectRestException(response, "Unexpected status code"));
+                    }
+                })
+                .exceptionHandler(result::tryFail)
+                .setFollowRedirects(true)
+                .setTimeout(requestTimeoutMs)
+                .putHeader("Accept", "application/json")
+                .end());
+    }
+
+    /**
+     * Parses the response of the {@code GET /connectors?expand=info&expand=status} request. Kafka Connect versions
+     * without support for the {@code expand} parameter ignore it and return a list with the names of the connectors.
+     * The newer versions return a map with the {@code info} and {@code status} of each connector.
+     */
+    @SuppressWarnings("unchecked")
+    /*test*/ static ConnectorsSnapshot parseConnectorsSnapshot(Object body) {
+        if (body instanceof List) {
+            List<String> names = new ArrayList<>();
+            for (Object name : (List<Object>) body) {
+                names.add(String.valueOf(name));
+            }
+            return ConnectorsSnapshot.ofNames(names);
+        } else if (body instanceof Map) {
+            Map<String, Object> connectors = (Map<String, Object>) body;
+            List<String> names = new ArrayList<>(connectors.keySet());
+            Map<String, Map<String, String>> configs = new LinkedHashMap<>(connectors.size());
+            Map<String, Map<String, Object>> statuses = new LinkedHashMap<>(connectors.size());
+            for (Map.Entry<String, Object> connector : connectors.entrySet()) {
+                Map<String, Object> expansions = (Map<String, Object>) connector.getValue();
+                Map<String, Object> info = (Map<String, Object>) expansions.get("info");
+                Map<String, Object> status = (Map<String, Object>) expansions.get("status");
+                if (info != null && info.get("config") instanceof Map && status != null) {
+                    Map<String, String> config = new LinkedHashMap<>();
+                    for (Map.Entry<String, Object> entry : ((Map<String, Object>) info.get("config")).entrySet()) {
+                        config.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : null);
+                    }
+                    configs.put(connector.getKey(), config);
+                    statuses.put(connector.getKey(), status);
+                }
+            }
+            return ConnectorsSnapshot.expanded(names, configs, statuses);
+        } else {
+            throw new IllegalArgumentException("Unexpected list of connectors " + body);
+        }
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         String path = "/connector-plugins";
-        return withHttpClient((httpClient, result) -> httpClient
+        return withHttpClient(host, port, (httpClient, result) -> httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
@@ -349,6 +494,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 })
                 .exceptionHandler(result::tryFail)
                 .setFollowRedirects(true)
+                .setTimeout(requestTimeoutMs)
                 .putHeader("Accept", "application/json")
                 .end());
     }
@@ -358,7 +504,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         log.debug("Making PUT request to {} with body {}", path, levelJO);
-        return withHttpClient((httpClient, result) -> {
+        return withHttpClient(host, port, (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .put(port, host, path, response -> {
@@ -376,6 +522,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     .exceptionHandler(result::tryFail)
                     .putHeader("Content-Type", "application/json")
                     .setFollowRedirects(true)
+                    .setTimeout(requestTimeoutMs)
                     .end(buffer);
         });
     }
@@ -383,7 +530,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Map<String, String>>> listConnectLoggers(String host, int port) {
         String path = "/admin/loggers/";
-        return withHttpClient((httpClient, result) -> httpClient
+        return withHttpClient(host, port, (httpClient, result) -> httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::tryFail);
                     if (response.statusCode() == 200) {
@@ -402,6 +549,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 })
                 .exceptionHandler(result::tryFail)
                 .setFollowRedirects(true)
+                .setTimeout(requestTimeoutMs)
                 .putHeader("Accept", "application/json")
                 .end());
     }
@@ -503,7 +651,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> restartConnectorOrTask(String host, int port, String path) {
-        return withHttpClient((httpClient, result) -> httpClient
+        return withHttpClient(host, port, (httpClient, result) -> httpClient
             .post(port, host, path, response -> {
                 response.exceptionHandler(result::tryFail);
                 if (response.statusCode() == 204) {
@@ -515,6 +663,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             })
             .exceptionHandler(result::tryFail)
             .setFollowRedirects(true)
+            .setTimeout(requestTimeoutMs)
             .putHeader("Accept", "application/json")
             .end());
     }
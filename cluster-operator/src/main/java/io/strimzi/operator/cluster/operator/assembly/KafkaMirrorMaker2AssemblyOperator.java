@@ -11,9 +11,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import io.fabric8.kubernetes.client.CustomResource;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2Spec;
@@ -61,7 +61,6 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -114,7 +113,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, connectClientProvider(vertx, config));
     }
 
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
@@ -215,7 +214,10 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         List<KafkaMirrorMaker2MirrorSpec> mirrors = ModelUtils.asListOrEmptyList(kafkaMirrorMaker2.getSpec().getMirrors());
         String host = KafkaMirrorMaker2Resources.qualifiedServiceName(mirrorMaker2Name, reconciliation.namespace());
         KafkaConnectApi apiClient = getKafkaConnectApi();
-        return apiClient.list(host, KafkaConnectCluster.REST_API_PORT).compose(deleteMirrorMaker2ConnectorNames -> {
+        Future<ConnectorsSnapshot> listFuture = readHost(reconciliation.namespace(), mirrorMaker2Name, host)
+                .compose(readHost -> apiClient.listExpanded(host, readHost, KafkaConnectCluster.REST_API_PORT));
+        return listFuture.compose(runningConnectors -> {
+            List<String> deleteMirrorMaker2ConnectorNames = runningConnectors.getNames();
 
             for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> connectorEntry : MIRRORMAKER2_CONNECTORS.entrySet()) {
                 deleteMirrorMaker2ConnectorNames.removeAll(mirrors.stream()
@@ -224,23 +226,37 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                         .collect(Collectors.toSet()));
             }
             log.debug("{}: delete MirrorMaker 2.0 connectors: {}", reconciliation, deleteMirrorMaker2ConnectorNames);
-            Stream<Future<Void>> deletionFutures = deleteMirrorMaker2ConnectorNames.stream()
-                    .map(connectorName -> apiClient.delete(host, KafkaConnectCluster.REST_API_PORT, connectorName));
-            Stream<Future<Void>> createUpdateFutures = mirrors.stream()
-                    .map(mirror -> reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status, desiredLogging));
-            return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
+            List<Supplier<Future<Void>>> operations = deleteMirrorMaker2ConnectorNames.stream()
+                    .map(connectorName -> (Supplier<Future<Void>>) () -> withRetries(reconciliation, connectorName, () -> apiClient.delete(host, KafkaConnectCluster.REST_API_PORT, connectorName)))
+                    .collect(Collectors.toList());
+            boolean validMirrors = false;
+            for (KafkaMirrorMaker2MirrorSpec mirror : mirrors) {
+                validMirrors |= addMirrorMaker2ConnectorOperations(operations, reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status, runningConnectors);
+            }
+            Future<Void> connectorsFuture = joinWithBoundedConcurrency(operations, maxConcurrentConnectorReconciliations());
+            return validMirrors
+                    ? connectorsFuture.compose(i -> apiClient.updateConnectLoggers(host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.getDefaultLogConfig()))
+                    : connectorsFuture;
         });
     }
 
-    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, String desiredLogging) {
+    /**
+     * Adds the reconciliations of the connectors of given mirror to the given operations. When the mirror is not
+     * valid, only the update of the MirrorMaker 2.0 status with the error is added.
+     *
+     * @return True if the mirror is valid and its connectors are reconciled. False otherwise.
+     */
+    private boolean addMirrorMaker2ConnectorOperations(List<Supplier<Future<Void>>> operations, Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, ConnectorsSnapshot runningConnectors) {
         String targetClusterAlias = mirror.getTargetCluster();
         String sourceClusterAlias = mirror.getSourceCluster();
         if (targetClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster property is required"));
+            operations.add(() -> maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+                    new InvalidResourceException("targetCluster property is required")));
+            return false;
         } else if (sourceClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster property is required"));
+            operations.add(() -> maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+                    new InvalidResourceException("sourceCluster property is required")));
+            return false;
         }
         List<KafkaMirrorMaker2ClusterSpec> clusters = ModelUtils.asListOrEmptyList(mirrorMaker2.getSpec().getClusters());
         Map<String, KafkaMirrorMaker2ClusterSpec> clusterMap = clusters.stream()
@@ -248,16 +264,18 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             .collect(Collectors.toMap(KafkaMirrorMaker2ClusterSpec::getAlias, Function.identity()));
 
         if (!clusterMap.containsKey(targetClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            operations.add(() -> maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+                    new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters")));
+            return false;
         } else if (!clusterMap.containsKey(sourceClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            operations.add(() -> maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
+                    new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters")));
+            return false;
         }
         
-        return CompositeFuture.join(MIRRORMAKER2_CONNECTORS.entrySet().stream()
+        MIRRORMAKER2_CONNECTORS.entrySet().stream()
                     .filter(entry -> entry.getValue().apply(mirror) != null) // filter out non-existent connectors
-                    .map(entry -> {
+                    .forEach(entry -> {
                         String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
                         String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
                         
@@ -270,11 +288,12 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                                 .build();                      
 
                         prepareMirrorMaker2ConnectorConfig(mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
-                        log.debug("{}: creating/updating connector {} config: {}", reconciliation, connectorName, asJson(connectorSpec).toString());
-                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, mirrorMaker2Status);
-                    })                            
-                    .collect(Collectors.toList()))
-                    .map((Void) null).compose(i -> apiClient.updateConnectLoggers(host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.getDefaultLogConfig()));
+                        operations.add(() -> {
+                            log.debug("{}: creating/updating connector {} config: {}", reconciliation, connectorName, asJson(connectorSpec).toString());
+                            return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, mirrorMaker2Status, runningConnectors);
+                        });
+                    });
+        return true;
     }
 
     private static void prepareMirrorMaker2ConnectorConfig(KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2ClusterSpec sourceCluster, KafkaMirrorMaker2ClusterSpec targetCluster, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Cluster mirrorMaker2Cluster) {
@@ -397,8 +416,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         return securityProtocol;
     }
 
-    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
-        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2)
+    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status, ConnectorsSnapshot runningConnectors) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2, runningConnectors)
                 .onComplete(result -> {
                     if (result.succeeded()) {
                         mirrorMaker2Status.addConditions(result.result().conditions);
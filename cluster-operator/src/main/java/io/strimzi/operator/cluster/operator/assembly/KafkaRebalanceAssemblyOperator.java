@@ -22,15 +22,18 @@ import io.strimzi.api.kafka.model.status.KafkaRebalanceStatusBuilder;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceAnnotation;
 import io.strimzi.api.kafka.model.balancing.KafkaRebalanceState;
 import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
+import io.strimzi.operator.cluster.operator.resource.OperandHttpClients;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Reconciliation;
@@ -42,6 +45,7 @@ import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -129,11 +133,14 @@ public class KafkaRebalanceAssemblyOperator
     private static final Logger log = LogManager.getLogger(KafkaRebalanceAssemblyOperator.class.getName());
 
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
+    private static final long REBALANCE_MAX_POLLING_TIMER_MS = 30_000;
+    private static final int REBALANCE_UNCHANGED_POLLS_AT_MIN_TIMER = 6;
     private static final int MAX_API_RETRIES = 5;
 
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final PlatformFeaturesAvailability pfa;
+    private final CruiseControlApi cruiseControlApi;
 
     /**
      * @param vertx The Vertx instance
@@ -142,19 +149,51 @@ public class KafkaRebalanceAssemblyOperator
      */
     public KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                           ResourceOperatorSupplier supplier) {
+        this(vertx, pfa, supplier, vertx.createHttpClient(OperandHttpClients.options("cruise-control")
+                .setLogActivity(CruiseControlApiImpl.HTTP_CLIENT_ACTIVITY_LOGGING)));
+    }
+
+    /**
+     * @param vertx The Vertx instance
+     * @param pfa Platform features availability properties
+     * @param supplier Supplies the operators for different resources
+     * @param config Cluster Operator configuration with the options of the HTTP client used to call Cruise Control
+     */
+    public KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
+                                          ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+        this(vertx, pfa, supplier, vertx.createHttpClient(OperandHttpClients.options("cruise-control", config)
+                .setLogActivity(CruiseControlApiImpl.HTTP_CLIENT_ACTIVITY_LOGGING)));
+    }
+
+    private KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
+                                           ResourceOperatorSupplier supplier, HttpClient httpClient) {
         super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider);
         this.pfa = pfa;
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.kafkaOperator = supplier.kafkaOperator;
+        // The requests use the default timeout of the HTTP client, the timeout from the configuration applies only to connecting
+        this.cruiseControlApi = new CruiseControlApiImpl(httpClient);
     }
 
     /**
-     * Provides an implementation of the Cruise Control API client
+     * Provides an implementation of the Cruise Control API client. All the reconciliations share the same client, so
+     * that they reuse the connections to Cruise Control.
      *
      * @return Cruise Control API client instance
      */
     protected CruiseControlApi cruiseControlClientProvider() {
-        return new CruiseControlApiImpl(vertx);
+        return cruiseControlApi;
+    }
+
+    /**
+     * Creates the polling interval of a rebalance proposal or a rebalance execution. The polls are sent every 5 seconds
+     * for the first half a minute without progress and then back off up to 30 seconds. This bounds also the time
+     * needed to notice the strimzi.io/rebalance=stop annotation while a long rebalance is executed.
+     *
+     * @return The polling interval
+     */
+    protected RebalancePollingInterval newPollingInterval() {
+        return new RebalancePollingInterval(REBALANCE_POLLING_TIMER_MS, REBALANCE_MAX_POLLING_TIMER_MS, REBALANCE_UNCHANGED_POLLS_AT_MIN_TIMER);
     }
 
     /**
@@ -466,7 +505,8 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code PendingProposal} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance proposal processing on Cruise Control side.
+     * It starts polling in order to check the status of the ongoing rebalance proposal processing on Cruise Control side.
+     * The polls back off while the steps reported in the progress of the proposal computation do not change.
      * In order to do that, it calls the Cruise Control API for requesting the rebalance proposal.
      * When the proposal is ready, the next state is {@code ProposalReady}.
      * If the user sets the strimzi.io/rebalance=stop annotation, it stops polling the Cruise Control API for requesting the rebalance proposal.
@@ -490,61 +530,79 @@ public class KafkaRebalanceAssemblyOperator
         Promise<KafkaRebalanceStatus> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
             log.debug("{}: Starting Cruise Control rebalance proposal request timer", reconciliation);
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t ->
-                kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
-                        // Checking that the resource was not deleted between periodic polls
-                        if (currentKafkaRebalance != null) {
-                            // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
-                            if (state(currentKafkaRebalance) == KafkaRebalanceState.PendingProposal) {
-                                if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
-                                    log.debug("{}: Stopping current Cruise Control proposal request timer", reconciliation);
-                                    vertx.cancelTimer(t);
-                                    p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped));
-                                } else {
-                                    requestRebalance(reconciliation, host, apiClient, true, rebalanceOptionsBuilder,
-                                            currentKafkaRebalance.getStatus().getSessionId())
-                                        .onSuccess(rebalanceStatus -> {
-                                            // If the returned status has an optimization result then the rebalance proposal
-                                            // is ready, so stop the polling
-                                            if (rebalanceStatus.getOptimizationResult() != null &&
-                                                    !rebalanceStatus.getOptimizationResult().isEmpty()) {
-                                                vertx.cancelTimer(t);
-                                                log.debug("{}: Optimization proposal ready", reconciliation);
-                                                p.complete(rebalanceStatus);
-                                            } else {
-                                                // The rebalance proposal is still not ready yet, keep the timer for polling
-                                                log.debug("{}: Waiting for optimization proposal to be ready", reconciliation);
-                                            }
-                                        })
-                                        .onFailure(e -> {
-                                            log.error("{}: Cruise Control getting rebalance proposal failed", reconciliation, e.getCause());
-                                            vertx.cancelTimer(t);
-                                            p.fail(e.getCause());
-                                        });
-                                }
-                            } else {
-                                p.complete(currentKafkaRebalance.getStatus());
-                            }
-                        } else {
-                            log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
-                            vertx.cancelTimer(t);
-                            p.complete();
-                        }
-                    })
-                    .onFailure(e -> {
-                        log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
-                    })
-            );
+            RebalancePollingInterval pollingInterval = newPollingInterval();
+            vertx.setTimer(pollingInterval.initialDelayMs(), t ->
+                    pollPendingProposal(reconciliation, host, apiClient, kafkaRebalance, rebalanceOptionsBuilder, pollingInterval, p));
         } else {
             p.complete(kafkaRebalance.getStatus());
         }
         return p.future();
     }
 
+    /**
+     * Polls Cruise Control for the rebalance proposal requested in the {@code PendingProposal} state. The next poll is
+     * scheduled by the polling interval, which backs off while the steps of the proposal computation do not move on.
+     */
+    private void pollPendingProposal(Reconciliation reconciliation,
+                                     String host, CruiseControlApi apiClient,
+                                     KafkaRebalance kafkaRebalance,
+                                     RebalanceOptions.RebalanceOptionsBuilder rebalanceOptionsBuilder,
+                                     RebalancePollingInterval pollingInterval,
+                                     Promise<KafkaRebalanceStatus> p) {
+        kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
+            .onSuccess(currentKafkaRebalance -> {
+                // Checking that the resource was not deleted between polls
+                if (currentKafkaRebalance != null) {
+                    // Check resource is in the right state as previous execution might have set the status and completed the future
+                    if (state(currentKafkaRebalance) == KafkaRebalanceState.PendingProposal) {
+                        if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
+                            log.debug("{}: Stopping current Cruise Control proposal request timer", reconciliation);
+                            p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped));
+                        } else {
+                            sendRebalanceRequest(reconciliation, host, apiClient, true, rebalanceOptionsBuilder,
+                                    currentKafkaRebalance.getStatus().getSessionId())
+                                .onSuccess(response -> {
+                                    KafkaRebalanceStatus rebalanceStatus;
+                                    try {
+                                        rebalanceStatus = buildRebalanceStatus(true, response);
+                                    } catch (CruiseControlRestException e) {
+                                        log.error("{}: Cruise Control getting rebalance proposal failed", reconciliation, e);
+                                        p.fail(e);
+                                        return;
+                                    }
+                                    // If the returned status has an optimization result then the rebalance proposal
+                                    // is ready, so stop the polling
+                                    if (rebalanceStatus.getOptimizationResult() != null &&
+                                            !rebalanceStatus.getOptimizationResult().isEmpty()) {
+                                        log.debug("{}: Optimization proposal ready", reconciliation);
+                                        p.complete(rebalanceStatus);
+                                    } else {
+                                        // The rebalance proposal is still not ready yet, keep polling
+                                        long delayMs = pollingInterval.nextDelayMs(response.getProgressSteps());
+                                        log.debug("{}: Waiting for optimization proposal to be ready, next check in {}ms", reconciliation, delayMs);
+                                        vertx.setTimer(delayMs, t ->
+                                                pollPendingProposal(reconciliation, host, apiClient, kafkaRebalance, rebalanceOptionsBuilder, pollingInterval, p));
+                                    }
+                                })
+                                .onFailure(e -> {
+                                    log.error("{}: Cruise Control getting rebalance proposal failed", reconciliation, e.getCause());
+                                    p.fail(e.getCause());
+                                });
+                        }
+                    } else {
+                        p.complete(currentKafkaRebalance.getStatus());
+                    }
+                } else {
+                    log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
+                    p.complete();
+                }
+            })
+            .onFailure(e -> {
+                log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
+                p.fail(e.getCause());
+            });
+    }
+
     /**
      * This method handles the transition from {@code ProposalReady} state.
      * It is related to the value that the user apply to the strimzi.io/rebalance annotation.
@@ -585,7 +643,8 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code Rebalancing} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
+     * It starts polling in order to check the status of the ongoing rebalance processing on Cruise Control side.
+     * The polls back off while the status of the user task executing the rebalance does not change.
      * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
@@ -608,111 +667,132 @@ public class KafkaRebalanceAssemblyOperator
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
             log.info("{}: Starting Cruise Control rebalance user task status timer", reconciliation);
             String sessionId = kafkaRebalance.getStatus().getSessionId();
-            AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
-                // Check that we have not already failed to contact the API beyond the allowed number of times.
-                if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
-                    p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
-                }
-                kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
-                        // Checking that the resource was not deleted between periodic polls
-                        if (currentKafkaRebalance != null) {
-                            // Check resource is in the right state as previous execution might have set the status and completed the future
-                            // Safety check as timer might be called again (from a delayed timer firing)
-                            if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
-                                if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
-                                    log.debug("{}: Stopping current Cruise Control rebalance user task", reconciliation);
-                                    vertx.cancelTimer(t);
-                                    apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
-                                        .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped)))
-                                        .onFailure(e -> {
-                                            log.error("{}: Cruise Control stopping execution failed", reconciliation, e.getCause());
-                                            p.fail(e.getCause());
-                                        });
-                                } else {
-                                    log.info("{}: Getting Cruise Control rebalance user task status", reconciliation);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    log.info("{}: Rebalance ({}) is now complete", reconciliation, sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                        null, KafkaRebalanceState.Ready, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    log.error("{}: Rebalance ({}) optimization proposal has failed to complete", reconciliation, sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        log.info("{}: Rebalance ({}) optimization proposal is now ready and has been added to the status", reconciliation, sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                            sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    log.info("{}: Rebalance ({}) optimization proposal is still being prepared", reconciliation, sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    log.error("{}: Unexpected state {}", reconciliation, taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
-                                            }
-                                        })
-                                        .onFailure(e -> {
-                                            log.error("{}: Cruise Control getting rebalance task status failed", reconciliation, e.getCause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        });
-                                }
-                            } else {
-                                p.complete(currentKafkaRebalance.getStatus());
-                            }
-                        } else {
-                            log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
-                            vertx.cancelTimer(t);
-                            p.complete();
-                        }
-                    })
-                    .onFailure(e -> {
-                        log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
-                    });
-            });
+            RebalancePollingInterval pollingInterval = newPollingInterval();
+            vertx.setTimer(pollingInterval.initialDelayMs(), t ->
+                    pollRebalancing(reconciliation, host, apiClient, kafkaRebalance, sessionId, new AtomicInteger(), pollingInterval, p));
         } else {
             p.complete(kafkaRebalance.getStatus());
         }
         return p.future();
     }
 
+    /**
+     * Polls the status of the Cruise Control user task executing the rebalance in the {@code Rebalancing} state. The
+     * next poll is scheduled by the polling interval, which backs off while the status of the user task does not change.
+     */
+    private void pollRebalancing(Reconciliation reconciliation,
+                                 String host, CruiseControlApi apiClient,
+                                 KafkaRebalance kafkaRebalance, String sessionId,
+                                 AtomicInteger ccApiErrorCount, RebalancePollingInterval pollingInterval,
+                                 Promise<KafkaRebalanceStatus> p) {
+        // Check that we have not already failed to contact the API beyond the allowed number of times.
+        if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
+            p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+            return;
+        }
+        kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
+            .onSuccess(currentKafkaRebalance -> {
+                // Checking that the resource was not deleted between polls
+                if (currentKafkaRebalance != null) {
+                    // Check resource is in the right state as previous execution might have set the status and completed the future
+                    if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
+                        if (rebalanceAnnotation(currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
+                            log.debug("{}: Stopping current Cruise Control rebalance user task", reconciliation);
+                            apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
+                                .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped)))
+                                .onFailure(e -> {
+                                    log.error("{}: Cruise Control stopping execution failed", reconciliation, e.getCause());
+                                    p.fail(e.getCause());
+                                });
+                        } else {
+                            log.info("{}: Getting Cruise Control rebalance user task status", reconciliation);
+                            apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
+                                .onSuccess(cruiseControlResponse -> {
+                                    JsonObject taskStatusJson = cruiseControlResponse.getJson();
+                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+                                    switch (taskStatus) {
+                                        case COMPLETED:
+                                            log.info("{}: Rebalance ({}) is now complete", reconciliation, sessionId);
+                                            p.complete(buildRebalanceStatus(
+                                                null, KafkaRebalanceState.Ready, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
+                                            break;
+                                        case COMPLETED_WITH_ERROR:
+                                            // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                                            //       We may need to propose an upstream PR for this.
+                                            // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                                            //       details of any issues while rebalancing.
+                                            log.error("{}: Rebalance ({}) optimization proposal has failed to complete", reconciliation, sessionId);
+                                            p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady));
+                                            break;
+                                        case IN_EXECUTION: // Rebalance is still in progress
+                                            // We need to check that the status has been updated with the ongoing optimisation proposal
+                                            // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                                            // proposal was still being prepared (in progress). In that case the rebalance will start when
+                                            // the proposal is complete but the optimisation proposal summary will be missing.
+                                            if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
+                                                    currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                                                log.info("{}: Rebalance ({}) optimization proposal is now ready and has been added to the status", reconciliation, sessionId);
+                                                // Stop polling so that the status is returned and updated.
+                                                p.complete(buildRebalanceStatus(
+                                                    sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
+                                            } else {
+                                                schedulePollRebalancing(reconciliation, host, apiClient, kafkaRebalance, sessionId,
+                                                        ccApiErrorCount, pollingInterval, taskStatus, p);
+                                            }
+                                            ccApiErrorCount.set(0);
+                                            // TODO: Find out if there is any way to check the progress of a rebalance.
+                                            //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                                            //       We can then update the status at this point.
+                                            break;
+                                        case ACTIVE: // Rebalance proposal is still being calculated
+                                            // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                                            // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                                            // check that the optimisation proposal is added to the status on the next reconcile.
+                                            log.info("{}: Rebalance ({}) optimization proposal is still being prepared", reconciliation, sessionId);
+                                            ccApiErrorCount.set(0);
+                                            schedulePollRebalancing(reconciliation, host, apiClient, kafkaRebalance, sessionId,
+                                                    ccApiErrorCount, pollingInterval, taskStatus, p);
+                                            break;
+                                        default:
+                                            log.error("{}: Unexpected state {}", reconciliation, taskStatus);
+                                            p.fail("Unexpected state " + taskStatus);
+                                            break;
+                                    }
+                                })
+                                .onFailure(e -> {
+                                    log.error("{}: Cruise Control getting rebalance task status failed", reconciliation, e.getCause());
+                                    // To make sure this error is not just a temporary problem with the network we retry several times.
+                                    // If the number of errors pass the MAX_API_ERRORS limit then the next poll will fail the promise.
+                                    ccApiErrorCount.getAndIncrement();
+                                    schedulePollRebalancing(reconciliation, host, apiClient, kafkaRebalance, sessionId,
+                                            ccApiErrorCount, pollingInterval, null, p);
+                                });
+                        }
+                    } else {
+                        p.complete(currentKafkaRebalance.getStatus());
+                    }
+                } else {
+                    log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
+                    p.complete();
+                }
+            })
+            .onFailure(e -> {
+                log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, e.getCause());
+                p.fail(e.getCause());
+            });
+    }
+
+    private void schedulePollRebalancing(Reconciliation reconciliation,
+                                         String host, CruiseControlApi apiClient,
+                                         KafkaRebalance kafkaRebalance, String sessionId,
+                                         AtomicInteger ccApiErrorCount, RebalancePollingInterval pollingInterval,
+                                         CruiseControlUserTaskStatus taskStatus, Promise<KafkaRebalanceStatus> p) {
+        long delayMs = pollingInterval.nextDelayMs(taskStatus);
+        log.debug("{}: Next check of rebalance ({}) user task status in {}ms", reconciliation, sessionId, delayMs);
+        vertx.setTimer(delayMs, t ->
+                pollRebalancing(reconciliation, host, apiClient, kafkaRebalance, sessionId, ccApiErrorCount, pollingInterval, p));
+    }
+
     /**
      * This method handles the transition from {@code Stopped} state.
      * If the user set strimzi.io/rebalance=refresh annotation, it calls the Cruise Control API for requesting a new rebalance proposal.
@@ -810,45 +890,52 @@ public class KafkaRebalanceAssemblyOperator
 
     private Future<KafkaRebalanceStatus> requestRebalance(Reconciliation reconciliation, String host, CruiseControlApi apiClient,
                                                           boolean dryrun, RebalanceOptions.RebalanceOptionsBuilder rebalanceOptionsBuilder, String userTaskID) {
+        return sendRebalanceRequest(reconciliation, host, apiClient, dryrun, rebalanceOptionsBuilder, userTaskID)
+                .map(response -> buildRebalanceStatus(dryrun, response));
+    }
+
+    private Future<CruiseControlRebalanceResponse> sendRebalanceRequest(Reconciliation reconciliation, String host, CruiseControlApi apiClient,
+                                                                        boolean dryrun, RebalanceOptions.RebalanceOptionsBuilder rebalanceOptionsBuilder, String userTaskID) {
 
         log.info("{}: Requesting Cruise Control rebalance [dryrun={}]", reconciliation, dryrun);
         if (!dryrun) {
             rebalanceOptionsBuilder.withFullRun();
         }
-        return apiClient.rebalance(host, CruiseControl.REST_API_PORT, rebalanceOptionsBuilder.build(), userTaskID)
-                .map(response -> {
-                    if (dryrun) {
-                        if (response.isNotEnoughDataForProposal()) {
-                            // If there is not enough data for a rebalance, it's an error at the Cruise Control level
-                            // Need to re-request the proposal at a later time so move to the PendingProposal State.
-                            return buildRebalanceStatus(null, KafkaRebalanceState.PendingProposal);
-                        } else if (response.isProposalStillCalaculating()) {
-                            // If rebalance proposal is still being processed, we need to re-request the proposal at a later time
-                            // with the corresponding session-id so we move to the PendingProposal State.
-                            return buildRebalanceStatus(response.getUserTaskId(), KafkaRebalanceState.PendingProposal);
-                        }
-                    } else {
-                        if (response.isNotEnoughDataForProposal()) {
-                            // We do not include a session id with this status as we do not want to retrieve the state of
-                            // this failed tasks (COMPLETED_WITH_ERROR)
-                            return buildRebalanceStatus(null, KafkaRebalanceState.PendingProposal);
-                        } else if (response.isProposalStillCalaculating()) {
-                            // If dryrun=false and the proposal is not ready we are going to be in a rebalancing state as
-                            // soon as it is ready, so set the state to rebalancing.
-                            // In the onRebalancing method the optimization proposal will be added when it is ready.
-                            return buildRebalanceStatus(response.getUserTaskId(), KafkaRebalanceState.Rebalancing);
-                        }
-                    }
+        return apiClient.rebalance(host, CruiseControl.REST_API_PORT, rebalanceOptionsBuilder.build(), userTaskID);
+    }
 
-                    // If there is sufficient data and the proposal is complete (the response has the "summary" key)
-                    if (!response.getJson().containsKey(CC_REST_API_SUMMARY)) {
-                        throw new CruiseControlRestException("Rebalance returned unknown response: " + response.toString());
-                    }
+    private KafkaRebalanceStatus buildRebalanceStatus(boolean dryrun, CruiseControlRebalanceResponse response) {
+        if (dryrun) {
+            if (response.isNotEnoughDataForProposal()) {
+                // If there is not enough data for a rebalance, it's an error at the Cruise Control level
+                // Need to re-request the proposal at a later time so move to the PendingProposal State.
+                return buildRebalanceStatus(null, KafkaRebalanceState.PendingProposal);
+            } else if (response.isProposalStillCalaculating()) {
+                // If rebalance proposal is still being processed, we need to re-request the proposal at a later time
+                // with the corresponding session-id so we move to the PendingProposal State.
+                return buildRebalanceStatus(response.getUserTaskId(), KafkaRebalanceState.PendingProposal);
+            }
+        } else {
+            if (response.isNotEnoughDataForProposal()) {
+                // We do not include a session id with this status as we do not want to retrieve the state of
+                // this failed tasks (COMPLETED_WITH_ERROR)
+                return buildRebalanceStatus(null, KafkaRebalanceState.PendingProposal);
+            } else if (response.isProposalStillCalaculating()) {
+                // If dryrun=false and the proposal is not ready we are going to be in a rebalancing state as
+                // soon as it is ready, so set the state to rebalancing.
+                // In the onRebalancing method the optimization proposal will be added when it is ready.
+                return buildRebalanceStatus(response.getUserTaskId(), KafkaRebalanceState.Rebalancing);
+            }
+        }
+
+        // If there is sufficient data and the proposal is complete (the response has the "summary" key)
+        if (!response.getJson().containsKey(CC_REST_API_SUMMARY)) {
+            throw new CruiseControlRestException("Rebalance returned unknown response: " + response.toString());
+        }
 
-                    // Transition to ProposalReady for a dry run or to the Rebalancing state for a full run
-                    KafkaRebalanceState newState = dryrun ? KafkaRebalanceState.ProposalReady : KafkaRebalanceState.Rebalancing;
-                    return buildRebalanceStatus(response.getUserTaskId(), newState, response.getJson().getJsonObject(CC_REST_API_SUMMARY).getMap());
-                });
+        // Transition to ProposalReady for a dry run or to the Rebalancing state for a full run
+        KafkaRebalanceState newState = dryrun ? KafkaRebalanceState.ProposalReady : KafkaRebalanceState.Rebalancing;
+        return buildRebalanceStatus(response.getUserTaskId(), newState, response.getJson().getJsonObject(CC_REST_API_SUMMARY).getMap());
     }
 
     /**
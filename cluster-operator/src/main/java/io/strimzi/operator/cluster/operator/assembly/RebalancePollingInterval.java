@@ -0,0 +1,73 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.Objects;
+
+/**
+ * <p>Computes the delays between the polls of Cruise Control while a rebalance proposal is being computed or a
+ * rebalance is being executed. Each poll reports the progress it observed, for example the status of the user task.
+ * The progress is polled with the minimal interval at first, so that short tasks are noticed quickly. When the
+ * progress does not change for more than the given number of polls, the interval doubles with each further unchanged
+ * poll up to the maximal interval. Any change of the progress resets the interval back to the minimum.</p>
+ * <pre>{@literal
+ *     |<- min ->|<- min ->| ... |<- min ->|<- 2 * min ->|<-- 4 * min -->| ... |<--- max --->|}</pre>
+ */
+public class RebalancePollingInterval {
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final int unchangedPollsAtMinInterval;
+
+    private Object lastProgress;
+    private int unchangedPolls = 0;
+
+    /**
+     * @param minIntervalMs The minimal interval between polls in milliseconds
+     * @param maxIntervalMs The maximal interval between polls in milliseconds
+     * @param unchangedPollsAtMinInterval The number of polls which do not observe any change of the progress before
+     *                                    the interval starts to grow
+     */
+    public RebalancePollingInterval(long minIntervalMs, long maxIntervalMs, int unchangedPollsAtMinInterval) {
+        if (minIntervalMs <= 0 || maxIntervalMs < minIntervalMs || unchangedPollsAtMinInterval < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.unchangedPollsAtMinInterval = unchangedPollsAtMinInterval;
+    }
+
+    /**
+     * @return The interval before the first poll in milliseconds
+     */
+    public long initialDelayMs() {
+        return minIntervalMs;
+    }
+
+    /**
+     * Returns the delay before the next poll, given the progress observed by the last poll.
+     *
+     * @param progress The progress observed by the last poll or null if the poll failed to observe it
+     *
+     * @return The delay before the next poll in milliseconds
+     */
+    public long nextDelayMs(Object progress) {
+        if (progress != null && !Objects.equals(progress, lastProgress)) {
+            lastProgress = progress;
+            unchangedPolls = 0;
+        } else {
+            unchangedPolls++;
+        }
+
+        int doublings = unchangedPolls - unchangedPollsAtMinInterval;
+        if (doublings <= 0) {
+            return minIntervalMs;
+        }
+        long delayMs = minIntervalMs;
+        while (doublings-- > 0 && delayMs < maxIntervalMs) {
+            delayMs *= 2;
+        }
+        return Math.min(delayMs, maxIntervalMs);
+    }
+}
@@ -18,7 +18,11 @@ import org.apache.kafka.common.config.TopicConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,24 +34,34 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>The partitions of all topics are fetched only once and kept in an index of the partitions hosted by each broker.
+ * Before each decision, only the topics with a replica on the given broker (and the topics created or deleted since
+ * the last decision) are described again to refresh their ISR. The {@code min.insync.replicas} of each topic is
+ * fetched only once. One instance is therefore meant to be used for the whole rolling restart.</p>
  */
 class KafkaAvailability {
 
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
+    /**
+     * The min.insync.replicas of the topic was not fetched yet
+     */
+    private static final int MIN_ISR_UNKNOWN = -2;
+
+    /**
+     * The topic does not have min.insync.replicas configured
+     */
+    private static final int MIN_ISR_NONE = -1;
+
     private final Admin ac;
-    private final Future<Collection<TopicDescription>> descriptions;
+
+    // The index is accessed only from the Admin client callbacks, but these can run on different threads
+    private final Map<String, TopicState> topics = new HashMap<>();
+    private Map<Integer, List<PartitionState>> brokerToPartitions = null;
 
     KafkaAvailability(Admin ac) {
         this.ac = ac;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            log.debug("Got {} topic names", names.size());
-            log.trace("Topic names {}", names);
-            return describeTopics(names);
-        });
     }
 
     /**
@@ -56,97 +70,176 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         log.debug("Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId, Collections.emptySet());
+    }
+
+    /**
+     * Determine whether the given broker can be rolled while the {@code restartingPods} are being rolled as well without
+     * affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}. The brokers which are
+     * being rolled are treated as if they were already out of the ISR of all their partitions.
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> restartingPods) {
+        log.debug("Determining whether broker {} can be rolled together with brokers {}", podId, restartingPods);
+        return canRollBroker(podId, restartingPods);
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    log.debug("Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
+    private Future<Boolean> canRollBroker(int podId, Set<Integer> restartingPods) {
+        // 1. Get all topic names
+        return topicNames()
+                .compose(names -> {
+                    log.debug("Got {} topic names", names.size());
+                    log.trace("Topic names {}", names);
+                    // 2. Get topic descriptions (of the new topics and of those on $broker)
+                    return describeTopics(topicsToDescribe(names, podId))
+                            .map(tds -> {
+                                log.debug("Got {} topic descriptions", tds.size());
+                                updateIndex(names, tds);
+                                return null;
+                            });
                 }).recover(error -> {
                     log.warn(error);
                     return Future.failedFuture(error);
+                })
+                // 3. Get topic configs (for those on $broker which were not fetched yet)
+                .compose(ignore -> topicConfigs(topicsWithUnknownMinIsr(podId)))
+                // 4. Decide from the index
+                .map(topicNameToConfig -> {
+                    updateMinIsr(topicNameToConfig);
+                    boolean canRoll = !wouldAffectAvailability(podId, restartingPods);
+                    if (!canRoll) {
+                        log.debug("Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+                    }
+                    return canRoll;
+                }).recover(error -> {
+                    log.warn("Error determining whether it is safe to restart pod {}", podId, error);
+                    return Future.failedFuture(error);
                 });
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
-
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                log.debug("Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+    /**
+     * When the index was not built yet, all topics have to be described. Otherwise only the topics which are new or
+     * which have a replica on the given broker are described.
+     */
+    private synchronized Set<String> topicsToDescribe(Set<String> names, int podId) {
+        if (brokerToPartitions == null) {
+            return names;
+        }
+
+        Set<String> toDescribe = new HashSet<>();
+        for (PartitionState partition : brokerToPartitions.getOrDefault(podId, Collections.emptyList())) {
+            toDescribe.add(partition.topic.name);
+        }
+        for (String name : names) {
+            if (!topics.containsKey(name)) {
+                toDescribe.add(name);
             }
-            return canRoll;
-        }).recover(error -> {
-            log.warn("Error determining whether it is safe to restart pod {}", podId, error);
-            return Future.failedFuture(error);
-        });
+        }
+        toDescribe.retainAll(names);
+        return toDescribe;
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            log.debug("{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
-        } else {
-            minIsr = -1;
-            log.debug("{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+    private synchronized void updateIndex(Set<String> names, Collection<TopicDescription> tds) {
+        boolean reindex = brokerToPartitions == null || topics.keySet().retainAll(names);
+
+        for (TopicDescription td : tds) {
+            log.trace("{}", td);
+            TopicState topic = topics.get(td.name());
+            if (topic == null || !topic.updateIsr(td)) {
+                int minIsr = topic != null ? topic.minIsr : MIN_ISR_UNKNOWN;
+                topics.put(td.name(), new TopicState(td, minIsr));
+                reindex = true;
+            }
         }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                            pi.replicas().size());
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    logIsrReplicas(td, pi, isr);
-                    log.info("{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
-                                    "so should not be restarted right now (it might be first to catch up).",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        logIsrReplicas(td, pi, isr);
-                        log.info("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        return true;
-                    } else {
-                        log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
+        if (reindex) {
+            Map<Integer, List<PartitionState>> index = new HashMap<>();
+            for (TopicState topic : topics.values()) {
+                for (PartitionState partition : topic.partitions) {
+                    for (int broker : partition.replicas) {
+                        index.computeIfAbsent(broker, b -> new ArrayList<>()).add(partition);
                     }
                 }
             }
+            brokerToPartitions = index;
+            log.debug("Indexed the partitions of {} topics on {} brokers", topics.size(), index.size());
         }
-        return false;
     }
 
-    private void logIsrReplicas(TopicDescription td, TopicPartitionInfo pi, List<Node> isr) {
-        if (log.isDebugEnabled()) {
-            log.debug("{}/{} has ISR={}, replicas={}", td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()));
+    private synchronized Set<String> topicsWithUnknownMinIsr(int podId) {
+        Set<String> unknown = new HashSet<>();
+        for (PartitionState partition : brokerToPartitions.getOrDefault(podId, Collections.emptyList())) {
+            if (partition.topic.minIsr == MIN_ISR_UNKNOWN) {
+                unknown.add(partition.topic.name);
+            }
         }
+        return unknown;
     }
 
-    String nodeList(List<Node> nodes) {
-        return nodes.stream().map(n -> String.valueOf(n.id())).collect(Collectors.joining(",", "[", "]"));
+    private synchronized void updateMinIsr(Map<String, Config> nameToConfig) {
+        for (Map.Entry<String, Config> entry : nameToConfig.entrySet()) {
+            TopicState topic = topics.get(entry.getKey());
+            if (topic == null) {
+                continue;
+            }
+
+            ConfigEntry minIsrConfig = entry.getValue().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            if (minIsrConfig != null && minIsrConfig.value() != null) {
+                topic.minIsr = parseInt(minIsrConfig.value());
+                log.debug("{} has {}={}.", topic.name, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, topic.minIsr);
+            } else {
+                topic.minIsr = MIN_ISR_NONE;
+                log.debug("{} lacks {}.", topic.name, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            }
+        }
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private synchronized boolean wouldAffectAvailability(int broker, Set<Integer> restartingPods) {
+        for (PartitionState pi : brokerToPartitions.getOrDefault(broker, Collections.emptyList())) {
+            int minIsr = pi.topic.minIsr;
+            if (minIsr < 0) {
+                continue;
+            }
+
+            int isrSize = 0;
+            boolean inIsr = false;
+            for (int node : pi.isr) {
+                if (!restartingPods.contains(node)) {
+                    isrSize++;
+                    inIsr |= node == broker;
+                }
+            }
+
+            if (pi.replicas.length <= minIsr) {
+                log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
+                        pi.topic.name, pi.partition, isrSize, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        pi.replicas.length);
+            } else if (isrSize < minIsr) {
+                logIsrReplicas(pi);
+                log.info("{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
+                                "so should not be restarted right now (it might be first to catch up).",
+                        pi.topic.name, pi.partition, isrSize, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            } else if (isrSize == minIsr && inIsr) {
+                logIsrReplicas(pi);
+                log.info("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
+                        pi.topic.name, pi.partition, isrSize, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void logIsrReplicas(PartitionState pi) {
+        if (log.isDebugEnabled()) {
+            log.debug("{}/{} has ISR={}, replicas={}", pi.topic.name, pi.partition, Arrays.toString(pi.isr), Arrays.toString(pi.replicas));
+        }
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyMap());
+        }
+
         log.debug("Getting topic configs for {} topics", topicNames.size());
         List<ConfigResource> configs = topicNames.stream()
                 .map((String topicName) -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
@@ -166,19 +259,73 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            log.trace("{}", td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
+    private static int[] brokerIds(List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).id();
+        }
+        return ids;
+    }
+
+    /**
+     * The indexed state of a topic
+     */
+    private static class TopicState {
+        final String name;
+        final PartitionState[] partitions;
+        int minIsr;
+
+        TopicState(TopicDescription td, int minIsr) {
+            this.name = td.name();
+            this.minIsr = minIsr;
+            this.partitions = new PartitionState[td.partitions().size()];
+            for (int i = 0; i < partitions.length; i++) {
+                TopicPartitionInfo pi = td.partitions().get(i);
+                partitions[i] = new PartitionState(this, pi.partition(), brokerIds(pi.replicas()), brokerIds(pi.isr()));
+            }
+        }
+
+        /**
+         * Updates the ISR of the partitions in place
+         *
+         * @return False if the partitions or their replicas changed and the topic has to be indexed again
+         */
+        boolean updateIsr(TopicDescription td) {
+            if (td.partitions().size() != partitions.length) {
+                return false;
+            }
+
+            for (int i = 0; i < partitions.length; i++) {
+                TopicPartitionInfo pi = td.partitions().get(i);
+                if (pi.partition() != partitions[i].partition
+                        || !Arrays.equals(brokerIds(pi.replicas()), partitions[i].replicas)) {
+                    return false;
                 }
             }
+
+            for (int i = 0; i < partitions.length; i++) {
+                partitions[i].isr = brokerIds(td.partitions().get(i).isr());
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * The indexed state of a partition
+     */
+    private static class PartitionState {
+        final TopicState topic;
+        final int partition;
+        final int[] replicas;
+        int[] isr;
+
+        PartitionState(TopicState topic, int partition, int[] replicas, int[] isr) {
+            this.topic = topic;
+            this.partition = partition;
+            this.replicas = replicas;
+            this.isr = isr;
         }
-        return topicPartitionInfos;
     }
 
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
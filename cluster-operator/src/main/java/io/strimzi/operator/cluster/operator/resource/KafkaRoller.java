@@ -23,6 +23,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -93,6 +94,13 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>When {@code maxConcurrentRestarts} is bigger than 1, up to that many pods are considered and restarted at the
+ * same time. Before a pod is restarted, step 5 treats the pods which are being restarted right now as if they were
+ * already out of the ISR of all their partitions. A pod is therefore restarted together with the other pods only when
+ * none of their shared partitions would drop below its {@code min.insync.replicas}. With rack awareness this typically
+ * allows restarting the brokers of the same rack together. Pods which cannot be restarted only because of the other
+ * restarts in progress are retried once the other restarts finish without counting it as a failed attempt.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -123,7 +131,16 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxConcurrentRestarts;
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
+
+    // Pods which passed the rollability check and are being restarted right now. The lock is held only to register a
+    // pod, so that concurrent rollability checks of different pods each take the restarts approved by the other check
+    // into account.
+    private final Set<Integer> restartingPods = ConcurrentHashMap.newKeySet();
+    private final Object rollabilityLock = new Object();
+    private final AtomicInteger restartedPods = new AtomicInteger(0);
 
     public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
                         long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -138,6 +155,16 @@ public class KafkaRoller {
                         StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                         AdminClientProvider adminClientProvider,
                         String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(vertx, reconciliation, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration, 1);
+    }
+
+    public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
+                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                        AdminClientProvider adminClientProvider,
+                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                        int maxConcurrentRestarts) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -154,6 +181,9 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxConcurrentRestarts = maxConcurrentRestarts;
+        this.executor = Executors.newScheduledThreadPool(maxConcurrentRestarts,
+            runnable -> new Thread(runnable, "kafka-roller"));
     }
 
     /**
@@ -164,8 +194,7 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
+    private final ScheduledExecutorService executor;
 
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
@@ -174,7 +203,7 @@ public class KafkaRoller {
      * If allClient has not been initialized yet, does exactly that
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean initAdminClient() {
+    private synchronized boolean initAdminClient() {
         if (this.allClient == null) {
             try {
                 this.allClient = adminClient(IntStream.range(0, numPods).boxed().collect(Collectors.toList()), false);
@@ -208,7 +237,7 @@ public class KafkaRoller {
         }
         Promise<Void> result = Promise.promise();
         CompositeFuture.join(futures).onComplete(ar -> {
-            singleExecutor.shutdown();
+            executor.shutdown();
             try {
                 if (allClient != null) {
                     allClient.close(Duration.ofSeconds(30));
@@ -221,6 +250,13 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * @return The number of pods which were restarted (not just reconfigured) by this roller
+     */
+    public int restartedPods() {
+        return restartedPods.get();
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -259,7 +295,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * At most {@code maxConcurrentRestarts} pods will be rolled at a time so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -268,11 +304,15 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor.schedule(() -> {
             log.debug("{}: Considering restart of pod {} after delay of {} {}", reconciliation, podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx);
                 ctx.promise.complete();
+            } catch (ConcurrentRestartProblem e) {
+                log.debug("{}: Could not roll pod {} due to {}, retrying once the other pods are rolled",
+                        reconciliation, podId, e.getMessage());
+                schedule(podId, pollingIntervalMs, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 // Let the executor deal with interruption.
                 Thread.currentThread().interrupt();
@@ -280,7 +320,7 @@ public class KafkaRoller {
                 log.info("{}: Could not restart pod {}, giving up after {} attempts. Total delay between attempts {}ms",
                         reconciliation, podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -336,8 +376,6 @@ public class KafkaRoller {
      * @throws ForceableProblem Some error. Not thrown when finalAttempt==true.
      * @throws UnforceableProblem Some error, still thrown when finalAttempt==true.
      */
-    @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE")
-    @SuppressWarnings({"checkstyle:CyclomaticComplexity"})
     private void restartIfNecessary(int podId, RestartContext restartContext)
             throws Exception {
         Pod pod;
@@ -347,13 +385,36 @@ public class KafkaRoller {
             throw new UnforceableProblem("Error getting pod " + podName(podId), e);
         }
 
+        try {
+            restartIfNecessary(podId, pod, restartContext);
+        } finally {
+            // The pod was either rolled or not rolled at all => it does not affect the rollability of the other pods anymore
+            restartingPods.remove(podId);
+        }
+    }
+
+    @SuppressFBWarnings("RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE")
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity"})
+    private void restartIfNecessary(int podId, Pod pod, RestartContext restartContext)
+            throws Exception {
         try {
             RestartPlan restartPlan = restartPlan(podId, pod, restartContext);
             if (restartPlan.forceRestart || restartPlan.needsRestart || restartPlan.needsReconfig) {
                 if (!restartPlan.forceRestart && deferController(podId, restartContext)) {
                     log.debug("{}: Pod {} is controller and there are other pods to roll", reconciliation, podId);
+                    if (maxConcurrentRestarts > 1) {
+                        // The attempts of the controller are not spaced out by the rolling of the other pods anymore
+                        // => it could run out of them before the other pods are rolled
+                        throw new ConcurrentRestartProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
+                    }
                     throw new ForceableProblem("Pod " + podName(podId) + " is currently the controller and there are other pods still to roll");
                 } else {
+                    if (restartPlan.forceRestart) {
+                        // Stuck pods are restarted without checking the rollability, but the other pods still need to
+                        // take this restart into account
+                        restartingPods.add(podId);
+                    }
+
                     if (restartPlan.forceRestart || canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false)) {
                         // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
                         if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
@@ -601,18 +662,68 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Pod cannot be rolled right now only because of the other pods being rolled at the same time. Such pods are
+     * retried without counting it as a failed attempt.
+     */
+    static final class ConcurrentRestartProblem extends Exception {
+        ConcurrentRestartProblem(String msg) {
+            super(msg);
+        }
+    }
+
+    /**
+     * Determines whether the given pod can be rolled. When it can, the pod is registered as being restarted so that
+     * the rollability checks of the other pods take it into account until it is rolled. The check itself runs without
+     * holding the lock. When other pods were registered while it ran, its result is stale and it is repeated.
+     *
+     * @throws ConcurrentRestartProblem When the pod cannot be rolled right now, but it might be possible once the
+     *                                  other pods are rolled
+     */
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
-            throws ForceableProblem, InterruptedException {
-        try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
-                t -> new ForceableProblem("An error while trying to determine rollability", t));
-        } catch (ForceableProblem e) {
-            // If we're not able to connect then roll
-            if (ignoreSslError && e.getCause() instanceof SslAuthenticationException) {
-                return true;
-            } else {
-                throw e;
+            throws ForceableProblem, InterruptedException, ConcurrentRestartProblem {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            Set<Integer> restarting;
+            KafkaAvailability availability;
+            synchronized (rollabilityLock) {
+                restarting = new HashSet<>(restartingPods);
+                if (kafkaAvailability == null) {
+                    // Shared by all pods so that the topic descriptions are fetched only once per rolling restart
+                    kafkaAvailability = availability(allClient);
+                }
+                availability = kafkaAvailability;
+            }
+
+            boolean canRoll;
+            try {
+                canRoll = await(restarting.isEmpty() ? availability.canRoll(podId) : availability.canRoll(podId, restarting),
+                        Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS,
+                    t -> new ForceableProblem("An error while trying to determine rollability", t));
+            } catch (ForceableProblem e) {
+                // If we're not able to connect then roll
+                if (ignoreSslError && e.getCause() instanceof SslAuthenticationException) {
+                    canRoll = true;
+                } else {
+                    throw e;
+                }
+            }
+
+            if (!canRoll) {
+                if (!restarting.isEmpty()) {
+                    throw new ConcurrentRestartProblem("Pod " + podName(podId) + " cannot be rolled together with pods " + restarting);
+                }
+                return false;
+            }
+
+            synchronized (rollabilityLock) {
+                // Pods which finished restarting in the meantime do not make the result stale, new ones do
+                if (restarting.containsAll(restartingPods)) {
+                    restartingPods.add(podId);
+                    return true;
+                }
             }
+            log.debug("{}: Pods were registered for restart while checking the rollability of pod {}, checking it again", reconciliation, podId);
         }
     }
 
@@ -628,6 +739,7 @@ public class KafkaRoller {
         String podName = pod.getMetadata().getName();
         log.debug("{}: Rolling pod {}", reconciliation, podName);
         await(restart(pod), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        restartedPods.incrementAndGet();
         awaitReadiness(pod, timeout, unit);
     }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.vertx.core.http.HttpClientOptions;
+
+/**
+ * Options of the HTTP clients used by the operator to call the REST APIs of the operands (Kafka Connect and Cruise
+ * Control). Each operator shares one HTTP client between all its reconciliations. The client keeps a pool of
+ * HTTP/1.1 keep-alive connections for each host and port, so the reconciliations reuse the connections instead of
+ * opening a new TCP connection for every request. The connection metrics are reported by the Vert.x metrics under the
+ * metrics name of the client.
+ */
+public class OperandHttpClients {
+    public static final int DEFAULT_POOL_SIZE = HttpClientOptions.DEFAULT_MAX_POOL_SIZE;
+    public static final boolean DEFAULT_PIPELINING = false;
+    public static final long DEFAULT_TIMEOUT_MS = 120_000;
+
+    /**
+     * Time after which the idle connections are closed by the client. It is shorter than the default 30 seconds idle
+     * timeout of the Jetty based REST server of Kafka Connect, so that the client does not send requests over
+     * connections which the server is just closing.
+     */
+    private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
+    private OperandHttpClients() { }
+
+    /**
+     * @param metricsName The name of the client in the Vert.x metrics
+     *
+     * @return The options of a client with the default pool size, pipelining and timeout
+     */
+    public static HttpClientOptions options(String metricsName) {
+        return options(metricsName, DEFAULT_POOL_SIZE, DEFAULT_PIPELINING, DEFAULT_TIMEOUT_MS);
+    }
+
+    /**
+     * @param metricsName The name of the client in the Vert.x metrics
+     * @param config The Cluster Operator configuration with the pool size, pipelining and timeout
+     *
+     * @return The options of a client configured by the Cluster Operator configuration
+     */
+    public static HttpClientOptions options(String metricsName, ClusterOperatorConfig config) {
+        return options(metricsName, config.getHttpClientPoolSize(), config.isHttpClientPipelining(), config.getHttpClientTimeoutMs());
+    }
+
+    /**
+     * @param metricsName The name of the client in the Vert.x metrics
+     * @param poolSize The maximal number of connections to each host and port
+     * @param pipelining Whether several requests can be sent over one connection without waiting for the responses
+     * @param timeoutMs The timeout for opening a connection in milliseconds
+     *
+     * @return The options of the client
+     */
+    public static HttpClientOptions options(String metricsName, int poolSize, boolean pipelining, long timeoutMs) {
+        return new HttpClientOptions()
+                .setMetricsName(metricsName)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setMaxPoolSize(poolSize)
+                .setPipelining(pipelining)
+                .setConnectTimeout((int) Math.min(timeoutMs, Integer.MAX_VALUE));
+    }
+}
@@ -28,6 +28,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -51,6 +52,10 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
+
+import java.util.List;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 // Deprecation is suppressed because of KafkaConnectS2I
@@ -206,4 +211,30 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
     }
+
+    /**
+     * Enables the watch-backed caches for the operands which are read on every reconciliation. Only the resources with
+     * the strimzi.io/cluster label, which the operator sets on all the operands, are cached. Reads of these resources
+     * in the given namespace are then served from memory while other reads and all writes still go to the Kubernetes
+     * API server.
+     *
+     * @param namespace Namespace which should be cached
+     *
+     * @return  Future which completes when all caches are synced
+     */
+    public Future<Void> enableCaches(String namespace) {
+        List<Future> futures = List.of(
+                serviceOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                zkSetOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                kafkaSetOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                configMapOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                secretOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                deploymentOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                serviceAccountOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                networkPolicyOperator.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                podDisruptionBudgetOperator.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider),
+                podOperations.enableCache(namespace, Labels.STRIMZI_CLUSTER_LABEL, metricsProvider));
+
+        return CompositeFuture.join(futures).mapEmpty();
+    }
 }
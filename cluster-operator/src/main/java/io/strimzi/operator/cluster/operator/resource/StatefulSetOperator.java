@@ -376,6 +376,7 @@ public abstract class StatefulSetOperator extends AbstractScalableResourceOperat
 
                     if (deleted) {
                         log.debug("{} {} in namespace {} has been deleted", resourceKind, name, namespace);
+                        invalidateCache(namespace, name);
                         future.complete();
                     } else  {
                         log.debug("{} {} in namespace {} has been not been deleted", resourceKind, name, namespace);
@@ -4,25 +4,33 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.strimzi.operator.cluster.operator.resource.OperandHttpClients;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 
 import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeoutException;
 
 public class CruiseControlApiImpl implements CruiseControlApi {
 
-    private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
+    public static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
     private static final String SUMMARY_KEY = "summary";
 
-    private final Vertx vertx;
+    /**
+     * The fields of the rebalance responses used by the operator. The other fields, such as the proposed partition
+     * movements or the broker loads, are skipped when parsing the response.
+     */
+    private static final CruiseControlJsonFields REBALANCE_FIELDS =
+            new CruiseControlJsonFields(CC_REST_API_SUMMARY, CC_REST_API_PROGRESS_KEY, CC_REST_API_ERROR_KEY);
+
+    private final HttpClient httpClient;
     private final long idleTimeout;
 
     public CruiseControlApiImpl(Vertx vertx) {
@@ -30,7 +38,30 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     }
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout) {
-        this.vertx = vertx;
+        this(vertx.createHttpClient(OperandHttpClients.options("cruise-control").setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING)), idleTimeout);
+    }
+
+    /**
+     * Creates the Cruise Control REST API client using the given HTTP client and its default timeout for the requests.
+     * The HTTP client keeps a pool of keep-alive connections for each Cruise Control instance, so it should be shared
+     * by the reconciliations and never closed while the operator runs.
+     *
+     * @param httpClient The shared HTTP client
+     */
+    public CruiseControlApiImpl(HttpClient httpClient) {
+        this(httpClient, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Creates the Cruise Control REST API client using the given HTTP client. The HTTP client keeps a pool of
+     * keep-alive connections for each Cruise Control instance, so it should be shared by the reconciliations and never
+     * closed while the operator runs.
+     *
+     * @param httpClient The shared HTTP client
+     * @param idleTimeout The timeout of the requests in seconds or -1 to use the default timeout of the HTTP client
+     */
+    public CruiseControlApiImpl(HttpClient httpClient, int idleTimeout) {
+        this.httpClient = httpClient;
         this.idleTimeout = idleTimeout;
     }
 
@@ -43,14 +74,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> getCruiseControlState(String host, int port, boolean verbose, String userTaskId) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.STATE)
                 .addParameter(CruiseControlParameters.JSON, "true")
                 .addParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -97,27 +127,26 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
 
         Promise<CruiseControlRebalanceResponse> result = Promise.promise();
-        HttpClientOptions httpOptions = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.REBALANCE)
                 .addParameter(CruiseControlParameters.JSON, "true")
                 .addRebalanceParameters(rbOptions)
                 .build();
 
-        HttpClientRequest request = vertx.createHttpClient(httpOptions)
+        HttpClientRequest request = httpClient
                 .post(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
                         response.bodyHandler(buffer -> {
                             String userTaskID = response.getHeader(CC_REST_API_USER_ID_HEADER);
-                            JsonObject json = buffer.toJsonObject();
+                            JsonObject json = REBALANCE_FIELDS.extract(buffer.getBytes());
                             CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
                             result.complete(ccResponse);
                         });
                     } else if (response.statusCode() == 202) {
                         response.bodyHandler(buffer -> {
                             String userTaskID = response.getHeader(CC_REST_API_USER_ID_HEADER);
-                            JsonObject json = buffer.toJsonObject();
+                            JsonObject json = REBALANCE_FIELDS.extract(buffer.getBytes());
                             CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
                             if (json.containsKey(CC_REST_API_PROGRESS_KEY)) {
                                 // If the response contains a "progress" key then the rebalance proposal has not yet completed processing
@@ -126,7 +155,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                 result.fail(new CruiseControlRestException(
                                         "Error for request: " + host + ":" + port + path +
                                         ". 202 Status code did not contain progress key. Server returned: " +
-                                        ccResponse.getJson().toString()));
+                                        buffer.toString()));
                             }
                             result.complete(ccResponse);
                         });
@@ -177,7 +206,6 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskId) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
                         .addParameter(CruiseControlParameters.JSON, "true")
@@ -189,7 +217,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -216,7 +244,8 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                     // We handle these in the same way as COMPLETED tasks so we drop down to that case.
                                 case COMPLETED:
                                     // Completed tasks will have the original rebalance proposal summary in their original response
-                                    statusJson.put(SUMMARY_KEY, ((JsonObject) Json.decodeValue(jsonUserTask.getString("originalResponse"))).getJsonObject(SUMMARY_KEY));
+                                    statusJson.put(SUMMARY_KEY, REBALANCE_FIELDS.extract(jsonUserTask.getString("originalResponse").getBytes(StandardCharsets.UTF_8))
+                                            .getJsonObject(SUMMARY_KEY));
                                     break;
                                 case COMPLETED_WITH_ERROR:
                                     // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
@@ -261,12 +290,11 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .addParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .post(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
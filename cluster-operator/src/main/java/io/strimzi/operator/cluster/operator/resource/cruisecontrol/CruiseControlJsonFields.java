@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extracts selected top-level fields from the JSON responses of Cruise Control. The rebalance responses contain the
+ * goal summaries, the cluster load before and after the optimization and, for verbose requests, every proposed
+ * partition movement, so they can have several megabytes for large clusters. The operator needs only the optimization
+ * summary from them. The response is read by a streaming parser which builds objects only for the selected fields and
+ * skips the values of the other fields without materializing them.
+ */
+class CruiseControlJsonFields {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Set<String> fields;
+
+    /**
+     * @param fields The names of the top-level fields to extract
+     */
+    CruiseControlJsonFields(String... fields) {
+        this.fields = new HashSet<>(Arrays.asList(fields));
+    }
+
+    /**
+     * @param json The JSON object
+     *
+     * @return JSON object with only the selected top-level fields of the given JSON object
+     *
+     * @throws DecodeException if the given JSON is not a valid JSON object
+     */
+    @SuppressWarnings("unchecked")
+    JsonObject extract(byte[] json) {
+        JsonObject result = new JsonObject();
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodeException("Cruise Control response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (fields.contains(field)) {
+                    Object value = parser.readValueAs(Object.class);
+                    result.put(field, value instanceof Map ? new JsonObject((Map<String, Object>) value) : value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode Cruise Control response: " + e.getMessage(), e);
+        }
+        return result;
+    }
+}
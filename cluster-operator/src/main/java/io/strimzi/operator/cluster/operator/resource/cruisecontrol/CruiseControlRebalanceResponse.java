@@ -4,8 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class CruiseControlRebalanceResponse extends CruiseControlResponse {
 
     private boolean isNotEnoughDataForProposal;
@@ -36,4 +40,27 @@ public class CruiseControlRebalanceResponse extends CruiseControlResponse {
     public void setProposalStillCalaculating(boolean proposalStillCalaculating) {
         this.isProposalStillCalaculating = proposalStillCalaculating;
     }
+
+    /**
+     * The steps of the operations computing the rebalance proposal, such as waiting for the cluster model or
+     * optimizing the goals. Unlike the rest of the "progress" field, they change only when the computation moves on.
+     *
+     * @return The steps reached by the operations computing the rebalance proposal or an empty list if the response
+     * does not contain the progress
+     */
+    public List<String> getProgressSteps() {
+        List<String> steps = new ArrayList<>();
+        JsonArray progress = getJson().getJsonArray(CruiseControlApi.CC_REST_API_PROGRESS_KEY);
+        if (progress != null) {
+            for (int i = 0; i < progress.size(); i++) {
+                JsonArray operationProgress = progress.getJsonObject(i).getJsonArray("operationProgress");
+                if (operationProgress != null) {
+                    for (int j = 0; j < operationProgress.size(); j++) {
+                        steps.add(operationProgress.getJsonObject(j).getString("step"));
+                    }
+                }
+            }
+        }
+        return steps;
+    }
 }
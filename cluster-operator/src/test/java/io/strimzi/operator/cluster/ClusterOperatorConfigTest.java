@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -60,6 +61,15 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getConnectBuildTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_CONNECT_BUILD_TIMEOUT_MS));
         assertThat(config.getOperatorNamespace(), is("operator-namespace"));
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
+        assertThat(config.getMaxConcurrentBrokerRestarts(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS));
+        assertThat(config.getHttpClientPoolSize(), is(ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_POOL_SIZE));
+        assertThat(config.isHttpClientPipelining(), is(ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_PIPELINING));
+        assertThat(config.getHttpClientTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_TIMEOUT_MS));
+        assertThat(config.getMaxConcurrentConnectorReconciliations(), is(ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS));
+        assertThat(config.getConnectApiRequestsPerSecond(), is(ClusterOperatorConfig.DEFAULT_CONNECT_API_REQUESTS_PER_SECOND));
+        assertThat(config.isConnectApiReadsFromWorkers(), is(ClusterOperatorConfig.DEFAULT_CONNECT_API_READS_FROM_WORKERS));
+        assertThat(config.getConnectorVerificationIntervalMs(), is(ClusterOperatorConfig.DEFAULT_CONNECTOR_VERIFICATION_INTERVAL_MS));
+        assertThat(config.isOpenSslCertManagerEnabled(), is(ClusterOperatorConfig.DEFAULT_OPENSSL_CERT_MANAGER_ENABLED));
     }
 
     @Test
@@ -75,12 +85,32 @@ public class ClusterOperatorConfigTest {
                 null,
                 null,
                 null,
-                ClusterOperatorConfig.RbacScope.CLUSTER);
+                ClusterOperatorConfig.RbacScope.CLUSTER,
+                false,
+                AbstractOperator.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS,
+                3,
+                10,
+                true,
+                60_000,
+                5,
+                20,
+                true,
+                300_000,
+                true);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
         assertThat(config.getOperationTimeoutMs(), is(30_000L));
         assertThat(config.getConnectBuildTimeoutMs(), is(120_000L));
+        assertThat(config.getMaxConcurrentBrokerRestarts(), is(3));
+        assertThat(config.getHttpClientPoolSize(), is(10));
+        assertThat(config.isHttpClientPipelining(), is(true));
+        assertThat(config.getHttpClientTimeoutMs(), is(60_000L));
+        assertThat(config.getMaxConcurrentConnectorReconciliations(), is(5));
+        assertThat(config.getConnectApiRequestsPerSecond(), is(20));
+        assertThat(config.isConnectApiReadsFromWorkers(), is(true));
+        assertThat(config.getConnectorVerificationIntervalMs(), is(300_000L));
+        assertThat(config.isOpenSslCertManagerEnabled(), is(true));
     }
 
     @Test
@@ -232,6 +262,85 @@ public class ClusterOperatorConfigTest {
             new LocalObjectReferenceBuilder().withName("secret3").build()));
     }
 
+    @Test
+    public void testInvalidMaxConcurrentReconciliationsThrowsInvalidConfigurationException() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_RECONCILIATIONS, "all");
+
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
+
+    @Test
+    public void testInvalidMaxConcurrentBrokerRestartsThrowsInvalidConfigurationException() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_BROKER_RESTARTS, "all");
+
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
+
+    @Test
+    public void testHttpClientOptions() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_HTTP_CLIENT_POOL_SIZE, "20");
+        envVars.put(ClusterOperatorConfig.STRIMZI_HTTP_CLIENT_PIPELINING, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_HTTP_CLIENT_TIMEOUT_MS, "30000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getHttpClientPoolSize(), is(20));
+        assertThat(config.isHttpClientPipelining(), is(true));
+        assertThat(config.getHttpClientTimeoutMs(), is(30_000L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_HTTP_CLIENT_POOL_SIZE, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
+
+    @Test
+    public void testConnectorReconciliationOptions() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS, "4");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_API_REQUESTS_PER_SECOND, "0");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_API_READS_FROM_WORKERS, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECTOR_VERIFICATION_INTERVAL_MS, "0");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentConnectorReconciliations(), is(4));
+        assertThat(config.getConnectApiRequestsPerSecond(), is(0));
+        assertThat(config.isConnectApiReadsFromWorkers(), is(true));
+        assertThat(config.getConnectorVerificationIntervalMs(), is(0L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS, "4");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_API_REQUESTS_PER_SECOND, "-1");
+
+        assertThrows(InvalidConfigurationException.class, () -> {
+            ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        });
+    }
+
     @Test
     public void testImagePullSecretsThrowsWithInvalidCharacter() {
         Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
@@ -61,6 +61,7 @@ import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScaler;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScalerProvider;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.cluster.operator.resource.KafkaSetOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -817,7 +818,18 @@ public class ResourceUtils {
                 null,
                 null,
                 null,
-                ClusterOperatorConfig.RbacScope.CLUSTER);
+                ClusterOperatorConfig.RbacScope.CLUSTER,
+                false,
+                AbstractOperator.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_PIPELINING,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_TIMEOUT_MS,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS,
+                ClusterOperatorConfig.DEFAULT_CONNECT_API_REQUESTS_PER_SECOND,
+                ClusterOperatorConfig.DEFAULT_CONNECT_API_READS_FROM_WORKERS,
+                ClusterOperatorConfig.DEFAULT_CONNECTOR_VERIFICATION_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_OPENSSL_CERT_MANAGER_ENABLED);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -832,7 +844,18 @@ public class ResourceUtils {
                 null,
                 null,
                 null,
-                ClusterOperatorConfig.RbacScope.NAMESPACE);
+                ClusterOperatorConfig.RbacScope.NAMESPACE,
+                false,
+                AbstractOperator.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_BROKER_RESTARTS,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_PIPELINING,
+                ClusterOperatorConfig.DEFAULT_HTTP_CLIENT_TIMEOUT_MS,
+                ClusterOperatorConfig.DEFAULT_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS,
+                ClusterOperatorConfig.DEFAULT_CONNECT_API_REQUESTS_PER_SECOND,
+                ClusterOperatorConfig.DEFAULT_CONNECT_API_READS_FROM_WORKERS,
+                ClusterOperatorConfig.DEFAULT_CONNECTOR_VERIFICATION_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_OPENSSL_CERT_MANAGER_ENABLED);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
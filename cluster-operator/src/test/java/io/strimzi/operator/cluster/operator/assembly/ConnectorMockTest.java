@@ -58,6 +58,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
@@ -77,6 +78,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -100,10 +102,14 @@ public class ConnectorMockTest {
         }
     }
 
+    private static final long CONNECTOR_VERIFICATION_INTERVAL_MS = 3_000;
+
     private Vertx vertx;
     private KubernetesClient client;
     private KafkaConnectApi api;
     private HashMap<String, ConnectorState> runningConnectors;
+    // Whether the mocked listing of the connectors returns their configs and statuses or only their names
+    private volatile boolean expandedListing;
     private KafkaConnectS2IAssemblyOperator kafkaConnectS2iOperator;
     private KafkaConnectAssemblyOperator kafkaConnectOperator;
 
@@ -129,6 +135,18 @@ public class ConnectorMockTest {
         return connectorState != null ? Future.succeededFuture(statusNode) : Future.failedFuture("No such connector " + connectorName);
     }
 
+    private Map<String, String> kafkaConnectApiConfigMock(String host, String connectorName) {
+        ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
+        Map<String, String> map = new HashMap<>();
+        map.put("name", connectorName);
+        for (Map.Entry<String, Object> entry : connectorState.config) {
+            if (entry.getValue() != null) {
+                map.put(entry.getKey(), entry.getValue().toString());
+            }
+        }
+        return map;
+    }
+
     @SuppressWarnings({"checkstyle:MethodLength"})
     @BeforeEach
     public void setup(VertxTestContext testContext) {
@@ -160,7 +178,8 @@ public class ConnectorMockTest {
             ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_IMAGES, KafkaVersionTestUtils.getKafkaConnectImagesEnvVarString(),
             ClusterOperatorConfig.STRIMZI_KAFKA_CONNECT_S2I_IMAGES, KafkaVersionTestUtils.getKafkaConnectS2iImagesEnvVarString(),
             ClusterOperatorConfig.STRIMZI_KAFKA_MIRROR_MAKER_2_IMAGES, KafkaVersionTestUtils.getKafkaMirrorMaker2ImagesEnvVarString(),
-            ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, Long.toString(Long.MAX_VALUE)),
+            ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_INTERVAL_MS, Long.toString(Long.MAX_VALUE),
+            ClusterOperatorConfig.STRIMZI_CONNECTOR_VERIFICATION_INTERVAL_MS, Long.toString(CONNECTOR_VERIFICATION_INTERVAL_MS)),
                 KafkaVersionTestUtils.getKafkaVersionLookup());
         kafkaConnectOperator = new KafkaConnectAssemblyOperator(vertx,
             pfa,
@@ -189,14 +208,25 @@ public class ConnectorMockTest {
     private void setupMockConnectAPI() {
         api = mock(KafkaConnectApi.class);
         runningConnectors = new HashMap<>();
+        expandedListing = true;
 
-        when(api.list(any(), anyInt())).thenAnswer(i -> {
+        when(api.listExpanded(any(), any(), anyInt())).thenAnswer(i -> {
             String host = i.getArgument(0);
             String matchingKeyPrefix = host + "##";
-            return Future.succeededFuture(runningConnectors.keySet().stream()
+            List<String> names = runningConnectors.keySet().stream()
                     .filter(s -> s.startsWith(matchingKeyPrefix))
                     .map(s -> s.substring(matchingKeyPrefix.length()))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList());
+            if (!expandedListing) {
+                return Future.succeededFuture(ConnectorsSnapshot.ofNames(names));
+            }
+            Map<String, Map<String, String>> configs = new HashMap<>();
+            Map<String, Map<String, Object>> statuses = new HashMap<>();
+            for (String connectorName : names) {
+                configs.put(connectorName, kafkaConnectApiConfigMock(host, connectorName));
+                statuses.put(connectorName, kafkaConnectApiStatusMock(host, connectorName).result());
+            }
+            return Future.succeededFuture(ConnectorsSnapshot.expanded(names, configs, statuses));
         });
         when(api.listConnectorPlugins(any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
@@ -210,16 +240,8 @@ public class ConnectorMockTest {
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenAnswer(invocation -> {
             String host = invocation.getArgument(1);
             String connectorName = invocation.getArgument(3);
-            ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
-            if (connectorState != null) {
-                Map<String, String> map = new HashMap<>();
-                map.put("name", connectorName);
-                for (Map.Entry<String, Object> entry : connectorState.config) {
-                    if (entry.getValue() != null) {
-                        map.put(entry.getKey(), entry.getValue().toString());
-                    }
-                }
-                return Future.succeededFuture(map);
+            if (runningConnectors.containsKey(key(host, connectorName))) {
+                return Future.succeededFuture(kafkaConnectApiConfigMock(host, connectorName));
             } else {
                 return Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/config", connectorName), 404, "Not Found", ""));
             }
@@ -353,6 +375,20 @@ public class ConnectorMockTest {
         }
     }
 
+    /**
+     * Reconciles the given Connect cluster and waits until the reconciliation completes
+     */
+    public void reconcileConnect(String connectName) {
+        CompletableFuture<Void> reconciled = new CompletableFuture<>();
+        kafkaConnectOperator.reconcile(new Reconciliation("test", "KafkaConnect", NAMESPACE, connectName))
+                .onComplete(result -> reconciled.complete(null));
+        try {
+            reconciled.get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public void waitForConnectReady(String connectName) {
         Resource<KafkaConnect> resource = Crds.kafkaConnectOperation(client)
                 .inNamespace(NAMESPACE)
@@ -561,8 +597,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -583,8 +619,8 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -623,8 +659,8 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, never()).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -644,10 +680,11 @@ public class ConnectorMockTest {
         Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).create(connect);
         waitForConnectReady(connectName);
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
-        // triggered three times (Connect creation, Connector Status update, Connect Status update)
-        verify(api, times(3)).createOrUpdatePutRequest(
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        // triggered twice (Connect creation, Connector Status update). The Connect Status update does not trigger it
+        // because the config hash in the connector status shows that the connector did not change.
+        verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
@@ -685,8 +722,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -707,8 +744,8 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered twice (Connect creation, Connector Status update)
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -748,8 +785,8 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, never()).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -771,8 +808,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered at least two times (Connect creation, Connector Status update)
         verify(api, atLeast(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -914,8 +951,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered atleast once (Connect creation)
-        verify(api, atLeastOnce()).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, atLeastOnce()).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -934,8 +971,8 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -963,8 +1000,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -985,8 +1022,8 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
@@ -1050,8 +1087,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1071,8 +1108,8 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1127,8 +1164,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1148,8 +1185,8 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1202,8 +1239,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1223,8 +1260,8 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1278,8 +1315,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1299,8 +1336,8 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
-            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+            eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
             eq(connectorName), any());
@@ -1353,8 +1390,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1375,14 +1412,14 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listExpanded(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1419,8 +1456,8 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1441,14 +1478,14 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
-                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(2)).listExpanded(
+                eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listExpanded(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1506,4 +1543,152 @@ public class ConnectorMockTest {
         waitForConnectorState(connectorName, "RUNNING");
         waitForConnectorCondition(connectorName, "Warning", "UnknownFields");
     }
+
+    /** Create connect, create connector, reconcile the unchanged connector using the expanded listing of the connectors */
+    @Test
+    public void testUnchangedConnectorIsNotRequestedWithExpandedListing() {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        createConnectAndConnector(connectName, connectorName);
+
+        // Let the reconciliations triggered by the status updates finish first
+        reconcileConnect(connectName);
+        clearInvocations(api);
+        reconcileConnect(connectName);
+
+        verify(api, times(1)).listExpanded(eq(host), eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+        // The config and status are taken from the listing
+        verify(api, never()).getConnectorConfig(any(), any(), anyInt(), any());
+        verify(api, never()).status(any(), anyInt(), any());
+        verify(api, never()).statusWithBackOff(any(), any(), anyInt(), any());
+        verify(api, never()).createOrUpdatePutRequest(any(), anyInt(), any(), any());
+        waitForConnectorReady(connectorName);
+    }
+
+    /** Create connect, create connector, reconcile the unchanged connector when the listing contains only the names */
+    @Test
+    public void testConnectorWithNamesOnlyListing() {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+        expandedListing = false;
+
+        createConnectAndConnector(connectName, connectorName);
+
+        // The connector which is not listed is looked up and created
+        verify(api, atLeastOnce()).getConnectorConfig(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, times(1)).createOrUpdatePutRequest(eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+
+        // Let the reconciliations triggered by the status updates finish first
+        reconcileConnect(connectName);
+        clearInvocations(api);
+        reconcileConnect(connectName);
+
+        // The status of the unchanged connector is requested as the listing does not have it, but its config is not
+        verify(api, times(1)).listExpanded(eq(host), eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, atLeastOnce()).status(eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, never()).getConnectorConfig(any(), any(), anyInt(), any());
+        verify(api, never()).createOrUpdatePutRequest(any(), anyInt(), any(), any());
+        waitForConnectorReady(connectorName);
+    }
+
+
+    /** Create connect, create connector, reconcile the unchanged connector before and after the verification interval */
+    @Test
+    public void testUnchangedConnectorIsVerifiedAgainAfterInterval() throws InterruptedException {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+        // Without the configs in the listing, the verification of the config is visible as a request
+        expandedListing = false;
+
+        createConnectAndConnector(connectName, connectorName);
+        reconcileConnect(connectName);
+
+        // The config of the unchanged connector was verified recently => it is skipped
+        clearInvocations(api);
+        reconcileConnect(connectName);
+        verify(api, never()).getConnectorConfig(any(), any(), anyInt(), any());
+
+        Thread.sleep(CONNECTOR_VERIFICATION_INTERVAL_MS);
+
+        // The verification interval passed => the config is verified again, but the connector does not need any change
+        clearInvocations(api);
+        reconcileConnect(connectName);
+        verify(api, times(1)).getConnectorConfig(any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, never()).createOrUpdatePutRequest(any(), anyInt(), any(), any());
+
+        // The next reconciliation skips the verification again
+        clearInvocations(api);
+        reconcileConnect(connectName);
+        verify(api, never()).getConnectorConfig(any(), any(), anyInt(), any());
+    }
+
+    /** Create connect, create connector, delete connector, create connector, delete connect */
+    @Test
+    public void testConnectorVerificationIsForgottenOnDeletion() {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        Reconciliation reconciliation = new Reconciliation("test", "KafkaConnect", NAMESPACE, connectName);
+
+        createConnectAndConnector(connectName, connectorName);
+        assertThat(kafkaConnectOperator.isConnectorVerificationTracked(reconciliation, connectorName), is(true));
+
+        // Deleted connector
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).withName(connectorName).delete();
+        waitFor("verification of deleted connector to be forgotten", 100, 5_000,
+            () -> !kafkaConnectOperator.isConnectorVerificationTracked(reconciliation, connectorName));
+
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("Dummy")
+                .endSpec()
+                .build());
+        waitFor("verification of recreated connector", 100, 5_000,
+            () -> kafkaConnectOperator.isConnectorVerificationTracked(reconciliation, connectorName));
+
+        // Deleted Connect cluster
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).withName(connectName).delete();
+        waitFor("verification of connectors of deleted Connect cluster to be forgotten", 100, 5_000,
+            () -> !kafkaConnectOperator.isConnectorVerificationTracked(reconciliation, connectorName));
+    }
+
+    private void createConnectAndConnector(String connectName, String connectorName) {
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).create(new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .build());
+        waitForConnectReady(connectName);
+
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("Dummy")
+                .endSpec()
+                .build());
+        waitForConnectorReady(connectorName);
+        waitFor("connector status with config hash", 100, 5_000, () -> {
+            KafkaConnector connector = Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).withName(connectorName).get();
+            return connector.getStatus() != null && connector.getStatus().getConfigHash() != null;
+        });
+    }
 }
@@ -25,6 +25,7 @@ import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -38,13 +39,18 @@ import org.mockito.Mockito;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -329,4 +335,130 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                     async.flag();
                 })));
     }
-}
\ No newline at end of file
+
+    private Kafka simpleKafka() {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Records when the step started and completes it after a short delay, or fails it right away
+     */
+    private Future<KafkaAssemblyOperator.ReconciliationState> step(List<String> events, String name, KafkaAssemblyOperator.ReconciliationState state, boolean fail) {
+        events.add(name + " started");
+        if (fail) {
+            events.add(name + " failed");
+            return Future.failedFuture(name + " failed");
+        }
+
+        Promise<KafkaAssemblyOperator.ReconciliationState> promise = Promise.promise();
+        vertx.setTimer(50, t -> {
+            events.add(name + " completed");
+            promise.complete(state);
+        });
+        return promise.future();
+    }
+
+    @Test
+    public void testKafkaConfigurationStepsRunConcurrentlyAfterCertificates(VertxTestContext context) {
+        KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_16), certManager, passwordGenerator,
+                ResourceUtils.supplierWithMocks(false), ResourceUtils.dummyClusterOperatorConfig(1L));
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        KafkaAssemblyOperator.ReconciliationState state = op.new ReconciliationState(reconciliation, simpleKafka()) {
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
+                return step(events, "certificates", this, false);
+            }
+
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> customListenerCertificates() {
+                return step(events, "custom certificates", this, false);
+            }
+
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaAncillaryCm() {
+                return step(events, "config map", this, false);
+            }
+
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaBrokersSecret() {
+                return step(events, "brokers secret", this, false);
+            }
+
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaJmxSecret() {
+                return step(events, "jmx secret", this, false);
+            }
+
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaPodDisruptionBudget() {
+                return step(events, "pdb", this, false);
+            }
+        };
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileKafkaConfiguration(state).onComplete(context.succeeding(s -> context.verify(() -> {
+            // The certificates are generated and validated one after another before the other steps
+            assertThat(events.subList(0, 4), is(List.of("certificates started", "certificates completed",
+                    "custom certificates started", "custom certificates completed")));
+            // All the other steps start before any of them completes
+            assertThat(events.subList(4, 8), containsInAnyOrder("config map started", "brokers secret started", "jmx secret started", "pdb started"));
+            assertThat(events.subList(8, 12), containsInAnyOrder("config map completed", "brokers secret completed", "jmx secret completed", "pdb completed"));
+            assertThat(events, hasSize(12));
+            assertThat(s, is(state));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testConcurrentStepsCompleteBeforeFailure(VertxTestContext context) {
+        KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_16), certManager, passwordGenerator,
+                ResourceUtils.supplierWithMocks(false), ResourceUtils.dummyClusterOperatorConfig(1L));
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        KafkaAssemblyOperator.ReconciliationState state = op.new ReconciliationState(reconciliation, simpleKafka()) {
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaServices() {
+                return step(events, "services", this, false);
+            }
+
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaRoutes() {
+                return step(events, "routes", this, true);
+            }
+
+            @Override
+            Future<KafkaAssemblyOperator.ReconciliationState> kafkaIngresses() {
+                return step(events, "ingresses", this, false);
+            }
+        };
+
+        Checkpoint async = context.checkpoint();
+        op.reconcileKafkaServices(state).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("routes failed"));
+            // The next step of the reconciliation does not start before the other steps completed
+            assertThat(events, hasItems("services completed", "ingresses completed"));
+            assertThat(events.indexOf("ingresses started") < events.indexOf("services completed"), is(true));
+            async.flag();
+        })));
+    }
+}
@@ -4,7 +4,9 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
@@ -15,11 +17,18 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectApiMockTest {
     private static Vertx vertx;
@@ -101,4 +110,53 @@ public class KafkaConnectApiMockTest {
             return statusResults.remove();
         }
     }
+
+    @Test
+    public void testParseConnectorsSnapshotWithoutExpand() throws IOException {
+        ConnectorsSnapshot snapshot = KafkaConnectApiImpl.parseConnectorsSnapshot(
+                new ObjectMapper().readValue("[\"a\", \"b\"]", Object.class));
+
+        assertThat(snapshot.isExpanded(), is(false));
+        assertThat(snapshot.getNames(), is(asList("a", "b")));
+        assertThat(snapshot.contains("a"), is(true));
+        assertThat(snapshot.getConfig("a"), is(nullValue()));
+        assertThat(snapshot.getStatus("a"), is(nullValue()));
+    }
+
+    @Test
+    public void testParseExpandedConnectorsSnapshot() throws IOException {
+        ConnectorsSnapshot snapshot = KafkaConnectApiImpl.parseConnectorsSnapshot(new ObjectMapper().readValue("{\"a\": {" +
+                "\"info\": {\"name\": \"a\", \"config\": {\"name\": \"a\", \"connector.class\": \"FileStreamSource\", \"tasks.max\": 1}, \"tasks\": [], \"type\": \"source\"}, " +
+                "\"status\": {\"name\": \"a\", \"connector\": {\"state\": \"RUNNING\", \"worker_id\": \"somehost:8083\"}, \"tasks\": [], \"type\": \"source\"}}}",
+                Object.class));
+
+        assertThat(snapshot.isExpanded(), is(true));
+        assertThat(snapshot.getNames(), is(singletonList("a")));
+        assertThat(snapshot.getConfig("a"), is(TestUtils.map("name", "a", "connector.class", "FileStreamSource", "tasks.max", "1")));
+        assertThat(snapshot.getStatus("a").get("connector"), is(TestUtils.map("state", "RUNNING", "worker_id", "somehost:8083")));
+        assertThat(snapshot.contains("b"), is(false));
+        assertThat(snapshot.getConfig("b"), is(nullValue()));
+    }
+
+    @Test
+    public void testRequestRateIsLimitedPerEndpoint() {
+        KafkaConnectApiImpl api = new KafkaConnectApiImpl(vertx, null, 1_000, 10);
+        long now = 1_000_000_000L;
+
+        assertThat(api.reserveRequest("a:8083", now), is(0L));
+        assertThat(api.reserveRequest("a:8083", now), is(100L));
+        assertThat(api.reserveRequest("a:8083", now), is(200L));
+        // The other endpoints are not affected
+        assertThat(api.reserveRequest("b:8083", now), is(0L));
+        // Once the reserved slots passed, the requests are not delayed anymore
+        assertThat(api.reserveRequest("a:8083", now + 1_000_000_000L), is(0L));
+    }
+
+    @Test
+    public void testRequestRateIsNotLimitedByDefault() {
+        KafkaConnectApiImpl api = new KafkaConnectApiImpl(vertx);
+
+        assertThat(api.reserveRequest("a:8083", 0L), is(0L));
+        assertThat(api.reserveRequest("a:8083", 0L), is(0L));
+    }
 }
@@ -245,6 +245,17 @@ public class KafkaConnectApiTest {
             .compose(createResponse -> client.list("localhost", PORT))
             .onComplete(context.succeeding(connectorNames -> context.verify(() ->
                     assertThat(connectorNames, is(singletonList("test"))))))
+            .compose(connectorNames -> client.listExpanded("localhost", PORT))
+            .onComplete(context.succeeding(snapshot -> context.verify(() -> {
+                assertThat(snapshot.isExpanded(), is(true));
+                assertThat(snapshot.getNames(), is(singletonList("test")));
+                assertThat(snapshot.getConfig("test"), is(TestUtils.map("connector.class", "FileStreamSource",
+                        "file", "/dev/null",
+                        "tasks.max", "1",
+                        "name", "test",
+                        "topic", "my-topic")));
+                assertThat(snapshot.getStatus("test").get("name"), is("test"));
+            })))
             .compose(connectorNames -> client.delete("localhost", PORT, "test"))
             .onComplete(context.succeeding())
             .compose(deletedConnector -> client.list("localhost", PORT))
@@ -142,7 +142,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
                 .endSpec()
             .build());
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
         when(mock.listConnectorPlugins(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
@@ -12,11 +12,14 @@ import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
 import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.netty.channel.ConnectTimeoutException;
 import io.strimzi.api.kafka.KafkaConnectorList;
 import io.strimzi.api.kafka.model.KafkaConnect;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
 import io.strimzi.api.kafka.model.KafkaConnectS2I;
 import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaConnectorSpec;
+import io.strimzi.api.kafka.model.KafkaConnectorSpecBuilder;
 import io.strimzi.api.kafka.model.RackBuilder;
 import io.strimzi.api.kafka.model.KafkaJmxOptionsBuilder;
 import io.strimzi.api.kafka.model.KafkaJmxAuthenticationPasswordBuilder;
@@ -61,6 +64,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -69,12 +73,17 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -92,6 +101,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class KafkaConnectAssemblyOperatorTest {
 
     private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
@@ -160,7 +170,7 @@ public class KafkaConnectAssemblyOperatorTest {
         when(mockConnectOps.updateStatusAsync(connectCaptor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
 
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
@@ -312,7 +322,7 @@ public class KafkaConnectAssemblyOperatorTest {
         when(mockPdbOps.reconcile(anyString(), any(), pdbCaptor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
 
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
@@ -438,7 +448,7 @@ public class KafkaConnectAssemblyOperatorTest {
         }).when(mockCmOps).reconcile(eq(kcNamespace), anyString(), any());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
 
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
@@ -604,7 +614,7 @@ public class KafkaConnectAssemblyOperatorTest {
         when(mockPdbOps.reconcile(anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new PodDisruptionBudget())));
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
 
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
@@ -679,7 +689,7 @@ public class KafkaConnectAssemblyOperatorTest {
         when(mockPdbOps.reconcile(anyString(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new PodDisruptionBudget())));
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
 
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
@@ -878,7 +888,7 @@ public class KafkaConnectAssemblyOperatorTest {
         when(mockConnectOps.updateStatusAsync(connectCaptor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
 
         ConnectorPlugin plugin1 = new ConnectorPluginBuilder()
                 .withConnectorClass("io.strimzi.MyClass")
@@ -1018,6 +1028,98 @@ public class KafkaConnectAssemblyOperatorTest {
         assertThat(AbstractConnectOperator.isOlderOrAlone("2020-01-27T19:31:14Z", conflictingConnectS2I), is(false));
     }
 
+    @Test
+    public void testConnectorConfigHash()    {
+        KafkaConnectorSpec spec = new KafkaConnectorSpecBuilder()
+                .withClassName("Dummy")
+                .withTasksMax(1)
+                .withConfig(singletonMap("topic", "my-topic"))
+                .build();
+        String hash = AbstractConnectOperator.configHash("my-connector", spec, 1L);
+
+        assertThat(AbstractConnectOperator.configHash("my-connector", new KafkaConnectorSpecBuilder(spec).build(), 1L), is(hash));
+        assertThat(AbstractConnectOperator.configHash("my-connector", new KafkaConnectorSpecBuilder(spec).withPause(true).build(), 1L), is(hash));
+        assertThat(AbstractConnectOperator.configHash("my-connector", new KafkaConnectorSpecBuilder(spec).withTasksMax(2).build(), 1L), is(not(hash)));
+        assertThat(AbstractConnectOperator.configHash("my-connector", new KafkaConnectorSpecBuilder(spec).withConfig(singletonMap("topic", "other-topic")).build(), 1L), is(not(hash)));
+        assertThat(AbstractConnectOperator.configHash("other-connector", spec, 1L), is(not(hash)));
+        assertThat(AbstractConnectOperator.configHash("my-connector", spec, 2L), is(not(hash)));
+    }
+
+    @Test
+    public void testJoinWithBoundedConcurrency()    {
+        List<Promise<Void>> started = new ArrayList<>();
+        List<Supplier<Future<Void>>> operations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            operations.add(() -> {
+                Promise<Void> promise = Promise.promise();
+                started.add(promise);
+                return promise.future();
+            });
+        }
+
+        Future<Void> result = AbstractConnectOperator.joinWithBoundedConcurrency(operations, 2);
+        assertThat(started, hasSize(2));
+
+        started.get(0).complete();
+        assertThat(started, hasSize(3));
+
+        RuntimeException failure = new RuntimeException("failed");
+        started.get(1).fail(failure);
+        assertThat(started, hasSize(4));
+
+        started.get(2).complete();
+        started.get(3).complete();
+        assertThat(started, hasSize(5));
+        assertThat(result.isComplete(), is(false));
+
+        started.get(4).complete();
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause(), is(failure));
+    }
+
+    @Test
+    public void testJoinWithBoundedConcurrencyOfCompletedOperations()    {
+        AtomicInteger started = new AtomicInteger();
+        List<Supplier<Future<Void>>> operations = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            operations.add(() -> {
+                started.incrementAndGet();
+                return Future.succeededFuture();
+            });
+        }
+
+        // The operations which complete immediately do not grow the stack
+        Future<Void> result = AbstractConnectOperator.joinWithBoundedConcurrency(operations, 2);
+        assertThat(started.get(), is(100_000));
+        assertThat(result.succeeded(), is(true));
+        assertThat(AbstractConnectOperator.joinWithBoundedConcurrency(emptyList(), 2).succeeded(), is(true));
+    }
+
+    @Test
+    public void testConnectorReconciliationRetries()    {
+        assertThat(AbstractConnectOperator.isRetriable(new ConnectTimeoutException("connection timed out")), is(true));
+        assertThat(AbstractConnectOperator.isRetriable(new TimeoutException("request timed out")), is(true));
+        assertThat(AbstractConnectOperator.isRetriable(new ConnectRestException("PUT", "/connectors/foo/config", 409, "Conflict", "rebalance in progress")), is(true));
+        assertThat(AbstractConnectOperator.isRetriable(new ConnectRestException("PUT", "/connectors/foo/config", 500, "Internal Server Error", "failed")), is(false));
+        assertThat(AbstractConnectOperator.isRetriable(new RuntimeException("failed")), is(false));
+
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            long baseDelayMs = 1_000L << (attempt - 1);
+            long delayMs = AbstractConnectOperator.retryDelayMs(attempt);
+            assertThat(delayMs >= baseDelayMs / 2 && delayMs <= baseDelayMs * 3 / 2, is(true));
+        }
+    }
+
+    @Test
+    public void testConnectorDeletionTreatsNotFoundAsSuccess()    {
+        assertThat(AbstractConnectOperator.deletedOrNotFound(Future.succeededFuture()).succeeded(), is(true));
+        assertThat(AbstractConnectOperator.deletedOrNotFound(Future.failedFuture(
+                new ConnectRestException("DELETE", "/connectors/foo", 404, "Not Found", "Connector foo not found"))).succeeded(), is(true));
+        assertThat(AbstractConnectOperator.deletedOrNotFound(Future.failedFuture(
+                new ConnectRestException("DELETE", "/connectors/foo", 409, "Conflict", "rebalance in progress"))).failed(), is(true));
+        assertThat(AbstractConnectOperator.deletedOrNotFound(Future.failedFuture(new TimeoutException("request timed out"))).failed(), is(true));
+    }
+
     @Test
     public void testCreateOrUpdateFailsWhenClusterRoleBindingRightsAreMissingButRequired(VertxTestContext context) {
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
@@ -147,7 +147,7 @@ public class KafkaMirrorMaker2AssemblyOperatorMockTest {
                 .endSpec()
             .build());
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mock.listExpanded(anyString(), anyString(), anyInt())).thenReturn(Future.succeededFuture(ConnectorsSnapshot.ofNames(emptyList())));
         when(mock.updateConnectLoggers(anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         Checkpoint async = context.checkpoint();
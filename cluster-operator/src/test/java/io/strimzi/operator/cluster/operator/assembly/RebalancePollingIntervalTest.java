@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RebalancePollingIntervalTest {
+
+    @Test
+    public void testBackOffWhileProgressUnchanged() {
+        RebalancePollingInterval interval = new RebalancePollingInterval(5_000, 30_000, 2);
+
+        assertThat(interval.initialDelayMs(), is(5_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(5_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(5_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(5_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(10_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(20_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(30_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(30_000L));
+    }
+
+    @Test
+    public void testProgressChangeResetsInterval() {
+        RebalancePollingInterval interval = new RebalancePollingInterval(5_000, 30_000, 0);
+
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(5_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(10_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(20_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.IN_EXECUTION), is(5_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.IN_EXECUTION), is(10_000L));
+    }
+
+    @Test
+    public void testFailedPollsCountAsUnchanged() {
+        RebalancePollingInterval interval = new RebalancePollingInterval(5_000, 30_000, 0);
+
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(5_000L));
+        assertThat(interval.nextDelayMs(null), is(10_000L));
+        assertThat(interval.nextDelayMs(CruiseControlUserTaskStatus.ACTIVE), is(20_000L));
+    }
+
+    @Test
+    public void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new RebalancePollingInterval(0, 30_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RebalancePollingInterval(5_000, 1_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RebalancePollingInterval(5_000, 30_000, -1));
+    }
+}
@@ -33,6 +33,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -42,6 +43,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -199,7 +202,7 @@ public class KafkaAvailabilityTest {
                 if (throwable != null) {
                     when(dtr.all()).thenReturn(failedFuture(throwable));
                 } else {
-                    Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
+                    Map<String, TopicDescription> tds = topics.entrySet().stream().filter(e -> topicNames.contains(e.getKey())).collect(Collectors.toMap(
                         e -> e.getKey(),
                         e -> {
                             TSB tsb = e.getValue();
@@ -382,6 +385,90 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testRollingTogetherWithOtherBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(3, 4, 5)
+                        .leader(3)
+                        .isr(3, 4, 5)
+                    .endPartition()
+                .endTopic();
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ksb.ac());
+
+        Checkpoint a = context.checkpoint(3);
+        kafkaAvailability.canRoll(1, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll,
+                    "broker 1 should not be rollable together with broker 0, because they share partition A-0");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(3, Set.of(0)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll,
+                    "broker 3 should be rollable together with broker 0, because they do not share any partitions");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(4, Set.of(0, 1)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll,
+                    "broker 4 should be rollable together with brokers 0 and 1, because they do not share any partitions");
+            a.flag();
+        })));
+    }
+
+    @Test
+    public void testIndexIsRefreshedBetweenChecks(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, all replicas are in sync"));
+                // Broker 0 is restarted and drops out of the ISR
+                ksb.addNewTopic("A", false).addNewPartition(0).leader(1).isr(1, 2);
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertFalse(canRoll, "broker 1 should not be rollable, broker 0 is not in sync yet"));
+                // Broker 0 caught up and a new topic was created in the meantime
+                ksb.addNewTopic("A", false).addNewPartition(0).isr(0, 1, 2);
+                ksb.addNewTopic("B", false)
+                        .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                        .addNewPartition(0)
+                            .replicaOn(1, 2, 3)
+                            .leader(2)
+                            .isr(1, 2)
+                        .endPartition();
+                return kafkaAvailability.canRoll(1);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "broker 1 should not be rollable, because of the new topic B");
+                // The topic configs are fetched only once per topic
+                verify(ac, times(2)).describeConfigs(any());
+                a.flag();
+            })));
+    }
+
     @Test
     public void testMinIsrEqualsReplicas(VertxTestContext context) {
         KSB ksb = new KSB()
@@ -9,11 +9,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,11 +27,13 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -49,10 +54,12 @@ import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -440,6 +447,104 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testConcurrentRollDoesNotRollBrokersSharingPartitionsTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+
+        // Brokers 0 and 1 share partitions => they cannot be rolled together
+        Set<Set<Integer>> inFlightTogether = ConcurrentHashMap.newKeySet();
+        Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+            noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+            (brokerId, restarting) -> succeededFuture(!(brokerId == 0 && restarting.contains(1) || brokerId == 1 && restarting.contains(0))),
+            3,
+            2) {
+            @Override
+            protected Future<Void> restart(Pod pod) {
+                int podId = podName2Number(pod.getMetadata().getName());
+                inFlight.add(podId);
+                inFlightTogether.add(Set.copyOf(inFlight));
+                super.restart(pod);
+
+                Promise<Void> restarted = Promise.promise();
+                vertx.setTimer(200, timerId -> {
+                    inFlight.remove(podId);
+                    restarted.complete();
+                });
+                return restarted.future();
+            }
+        };
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted(), containsInAnyOrder(0, 1, 2, 3, 4));
+                    // Controller is still rolled last
+                    assertThat(restarted().get(4), is(2));
+                    assertThat(kafkaRoller.restartedPods(), is(5));
+                    assertThat(inFlightTogether.stream().anyMatch(pods -> pods.size() > 1), is(true));
+                    assertThat(inFlightTogether.stream().allMatch(pods -> pods.size() <= 3), is(true));
+                    assertThat(inFlightTogether.stream().anyMatch(pods -> pods.contains(0) && pods.contains(1)), is(false));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConcurrentRollabilityChecksDoNotBlockEachOther(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+
+        // Slow rollability checks => the checks of different pods overlap unless they block each other.
+        // Brokers 0 and 1 share partitions => a check which ran while the other broker was approved is repeated.
+        AtomicInteger checksInFlight = new AtomicInteger();
+        AtomicInteger maxChecksInFlight = new AtomicInteger();
+        Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+        Set<Set<Integer>> inFlightTogether = ConcurrentHashMap.newKeySet();
+        BiFunction<Integer, Set<Integer>, Future<Boolean>> slowCheck = (brokerId, restarting) -> {
+            maxChecksInFlight.accumulateAndGet(checksInFlight.incrementAndGet(), Math::max);
+            Promise<Boolean> result = Promise.promise();
+            vertx.setTimer(100, timerId -> {
+                checksInFlight.decrementAndGet();
+                result.complete(!(brokerId == 0 && restarting.contains(1) || brokerId == 1 && restarting.contains(0)));
+            });
+            return result.future();
+        };
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+            noException(), null, noException(), noException(), noException(),
+            brokerId -> slowCheck.apply(brokerId, emptySet()),
+            slowCheck,
+            3,
+            2) {
+            @Override
+            protected Future<Void> restart(Pod pod) {
+                int podId = podName2Number(pod.getMetadata().getName());
+                inFlight.add(podId);
+                inFlightTogether.add(Set.copyOf(inFlight));
+                super.restart(pod);
+
+                Promise<Void> restarted = Promise.promise();
+                vertx.setTimer(200, timerId -> {
+                    inFlight.remove(podId);
+                    restarted.complete();
+                });
+                return restarted.future();
+            }
+        };
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+                .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                    assertThat(restarted(), containsInAnyOrder(0, 1, 2, 3, 4));
+                    assertThat(maxChecksInFlight.get() > 1, is(true));
+                    assertThat(inFlightTogether.stream().anyMatch(pods -> pods.contains(0) && pods.contains(1)), is(false));
+                    assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                    async.flag();
+                })));
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -516,7 +621,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -565,10 +670,11 @@ public class KafkaRollerTest {
     private class TestingKafkaRoller extends KafkaRoller {
 
         int controllerCall;
-        private final IdentityHashMap<Admin, Throwable> unclosedAdminClients;
+        private final Map<Admin, Throwable> unclosedAdminClients;
         private final Function<List<Integer>, RuntimeException> acOpenException;
         private final Throwable acCloseException;
         private final Function<Integer, Future<Boolean>> canRollFn;
+        private final BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollWithFn;
         private final Function<Integer, Throwable> controllerException;
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
@@ -583,9 +689,25 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, (podId, restarting) -> canRollFn.apply(podId), 1, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   BiFunction<Integer, Set<Integer>, Future<Boolean>> canRollWithFn,
+                                   int maxConcurrentRestarts,
+                                   int... controllers) {
             super(KafkaRollerTest.vertx, new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(), true,
+                maxConcurrentRestarts);
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -595,7 +717,8 @@ public class KafkaRollerTest {
             this.getConfigsException = getConfigsException;
             this.acCloseException = acCloseException;
             this.canRollFn = canRollFn;
-            this.unclosedAdminClients = new IdentityHashMap<>();
+            this.canRollWithFn = canRollWithFn;
+            this.unclosedAdminClients = Collections.synchronizedMap(new IdentityHashMap<>());
         }
 
         @Override
@@ -636,11 +759,16 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> restartingPods) {
+                    return canRollWithFn.apply(podId, restartingPods);
+                }
             };
         }
 
         @Override
-        int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws ForceableProblem {
+        synchronized int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws ForceableProblem {
             Throwable throwable = controllerException.apply(podId);
             if (throwable != null) {
                 throw new ForceableProblem("An error while trying to determine the cluster controller from pod " + podName(podId), throwable);
@@ -17,10 +17,10 @@ import org.mockserver.integration.ClientAndServer;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Collections;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKey;
-import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKeys;
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi.CC_REST_API_SUMMARY;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -78,7 +78,8 @@ public class CruiseControlClientTest {
         client.rebalance(HOST, PORT, rbOptions, null)
             .onComplete(context.succeeding(result -> context.verify(() -> {
                 assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-                assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+                // Only the summary is parsed from the response, the goal summaries and the broker loads are skipped
+                assertThat(result.getJson().fieldNames(), is(Collections.singleton("summary")));
                 checkpoint.flag();
             })));
     }
@@ -95,7 +96,8 @@ public class CruiseControlClientTest {
         client.rebalance(HOST, PORT, rbOptions, null)
             .onComplete(context.succeeding(result -> context.verify(() -> {
                 assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID));
-                assertThat(result.getJson(), hasKeys("summary", "goalSummary", "proposals", "loadAfterOptimization", "loadBeforeOptimization"));
+                assertThat(result.getJson().fieldNames(), is(Collections.singleton("summary")));
+                assertThat(result.getJson().getJsonObject("summary").getInteger("numReplicaMovements"), is(notNullValue()));
                 checkpoint.flag();
             })));
     }
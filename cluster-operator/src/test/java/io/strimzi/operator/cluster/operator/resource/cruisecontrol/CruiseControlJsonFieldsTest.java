@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CruiseControlJsonFieldsTest {
+
+    private static final CruiseControlJsonFields REBALANCE_FIELDS = new CruiseControlJsonFields(
+            CruiseControlApi.CC_REST_API_SUMMARY, CruiseControlApi.CC_REST_API_PROGRESS_KEY, CruiseControlApi.CC_REST_API_ERROR_KEY);
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream is = Objects.requireNonNull(CruiseControlJsonFieldsTest.class.getClassLoader()
+                .getResourceAsStream("io/strimzi/operator/cluster/operator/assembly/CruiseControlJSON/" + name))) {
+            return is.readAllBytes();
+        }
+    }
+
+    @Test
+    public void testExtractSummaryFromVerboseProposal() throws IOException {
+        byte[] json = resource("CC-Rebalance-no-goals-verbose.json");
+        JsonObject extracted = REBALANCE_FIELDS.extract(json);
+
+        assertThat(extracted.fieldNames(), is(Collections.singleton(CruiseControlApi.CC_REST_API_SUMMARY)));
+        assertThat(extracted.getJsonObject(CruiseControlApi.CC_REST_API_SUMMARY),
+                is(new JsonObject(new String(json, StandardCharsets.UTF_8)).getJsonObject(CruiseControlApi.CC_REST_API_SUMMARY)));
+    }
+
+    @Test
+    public void testExtractProgress() throws IOException {
+        CruiseControlRebalanceResponse response = new CruiseControlRebalanceResponse("user-task",
+                REBALANCE_FIELDS.extract(resource("CC-Rebalance-no-goals-in-progress.json")));
+
+        assertThat(response.getJson().fieldNames(), is(Collections.singleton(CruiseControlApi.CC_REST_API_PROGRESS_KEY)));
+        assertThat(response.getProgressSteps(), is(Arrays.asList("PENDING", "WAITING_FOR_CLUSTER_MODEL")));
+    }
+
+    @Test
+    public void testExtractError() throws IOException {
+        JsonObject extracted = REBALANCE_FIELDS.extract(resource("CC-Rebalance-NotEnoughValidWindows-error.json"));
+
+        assertThat(extracted.getString(CruiseControlApi.CC_REST_API_ERROR_KEY).contains("NotEnoughValidWindowsException"), is(true));
+    }
+
+    @Test
+    public void testExtractSkipsNestedFieldsWithSelectedNames() {
+        JsonObject extracted = REBALANCE_FIELDS.extract(
+                "{\"goalSummary\":[{\"summary\":{\"a\":1}}],\"loadAfterOptimization\":{\"summary\":2},\"summary\":{\"b\":3}}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(new HashSet<>(extracted.fieldNames()), is(Collections.singleton(CruiseControlApi.CC_REST_API_SUMMARY)));
+        assertThat(extracted.getJsonObject(CruiseControlApi.CC_REST_API_SUMMARY), is(new JsonObject().put("b", 3)));
+    }
+
+    @Test
+    public void testExtractFailsForInvalidJson() {
+        assertThrows(DecodeException.class, () -> REBALANCE_FIELDS.extract("[]".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(DecodeException.class, () -> REBALANCE_FIELDS.extract("{\"summary\":{".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -74,6 +74,7 @@ public abstract class AbstractOperator<
     private static final Logger log = LogManager.getLogger(AbstractOperator.class);
 
     protected static final int LOCK_TIMEOUT_MS = 10000;
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = Integer.MAX_VALUE;
     public static final String METRICS_PREFIX = "strimzi.";
 
     protected final Vertx vertx;
@@ -86,11 +87,26 @@ public abstract class AbstractOperator<
     private final Counter failedReconciliationsCounter;
     private final Counter successfulReconciliationsCounter;
     private final Counter lockedReconciliationsCounter;
+    private final Counter coalescedReconciliationsCounter;
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
     private final Map<Tags, AtomicInteger> resourcesStateCounter;
+    private final ReconciliationWorkQueue workQueue;
 
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics) {
+        this(vertx, kind, resourceOperator, metrics, DEFAULT_MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx The Vert.x instance
+     * @param kind The kind of the custom resource handled by this operator
+     * @param resourceOperator The resource operator for the custom resource
+     * @param metrics The metrics provider
+     * @param maxConcurrentReconciliations Maximal number of reconciliations which this operator runs at the same time
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, int maxConcurrentReconciliations) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
@@ -119,6 +135,10 @@ public abstract class AbstractOperator<
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running",
                 metricTags);
 
+        coalescedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.coalesced",
+                "Number of reconciliations merged into another queued or pending reconciliation of the same resource",
+                metricTags);
+
         resourceCounter = metrics.gauge(METRICS_PREFIX + "resources",
                 "Number of custom resources the operator sees",
                 metricTags);
@@ -128,6 +148,8 @@ public abstract class AbstractOperator<
                 metricTags);
 
         resourcesStateCounter = new ConcurrentHashMap<>();
+
+        workQueue = new ReconciliationWorkQueue(maxConcurrentReconciliations, coalescedReconciliationsCounter::increment);
     }
 
     @Override
@@ -177,8 +199,21 @@ public abstract class AbstractOperator<
      * @return A Future which is completed with the result of the reconciliation.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        String key = reconciliation.namespace() + "/" + reconciliation.name();
+        boolean urgent = OperatorWatcher.TRIGGER.equals(reconciliation.trigger());
+
+        return workQueue.submit(key, urgent, () -> reconcileWithLock(reconciliation));
+    }
+
+    /**
+     * Runs the reconciliation when it is taken from the work queue.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    @SuppressWarnings("unchecked")
+    private Future<Void> reconcileWithLock(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
@@ -482,6 +517,10 @@ public abstract class AbstractOperator<
         return resourceCounter;
     }
 
+    public MetricsProvider getMetricsProvider() {
+        return metrics;
+    }
+
     /**
      * Updates the resource state metric for the provided reconciliation which brings kind, name and namespace
      * of the custom resource.
@@ -26,6 +26,15 @@ public class MicrometerMetricsProvider implements MetricsProvider {
         this.metrics = BackendRegistries.getDefaultNow();
     }
 
+    /**
+     * Constructor of the Micrometer metrics provider using a specific registry
+     *
+     * @param metrics   Meter registry which should be used for the metrics
+     */
+    public MicrometerMetricsProvider(MeterRegistry metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Returns the Micrometer MeterRegistry with all metrics
      *
@@ -17,6 +17,8 @@ import java.util.function.Consumer;
  * @param <T> The resource type
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
+    static final String TRIGGER = "watch";
+
     private final String namespace;
     private final Consumer<WatcherException> onClose;
     private Operator operator;
@@ -36,7 +38,7 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case ADDED:
             case DELETED:
             case MODIFIED:
-                Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
+                Reconciliation reconciliation = new Reconciliation(TRIGGER, operator.kind(), namespace, name);
                 log.info("{}: {} {} in namespace {} was {}", reconciliation, operator.kind(), name, namespace, action);
                 operator.reconcile(reconciliation);
                 break;
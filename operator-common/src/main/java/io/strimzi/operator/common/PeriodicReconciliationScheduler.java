@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spreads the periodic reconciliations of the resources of one {@link Operator} over the reconciliation interval
+ * instead of reconciling all of them at the same time.
+ *
+ * Every resource gets a stable offset within the interval derived from the hash of its namespace and name. A resource
+ * is therefore still reconciled once per interval, but the reconciliations of different resources (and of different
+ * kinds) do not hit the Kubernetes API server at the same time. The number of reconciliations running at the same time
+ * can be additionally limited by the work queue of the operator (see {@link AbstractOperator}).
+ */
+public class PeriodicReconciliationScheduler {
+    private static final Logger log = LogManager.getLogger(PeriodicReconciliationScheduler.class);
+
+    private final Vertx vertx;
+    private final Operator operator;
+    private final String namespace;
+    private final long intervalMs;
+
+    private final Map<NamespaceAndName, Long> timers = new ConcurrentHashMap<>();
+    private final AtomicInteger scheduledGauge;
+    private final AtomicInteger busiestSecondGauge;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vert.x instance
+     * @param operator      Operator which should be used for the reconciliations
+     * @param namespace     Namespace which should be reconciled or {@code *} for all namespaces
+     * @param intervalMs    Reconciliation interval over which the reconciliations should be spread
+     * @param metrics       Metrics provider
+     */
+    public PeriodicReconciliationScheduler(Vertx vertx, Operator operator, String namespace, long intervalMs, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.operator = operator;
+        this.namespace = namespace;
+        this.intervalMs = intervalMs;
+
+        Tags metricTags = Tags.of(Tag.of("kind", operator.kind()), Tag.of("namespace", namespace));
+
+        scheduledGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.periodical.scheduled",
+                "Number of periodic reconciliations scheduled but not started yet",
+                metricTags);
+
+        busiestSecondGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.periodical.busiest.second",
+                "Highest number of periodic reconciliations scheduled to start within the same second of the reconciliation interval",
+                metricTags);
+    }
+
+    /**
+     * Calculates the stable offset of a periodic action within a time window
+     *
+     * @param key       Key identifying the resource or the action
+     * @param windowMs  Length of the window in milliseconds
+     *
+     * @return  Offset in milliseconds between 0 (inclusive) and windowMs (exclusive)
+     */
+    public static long offsetMs(String key, long windowMs) {
+        if (windowMs <= 0) {
+            return 0;
+        }
+
+        // String.hashCode() is stable, but the values of similar keys (e.g. my-cluster-1 and my-cluster-2) are close
+        // to each other. The name based UUID uses MD5 which distributes them evenly.
+        long hash = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).getLeastSignificantBits();
+        return Math.floorMod(hash, windowMs);
+    }
+
+    /**
+     * Lists the resources and schedules their reconciliations at their offsets within the interval. The interval
+     * starts when this method is called, so that listing many resources does not shift the reconciliations. The
+     * reconciliations of resources which are still scheduled from the previous call are kept, the reconciliations of
+     * resources which do not exist any more are cancelled.
+     *
+     * @param trigger   The cause of the reconciliations (for logging)
+     */
+    public void reconcileAll(String trigger) {
+        long intervalStartNanos = System.nanoTime();
+        operator.allResourceNames(namespace).onComplete(res -> {
+            if (res.succeeded()) {
+                operator.getPeriodicReconciliationsCounter().increment();
+                schedule(trigger, res.result(), intervalStartNanos);
+            } else {
+                log.warn("Failed to list {} resources in namespace {} for periodic reconciliation", operator.kind(), namespace, res.cause());
+            }
+        });
+    }
+
+    private void schedule(String trigger, Set<NamespaceAndName> desiredNames, long intervalStartNanos) {
+        for (Map.Entry<NamespaceAndName, Long> timer : timers.entrySet()) {
+            if (!desiredNames.contains(timer.getKey()) && timers.remove(timer.getKey(), timer.getValue())) {
+                vertx.cancelTimer(timer.getValue());
+                scheduledGauge.decrementAndGet();
+            }
+        }
+        operator.getResourceCounter().set(desiredNames.size());
+
+        Map<Long, Integer> perSecond = new HashMap<>();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - intervalStartNanos);
+
+        for (NamespaceAndName resourceRef : desiredNames) {
+            long offset = offsetMs(operator.kind() + "/" + resourceRef, intervalMs);
+            perSecond.merge(offset / 1_000, 1, Integer::sum);
+
+            if (timers.containsKey(resourceRef)) {
+                // The reconciliation from the previous interval did not start yet. Re-arming it would postpone it by
+                // another interval.
+                continue;
+            }
+
+            // Vert.x timers need a delay of at least 1ms. Resources whose offset passed while listing are due now.
+            long timerId = vertx.setTimer(Math.max(1, offset - elapsedMs), id -> {
+                if (timers.remove(resourceRef, id)) {
+                    scheduledGauge.decrementAndGet();
+                    operator.reconcile(new Reconciliation(trigger, operator.kind(), resourceRef.getNamespace(), resourceRef.getName()));
+                }
+            });
+
+            timers.put(resourceRef, timerId);
+            scheduledGauge.incrementAndGet();
+        }
+
+        busiestSecondGauge.set(perSecond.values().stream().mapToInt(Integer::intValue).max().orElse(0));
+        log.debug("Scheduled periodic reconciliation of {} {} resources in namespace {}", desiredNames.size(), operator.kind(), namespace);
+    }
+
+    /**
+     * Cancels all periodic reconciliations which did not start yet
+     */
+    public void cancel() {
+        for (Map.Entry<NamespaceAndName, Long> timer : timers.entrySet()) {
+            if (timers.remove(timer.getKey(), timer.getValue())) {
+                vertx.cancelTimer(timer.getValue());
+                scheduledGauge.decrementAndGet();
+            }
+        }
+    }
+}
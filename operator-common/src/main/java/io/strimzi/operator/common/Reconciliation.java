@@ -31,6 +31,10 @@ public class Reconciliation {
         this.id = IDS.getAndIncrement();
     }
 
+    public String trigger() {
+        return trigger;
+    }
+
     public String kind() {
         return kind;
     }
@@ -0,0 +1,191 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Work queue used by {@link AbstractOperator} to run the reconciliations of its custom resources.
+ *
+ * <ul>
+ *     <li>At most one reconciliation runs for each resource at any time. Reconciliations requested for a resource
+ *     which is already waiting in the queue are merged into the waiting one. Reconciliations requested for a resource
+ *     which is being reconciled right now are merged into a single follow-up reconciliation which is queued once the
+ *     running one completes.</li>
+ *     <li>At most {@code maxConcurrency} reconciliations run at the same time.</li>
+ *     <li>Urgent reconciliations (triggered by watch events) are started before the regular ones (triggered by the
+ *     periodic timer).</li>
+ * </ul>
+ */
+class ReconciliationWorkQueue {
+    private static final Logger log = LogManager.getLogger(ReconciliationWorkQueue.class);
+
+    private final int maxConcurrency;
+    private final Runnable onCoalesced;
+
+    private final Map<String, Work> works = new HashMap<>();
+    private final Deque<Work> urgentQueue = new ArrayDeque<>();
+    private final Deque<Work> regularQueue = new ArrayDeque<>();
+    private int running = 0;
+
+    /**
+     * Single (possibly merged) reconciliation of one resource
+     */
+    private static class Work {
+        private final String key;
+        private final Supplier<Future<Void>> task;
+        private final Promise<Void> promise = Promise.promise();
+        private boolean urgent;
+        private boolean started = false;
+        private Work followUp = null;
+
+        Work(String key, boolean urgent, Supplier<Future<Void>> task) {
+            this.key = key;
+            this.urgent = urgent;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxConcurrency    Maximal number of reconciliations running at the same time
+     * @param onCoalesced       Callback called every time a reconciliation is merged into another one
+     */
+    ReconciliationWorkQueue(int maxConcurrency, Runnable onCoalesced) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximal number of concurrent reconciliations has to be at least 1");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.onCoalesced = onCoalesced;
+    }
+
+    /**
+     * Submits reconciliation of a resource
+     *
+     * @param key       Key identifying the resource
+     * @param urgent    Whether the reconciliation should be started ahead of the non-urgent reconciliations
+     * @param task      The reconciliation itself. It is not called at all when the reconciliation is merged into
+     *                  another reconciliation of the same resource.
+     *
+     * @return  Future which completes when the (possibly merged) reconciliation completes
+     */
+    Future<Void> submit(String key, boolean urgent, Supplier<Future<Void>> task) {
+        Future<Void> result;
+
+        synchronized (this) {
+            Work work = works.get(key);
+
+            if (work == null) {
+                work = new Work(key, urgent, task);
+                works.put(key, work);
+                enqueue(work);
+                result = work.promise.future();
+            } else if (!work.started) {
+                log.debug("Reconciliation of {} is already queued and will be reused", key);
+                onCoalesced.run();
+
+                if (urgent && !work.urgent) {
+                    regularQueue.remove(work);
+                    work.urgent = true;
+                    enqueue(work);
+                }
+
+                result = work.promise.future();
+            } else if (work.followUp == null) {
+                log.debug("Reconciliation of {} is in progress, follow-up reconciliation will be queued", key);
+                work.followUp = new Work(key, urgent, task);
+                result = work.followUp.promise.future();
+            } else {
+                log.debug("Reconciliation of {} is in progress and the follow-up reconciliation will be reused", key);
+                onCoalesced.run();
+                work.followUp.urgent |= urgent;
+                result = work.followUp.promise.future();
+            }
+        }
+
+        dispatch();
+
+        return result;
+    }
+
+    /**
+     * @return  Number of reconciliations waiting in the queue
+     */
+    synchronized int queued() {
+        return urgentQueue.size() + regularQueue.size();
+    }
+
+    private void enqueue(Work work) {
+        if (work.urgent) {
+            urgentQueue.add(work);
+        } else {
+            regularQueue.add(work);
+        }
+    }
+
+    /**
+     * Starts as many queued reconciliations as the concurrency limit allows. The reconciliations are started outside
+     * of the synchronized block because they might complete (and call this method again) synchronously.
+     */
+    private void dispatch() {
+        List<Work> toStart = new ArrayList<>();
+
+        synchronized (this) {
+            while (running < maxConcurrency) {
+                Work next = urgentQueue.isEmpty() ? regularQueue.poll() : urgentQueue.poll();
+
+                if (next == null) {
+                    break;
+                }
+
+                next.started = true;
+                running++;
+                toStart.add(next);
+            }
+        }
+
+        for (Work work : toStart) {
+            Future<Void> taskResult;
+
+            try {
+                taskResult = work.task.get();
+            } catch (Throwable t) {
+                taskResult = Future.failedFuture(t);
+            }
+
+            taskResult.onComplete(res -> complete(work, res));
+        }
+    }
+
+    private void complete(Work work, AsyncResult<Void> result) {
+        synchronized (this) {
+            running--;
+
+            if (work.followUp != null) {
+                works.put(work.key, work.followUp);
+                enqueue(work.followUp);
+            } else {
+                works.remove(work.key);
+            }
+        }
+
+        work.promise.handle(result);
+        dispatch();
+    }
+}
@@ -6,6 +6,9 @@ package io.strimzi.operator.common;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.strimzi.api.kafka.model.ExternalLogging;
 import io.strimzi.api.kafka.model.JmxPrometheusExporterMetrics;
 import io.strimzi.api.kafka.model.Logging;
@@ -16,10 +19,12 @@ import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.logging.log4j.LogManager;
@@ -47,6 +52,7 @@ import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -149,6 +155,156 @@ public class Util {
         return promise.future();
     }
 
+    /**
+     * Wait until the given {@code completed} supplier returns true or {@code timeoutMs} milliseconds have elapsed. Unlike
+     * {@link #waitFor(Vertx, String, String, long, long, BooleanSupplier, Predicate)}, the supplier is not called
+     * periodically but every time the watch created by {@code watch} receives an event. The supplier is polled every
+     * {@code pollIntervalMs} milliseconds only when the watch cannot be created or when it is closed.
+     *
+     * @param vertx The vertx instance.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when the watch is not available.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param failOnError Determine whether a given error thrown by {@code completed},
+     *                    should result in the immediate completion of the returned Future.
+     * @param watch Creates the watch of the resource(s) which the {@code completed} supplier depends on. It is called
+     *              on a pooled thread and the watch is closed once the returned Future completes.
+     * @param <T> The type of the watched resource.
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    public static <T> Future<Void> waitFor(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+                                           Predicate<Throwable> failOnError, Function<Watcher<T>, Watch> watch) {
+        Promise<Void> promise = Promise.promise();
+        LOGGER.debug("Waiting for {} to get {}", logContext, logState);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        Context context = vertx.getOrCreateContext();
+        WorkerExecutor executor = vertx.createSharedWorkerExecutor("kubernetes-ops-pool");
+
+        // All the state is accessed only from the context thread
+        class WatchingHandler implements Handler<Void> {
+            private Watch openWatch = null;
+            private boolean polling = false;
+            private boolean checking = false;
+            private boolean recheck = false;
+            private long timerId = -1;
+
+            private void start() {
+                executor.executeBlocking(
+                    future -> {
+                        future.complete(watch.apply(new Watcher<T>() {
+                            @Override
+                            public void eventReceived(Action action, T resource) {
+                                LOGGER.trace("{} received {} event while waiting to get {}", logContext, action, logState);
+                                context.runOnContext(v -> onEvent());
+                            }
+
+                            @Override
+                            public void onClose(WatcherException cause) {
+                                LOGGER.debug("Watch of {} closed while waiting to get {}, falling back to polling", logContext, logState);
+                                context.runOnContext(v -> startPolling());
+                            }
+                        }));
+                    },
+                    false,
+                    res -> {
+                        if (res.succeeded() && res.result() != null) {
+                            openWatch = (Watch) res.result();
+
+                            if (promise.future().isComplete()) {
+                                openWatch.close();
+                            } else {
+                                // The resource might have changed before the watch was opened
+                                onEvent();
+                            }
+                        } else {
+                            LOGGER.debug("Failed to watch {} while waiting to get {}, falling back to polling", logContext, logState, res.cause());
+                            startPolling();
+                        }
+                    });
+            }
+
+            private void onEvent() {
+                if (!promise.future().isComplete()) {
+                    vertx.cancelTimer(timerId);
+                    handle(null);
+                }
+            }
+
+            private void startPolling() {
+                polling = true;
+                onEvent();
+            }
+
+            @Override
+            public void handle(Void ignore) {
+                if (checking) {
+                    recheck = true;
+                    return;
+                }
+
+                checking = true;
+                executor.executeBlocking(
+                    future -> {
+                        try {
+                            if (completed.getAsBoolean())   {
+                                future.complete();
+                            } else {
+                                LOGGER.trace("{} is not {}", logContext, logState);
+                                future.fail("Not " + logState + " yet");
+                            }
+                        } catch (Throwable e) {
+                            LOGGER.warn("Caught exception while waiting for {} to get {}", logContext, logState, e);
+                            future.fail(e);
+                        }
+                    },
+                    true,
+                    res -> {
+                        checking = false;
+
+                        if (res.succeeded()) {
+                            LOGGER.debug("{} is {}", logContext, logState);
+                            complete(Future.succeededFuture());
+                        } else if (failOnError.test(res.cause())) {
+                            complete(Future.failedFuture(res.cause()));
+                        } else {
+                            long timeLeft = deadline - System.currentTimeMillis();
+                            if (timeLeft <= 0) {
+                                String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                                LOGGER.error(exceptionMessage);
+                                complete(Future.failedFuture(new TimeoutException(exceptionMessage)));
+                            } else if (recheck) {
+                                recheck = false;
+                                handle(null);
+                            } else {
+                                // With the watch, the timer only makes sure that the timeout is detected
+                                timerId = vertx.setTimer(polling ? Math.min(pollIntervalMs, timeLeft) : timeLeft, id -> handle(null));
+                            }
+                        }
+                    }
+                );
+            }
+
+            private void complete(Future<Void> result) {
+                if (openWatch != null) {
+                    openWatch.close();
+                }
+
+                promise.handle(result);
+            }
+        }
+
+        WatchingHandler handler = new WatchingHandler();
+        context.runOnContext(v -> {
+            handler.start();
+            // Call the handler ourselves the first time
+            handler.handle(null);
+        });
+
+        return promise.future();
+    }
+
     /**
      * Parse a map from String.
      * For example a map of images {@code 2.0.0=strimzi/kafka:latest-kafka-2.0.0, 2.1.0=strimzi/kafka:latest-kafka-2.1.0}
@@ -49,6 +49,14 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
      * @return Whether the resource in in the Ready state.
      */
     public boolean isReady(String namespace, String name) {
+        ResourceCache<T> cache = cacheFor(namespace);
+
+        T cached = cache != null ? cache.get(namespace, name) : null;
+
+        if (cached != null) {
+            return !Readiness.isReadinessApplicable(cached.getClass()) || Readiness.isReady(cached);
+        }
+
         R resourceOp = operation().inNamespace(namespace).withName(name);
         T resource = resourceOp.get();
         if (resource != null)   {
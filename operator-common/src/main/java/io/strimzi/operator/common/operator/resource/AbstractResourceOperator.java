@@ -9,12 +9,16 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
@@ -24,10 +28,12 @@ import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 
 /**
@@ -50,6 +56,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
 
+    private final Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -79,6 +87,126 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return reconcile(resource.getMetadata().getNamespace(), resource.getMetadata().getName(), resource);
     }
 
+    /**
+     * Enables the watch-backed cache for the given namespace. Once the cache is synced, GETs and LISTs of the
+     * resources in this namespace which have the given label are served from the cache instead of the Kubernetes API
+     * server. Other reads as well as creates, patches and deletes are still sent to the Kubernetes API server. Can be
+     * called once for each watched namespace.
+     *
+     * @param namespace The namespace which should be cached or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}
+     * @param label The key of the label which the cached resources have
+     * @param metrics The metrics provider used for the cache metrics
+     * @return A future which completes when the cache is synced
+     */
+    public Future<Void> enableCache(String namespace, String label, MetricsProvider metrics) {
+        ResourceCache<T> cache = new ResourceCache<>(vertx, resourceKind, namespace, label,
+            () -> (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace() : operation().inNamespace(namespace)).withLabel(label),
+            metrics);
+
+        return cache.start()
+                .onSuccess(ignore -> caches.put(namespace, cache))
+                .mapEmpty();
+    }
+
+    /**
+     * Returns the cache for given namespace if it is enabled and synced. The resources which are not in the cache
+     * still have to be read from the Kubernetes API server. Otherwise records a cache miss on the cache
+     * of the namespace (when it has one) and returns null. Reads from namespaces which are not cached at all are not
+     * counted as misses.
+     *
+     * @param namespace The namespace
+     * @return The cache or null when the namespace cannot be served from the cache
+     */
+    protected ResourceCache<T> cacheFor(String namespace) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.getOrDefault(namespace, caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE));
+
+        if (cache != null && cache.covers(namespace)) {
+            return cache;
+        } else {
+            if (cache != null) {
+                cache.miss();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns the cache for given namespace if it is enabled, synced and holds all the resources matching the selector.
+     * Otherwise records a cache miss on the cache of the namespace (when it has one) and returns null.
+     *
+     * @param namespace The namespace
+     * @param selector The selector of the LIST
+     * @return The cache or null when the LIST cannot be served from the cache
+     */
+    protected ResourceCache<T> cacheFor(String namespace, Labels selector) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.getOrDefault(namespace, caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE));
+
+        if (cache != null && cache.covers(namespace, selector)) {
+            return cache;
+        } else {
+            if (cache != null) {
+                cache.miss();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Gets the current resource from the cache if possible or from the Kubernetes API server otherwise.
+     */
+    private T getCurrent(String namespace, String name) {
+        ResourceCache<T> cache = cacheFor(namespace);
+
+        T resource = cache != null ? cache.get(namespace, name) : null;
+
+        if (resource != null) {
+            return resource;
+        } else {
+            return operation().inNamespace(namespace).withName(name).get();
+        }
+    }
+
+    /**
+     * Removes the resource from the cache (when enabled) after the operator deleted it outside of
+     * {@link #reconcile(String, String, HasMetadata)}, so that the next read does not return the deleted resource.
+     *
+     * @param namespace The namespace of the deleted resource
+     * @param name The name of the deleted resource
+     */
+    protected void invalidateCache(String namespace, String name) {
+        ResourceCache<T> cache = caches.getOrDefault(namespace, caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE));
+
+        if (cache != null) {
+            cache.remove(namespace, name);
+        }
+    }
+
+    /**
+     * Applies the result of our own write to the cache to make sure the next read sees it even before the watch
+     * event arrives.
+     */
+    private ReconcileResult<T> updateCache(String namespace, String name, ReconcileResult<T> result) {
+        ResourceCache<T> cache = caches.getOrDefault(namespace, caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE));
+
+        if (cache != null) {
+            if (result.resourceOpt().isPresent()) {
+                cache.update(result.resource());
+            } else if (result == ReconcileResult.<T>deleted()) {
+                cache.remove(namespace, name);
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Asynchronously reconciles the resource with the given namespace and name to match the given
      * desired resource, returning a future for the result.
@@ -97,20 +225,42 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                T current = getCurrent(namespace, name);
                 if (desired != null) {
                     if (current == null) {
                         log.debug("{} {}/{} does not exist, creating it", resourceKind, namespace, name);
-                        internalCreate(namespace, name, desired).onComplete(future);
+                        internalCreate(namespace, name, desired)
+                                .recover(error -> {
+                                    if (!caches.isEmpty() && isConflict(error)) {
+                                        // The cache did not know about the resource yet => patch the version from the API server
+                                        T live = operation().inNamespace(namespace).withName(name).get();
+                                        if (live != null) {
+                                            log.debug("{} {}/{} already exists, patching it", resourceKind, namespace, name);
+                                            return internalPatch(namespace, name, live, desired);
+                                        } else {
+                                            // It was deleted again in the meantime => retry the create once
+                                            log.debug("{} {}/{} was deleted in the meantime, creating it again", resourceKind, namespace, name);
+                                            return internalCreate(namespace, name, desired);
+                                        }
+                                    } else {
+                                        return Future.failedFuture(error);
+                                    }
+                                })
+                                .map(result -> updateCache(namespace, name, result))
+                                .onComplete(future);
                     } else {
                         log.debug("{} {}/{} already exists, patching it", resourceKind, namespace, name);
-                        internalPatch(namespace, name, current, desired).onComplete(future);
+                        internalPatch(namespace, name, current, desired)
+                                .map(result -> updateCache(namespace, name, result))
+                                .onComplete(future);
                     }
                 } else {
                     if (current != null) {
                         // Deletion is desired
                         log.debug("{} {}/{} exist, deleting it", resourceKind, namespace, name);
-                        internalDelete(namespace, name).onComplete(future);
+                        internalDelete(namespace, name)
+                                .map(result -> updateCache(namespace, name, result))
+                                .onComplete(future);
                     } else {
                         log.debug("{} {}/{} does not exist, noop", resourceKind, namespace, name);
                         future.complete(ReconcileResult.noop(null));
@@ -170,6 +320,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return CompositeFuture.join(watchForDeleteFuture, deleteFuture).map(ReconcileResult.deleted());
     }
 
+    private static boolean isConflict(Throwable error) {
+        return error instanceof KubernetesClientException
+                && ((KubernetesClientException) error).getCode() == HttpURLConnection.HTTP_CONFLICT;
+    }
+
     protected long deleteTimeoutMs() {
         return ResourceSupport.DEFAULT_TIMEOUT_MS;
     }
@@ -229,7 +384,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return operation().inNamespace(namespace).withName(name).get();
+        return getCurrent(namespace, name);
     }
 
     /**
@@ -242,7 +397,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
-        return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+
+        ResourceCache<T> cache = cacheFor(namespace);
+        T resource = cache != null ? cache.get(namespace, name) : null;
+
+        if (resource != null) {
+            return Future.succeededFuture(resource);
+        } else {
+            return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
+        }
     }
 
     /**
@@ -252,7 +415,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
-        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
+        ResourceCache<T> cache = cacheFor(namespace, selector);
+
+        if (cache != null) {
+            return cache.list(namespace, selector);
+        } else if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
             return listInNamespace(namespace, selector);
@@ -299,6 +466,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = cacheFor(namespace, selector);
+
+        if (cache != null) {
+            return Future.succeededFuture(cache.list(namespace, selector));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -346,23 +519,56 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
-     * is ready.
+     * is ready. The predicate is evaluated every time the resource changes. It is polled only when the resource
+     * cannot be watched.
      *
      * @param namespace The namespace.
      * @param name The resource name.
      * @param logState The state we are waiting for use in log messages
-     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param pollIntervalMs The poll interval in milliseconds used when the resource cannot be watched.
      * @param timeoutMs The timeout, in milliseconds.
      * @param predicate The predicate.
      * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
      */
     public Future<Void> waitFor(String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
-        return Util.waitFor(vertx,
+        return Util.<T>waitFor(vertx,
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             logState,
             pollIntervalMs,
             timeoutMs,
-            () -> predicate.test(namespace, name));
+            () -> predicate.test(namespace, name),
+            error -> false,
+            watcher -> watch(namespace, name, watcher));
+    }
+
+    /**
+     * Watch the resource identified by the given {@code namespace} and {@code name} using the given {@code watcher}.
+     * The events are passed to the cache first (when enabled) so that the reads done after the event already see the
+     * changed resource.
+     *
+     * @param namespace The namespace
+     * @param name The name
+     * @param watcher The watcher
+     * @return The watch
+     */
+    public Watch watch(String namespace, String name, Watcher<T> watcher) {
+        ResourceCache<T> cache = caches.getOrDefault(namespace, caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE));
+
+        return operation().inNamespace(namespace).withName(name).watch(new Watcher<T>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                if (cache != null) {
+                    cache.eventReceived(action, resource);
+                }
+
+                watcher.eventReceived(action, resource);
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                watcher.onClose(cause);
+            }
+        });
     }
 }
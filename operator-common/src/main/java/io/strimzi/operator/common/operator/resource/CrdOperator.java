@@ -65,12 +65,14 @@ public class CrdOperator<C extends KubernetesClient,
     protected Future<ReconcileResult<T>> internalDelete(String namespace, String name, boolean cascading) {
         Resource<T> resourceOp = operation().inNamespace(namespace).withName(name);
 
-        Future<Void> watchForDeleteFuture = Util.waitFor(vertx,
+        Future<Void> watchForDeleteFuture = Util.<T>waitFor(vertx,
             String.format("%s resource %s", resourceKind, name),
             "deleted",
             1_000,
             deleteTimeoutMs(),
-            () -> resourceOp.get() != null);
+            () -> resourceOp.get() != null,
+            error -> false,
+            watcher -> watch(namespace, name, watcher));
 
         Future<Void> deleteFuture = resourceSupport.deleteAsync(resourceOp.withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).withGracePeriod(-1L));
 
@@ -0,0 +1,424 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Watch-backed in-memory cache of the resources of one kind in one namespace (or in all namespaces) which have a given
+ * label, for example the label which the operator sets on all the resources it manages. Limiting the cache to such
+ * resources keeps it from holding, for example, all the Secrets of the whole Kubernetes cluster.
+ * It is used by {@link AbstractResourceOperator} to answer GETs and LISTs without a round-trip to the Kubernetes
+ * API server. GETs of resources which are not in the cache and LISTs with a selector which does not require the label
+ * cannot be answered from the cache, because the resources might exist without the label. Writes still go to the API
+ * server; their results are applied to the cache straight away, so the operator always reads its own writes even
+ * before the corresponding watch event arrives. The cache keeps the resources serialized and returns new copies
+ * deserialized from them, so the callers can modify the resources they read or write without changing the cached
+ * resources seen by the other readers.
+ *
+ * @param <T> The Kubernetes resource type.
+ */
+public class ResourceCache<T extends HasMetadata> implements Watcher<T> {
+    private static final Logger log = LogManager.getLogger(ResourceCache.class);
+
+    /* test */ static final long RESYNC_DELAY_MS = 1_000;
+
+    private final Vertx vertx;
+    private final String resourceKind;
+    private final String namespace;
+    private final String label;
+    private final Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>>> operation;
+    private final Map<String, Cached<T>> resources = new ConcurrentHashMap<>();
+
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final Counter resyncsCounter;
+    private final AtomicInteger resourcesGauge;
+    private final AtomicInteger syncedGauge;
+
+    private volatile boolean synced = false;
+    private volatile boolean closed = false;
+    private volatile Watch watch;
+
+    /**
+     * Cached resource. The resource itself is used only to filter and compare the cached resources and is never
+     * handed out. The readers get copies deserialized from its JSON.
+     */
+    private static class Cached<T extends HasMetadata> {
+        private final Class<T> type;
+        private final byte[] json;
+        private final T resource;
+
+        @SuppressWarnings("unchecked")
+        Cached(T resource) {
+            try {
+                this.type = (Class<T>) resource.getClass();
+                this.json = Serialization.jsonMapper().writeValueAsBytes(resource);
+                // Deserialized from the JSON so that the caller cannot change it afterwards
+                this.resource = copy();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        T copy() {
+            try {
+                return Serialization.jsonMapper().readValue(json, type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx         The Vert.x instance
+     * @param resourceKind  Kind of the cached resources (used for logging and metrics)
+     * @param namespace     Namespace which is cached or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}
+     * @param label         Key of the label which all the cached resources have
+     * @param operation     Supplier of the operation used to list and watch the cached resources. It has to select
+     *                      only the resources with the label.
+     * @param metrics       Metrics provider used for the cache hit rate and health metrics
+     */
+    public ResourceCache(Vertx vertx, String resourceKind, String namespace, String label,
+                         Supplier<FilterWatchListDeletable<T, ? extends KubernetesResourceList<T>>> operation,
+                         MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.resourceKind = resourceKind;
+        this.namespace = namespace;
+        this.label = label;
+        this.operation = operation;
+
+        Tags metricTags = Tags.of(Tag.of("kind", resourceKind), Tag.of("namespace", namespace));
+
+        this.hitsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.hits",
+                "Number of reads served from the resource cache",
+                metricTags);
+        this.missesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.misses",
+                "Number of reads which had to go to the Kubernetes API server because the resource cache could not serve them",
+                metricTags);
+        this.resyncsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.resyncs",
+                "Number of times the resource cache lost its watch and had to be synced again",
+                metricTags);
+        this.resourcesGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "resource.cache.resources",
+                "Number of resources held in the resource cache",
+                metricTags);
+        this.syncedGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "resource.cache.synced",
+                "1 when the resource cache is synced and its watch is open, 0 when it is being synced or closed",
+                metricTags);
+    }
+
+    /**
+     * Loads the content of the cache and starts the watch.
+     *
+     * @return  Future which completes once the cache is synced
+     */
+    public Future<Void> start() {
+        Promise<Void> result = Promise.promise();
+
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                try {
+                    sync();
+                    future.complete();
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            true,
+            result
+        );
+
+        return result.future();
+    }
+
+    /**
+     * Closes the watch. The closed cache does not serve any reads anymore.
+     */
+    public void close() {
+        closed = true;
+        unsynced();
+
+        if (watch != null) {
+            watch.close();
+        }
+
+        resources.clear();
+        resourcesGauge.set(0);
+    }
+
+    /**
+     * Lists the resources and opens the watch from the resourceVersion of the list, so that no change after the list
+     * is missed. The listed resources are merged into the cache by their resourceVersions, so the results of our own
+     * writes which are newer than the list are kept. Resources which are not listed are removed only when they are
+     * not newer than the list.
+     */
+    private synchronized void sync() {
+        if (closed) {
+            return;
+        }
+
+        KubernetesResourceList<T> list = operation.get().list();
+        String listVersion = list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+
+        Set<String> listed = list.getItems().stream().map(ResourceCache::key).collect(Collectors.toSet());
+        resources.entrySet().removeIf(entry -> !listed.contains(entry.getKey()) && !isNewerThan(entry.getValue().resource, listVersion));
+        list.getItems().forEach(this::update);
+
+        watch = operation.get().watch(new ListOptionsBuilder().withResourceVersion(listVersion).build(), this);
+
+        if (closed) {
+            // Closed while the watch was being opened
+            watch.close();
+            return;
+        }
+
+        synced = true;
+        syncedGauge.set(1);
+
+        log.debug("{} cache for namespace {} synced with {} resources", resourceKind, namespace, resources.size());
+    }
+
+    private void unsynced() {
+        synced = false;
+        syncedGauge.set(0);
+    }
+
+    /**
+     * @param namespace Namespace
+     *
+     * @return  True if this cache is synced and holds the resources from given namespace. False otherwise.
+     */
+    public boolean covers(String namespace) {
+        return synced
+                && (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(this.namespace) || this.namespace.equals(namespace));
+    }
+
+    /**
+     * @param namespace Namespace
+     * @param selector  Selector of a LIST
+     *
+     * @return  True if this cache is synced and holds all the resources from given namespace which match the selector.
+     *          False otherwise.
+     */
+    public boolean covers(String namespace, Labels selector) {
+        return covers(namespace) && selector != null && selector.toMap().containsKey(label);
+    }
+
+    /**
+     * Gets the resource from the cache. It should be called only when {@link #covers(String)} returns true for the
+     * namespace. When the resource is not in the cache, it might still exist without the label, so the caller has to
+     * get it from the Kubernetes API server.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it is not in the cache
+     */
+    public T get(String namespace, String name) {
+        Cached<T> cached = resources.get(key(namespace, name));
+
+        if (cached != null) {
+            hitsCounter.increment();
+            return cached.copy();
+        } else {
+            missesCounter.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Lists the resources from the cache. It should be called only when {@link #covers(String, Labels)} returns true
+     * for the namespace and the selector.
+     *
+     * @param namespace Namespace of the resources or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}
+     * @param selector  Labels which the resources need to have
+     *
+     * @return  List with copies of the matching resources
+     */
+    public List<T> list(String namespace, Labels selector) {
+        hitsCounter.increment();
+
+        Map<String, String> matchLabels = selector.toMap();
+
+        return resources.values().stream()
+                .filter(cached -> AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace) || namespace.equals(cached.resource.getMetadata().getNamespace()))
+                .filter(cached -> hasLabels(cached.resource, matchLabels))
+                .map(Cached::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Records a read which could not be served from the cache.
+     */
+    public void miss() {
+        missesCounter.increment();
+    }
+
+    private static boolean hasLabels(HasMetadata resource, Map<String, String> labels) {
+        return labels.isEmpty()
+                || (resource.getMetadata().getLabels() != null && resource.getMetadata().getLabels().entrySet().containsAll(labels.entrySet()));
+    }
+
+    /**
+     * Stores the resource in the cache unless the cache already has a newer version of it. A resource without the
+     * label is removed from the cache instead, because the watch does not report its changes anymore.
+     *
+     * @param resource  The resource which should be stored
+     */
+    public void update(T resource) {
+        if (resource == null || resource.getMetadata() == null) {
+            return;
+        }
+
+        if (resource.getMetadata().getLabels() != null && resource.getMetadata().getLabels().containsKey(label)) {
+            resources.merge(key(resource), new Cached<>(resource), (current, updated) -> isNewer(updated.resource, current.resource) ? updated : current);
+        } else {
+            resources.computeIfPresent(key(resource), (key, current) -> isNewer(resource, current.resource) ? null : current);
+        }
+
+        resourcesGauge.set(resources.size());
+    }
+
+    /**
+     * Removes the deleted resource from the cache unless the cache already has a newer incarnation of it. A late
+     * DELETED event of the old resource would otherwise evict the resource which was created again with the same name.
+     *
+     * @param deleted   The deleted resource
+     */
+    public void delete(T deleted) {
+        if (deleted == null || deleted.getMetadata() == null) {
+            return;
+        }
+
+        resources.computeIfPresent(key(deleted), (key, current) -> isNewerIncarnation(current.resource, deleted) ? current : null);
+        resourcesGauge.set(resources.size());
+    }
+
+    /**
+     * Removes the resource from the cache regardless of its version. It is used when the operator deleted the resource
+     * itself, so that the reads following the deletion do not return the deleted resource.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     */
+    public void remove(String namespace, String name) {
+        resources.remove(key(namespace, name));
+        resourcesGauge.set(resources.size());
+    }
+
+    /**
+     * Resource versions should be treated as opaque strings. But they are in practice increasing integers and
+     * comparing them is the only way to tell whether a watch event is older than the result of our own write.
+     * When they cannot be parsed, the newest received version wins.
+     */
+    private static boolean isNewer(HasMetadata updated, HasMetadata current) {
+        try {
+            return Long.parseLong(updated.getMetadata().getResourceVersion()) >= Long.parseLong(current.getMetadata().getResourceVersion());
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * @return  True if the resource was changed after the list with given resourceVersion. False otherwise or when
+     *          the versions cannot be compared.
+     */
+    private static boolean isNewerThan(HasMetadata resource, String listVersion) {
+        try {
+            return Long.parseLong(resource.getMetadata().getResourceVersion()) > Long.parseLong(listVersion);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return  True if the cached resource is a different resource than the deleted one (it has a different UID) or
+     *          if it was changed after the deletion. False otherwise.
+     */
+    private static boolean isNewerIncarnation(HasMetadata cached, HasMetadata deleted) {
+        String cachedUid = cached.getMetadata().getUid();
+        String deletedUid = deleted.getMetadata().getUid();
+
+        if (cachedUid != null && deletedUid != null && !cachedUid.equals(deletedUid)) {
+            return true;
+        }
+
+        try {
+            return Long.parseLong(cached.getMetadata().getResourceVersion()) > Long.parseLong(deleted.getMetadata().getResourceVersion());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                update(resource);
+                break;
+            case DELETED:
+                delete(resource);
+                break;
+            case ERROR:
+                log.warn("{} cache for namespace {} received an error event", resourceKind, namespace);
+                break;
+            default:
+                log.warn("{} cache for namespace {} received an unknown event {}", resourceKind, namespace, action);
+        }
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+        unsynced();
+
+        if (!closed) {
+            log.warn("{} cache for namespace {} lost its watch and will be resynced", resourceKind, namespace, cause);
+            resyncsCounter.increment();
+            vertx.setTimer(RESYNC_DELAY_MS, timerId -> start().onFailure(error -> {
+                log.error("{} cache for namespace {} failed to resync", resourceKind, namespace, error);
+                onClose(null);
+            }));
+        }
+    }
+
+    private static String key(HasMetadata resource) {
+        return key(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+}
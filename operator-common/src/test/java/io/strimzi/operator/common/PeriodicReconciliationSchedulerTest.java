@@ -0,0 +1,222 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+@ExtendWith(VertxExtension.class)
+public class PeriodicReconciliationSchedulerTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider createCleanMetricsProvider() {
+        // Own registry => not affected by the other tests closing their Vert.x instances with the default registry
+        return new MicrometerMetricsProvider(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Operator which only records the reconciled resources
+     */
+    static class RecordingOperator implements Operator {
+        private final Set<NamespaceAndName> names;
+        private final long listingDelayMs;
+        private final Counter periodicCounter;
+        private final AtomicInteger resourceCounter;
+        final List<String> reconciled = new CopyOnWriteArrayList<>();
+
+        RecordingOperator(MetricsProvider metrics, Set<NamespaceAndName> names) {
+            this(metrics, names, 0);
+        }
+
+        RecordingOperator(MetricsProvider metrics, Set<NamespaceAndName> names, long listingDelayMs) {
+            this.names = names;
+            this.listingDelayMs = listingDelayMs;
+            this.periodicCounter = metrics.counter("periodical", "", Tags.empty());
+            this.resourceCounter = metrics.gauge("resources", "", Tags.empty());
+        }
+
+        @Override
+        public String kind() {
+            return "Test";
+        }
+
+        @Override
+        public Future<Void> reconcile(Reconciliation reconciliation) {
+            reconciled.add(reconciliation.namespace() + "/" + reconciliation.name());
+            return Future.succeededFuture();
+        }
+
+        @Override
+        public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+            if (listingDelayMs <= 0) {
+                return Future.succeededFuture(new HashSet<>(names));
+            }
+
+            Promise<Set<NamespaceAndName>> listing = Promise.promise();
+            vertx.setTimer(listingDelayMs, t -> listing.complete(new HashSet<>(names)));
+            return listing.future();
+        }
+
+        @Override
+        public Counter getPeriodicReconciliationsCounter() {
+            return periodicCounter;
+        }
+
+        @Override
+        public AtomicInteger getResourceCounter() {
+            return resourceCounter;
+        }
+    }
+
+    @Test
+    public void testOffsetIsStableAndWithinWindow() {
+        for (int i = 0; i < 100; i++) {
+            long offset = PeriodicReconciliationScheduler.offsetMs("ns/my-cluster-" + i, 120_000);
+
+            assertThat(offset, is(greaterThanOrEqualTo(0L)));
+            assertThat(offset, is(lessThan(120_000L)));
+            assertThat(PeriodicReconciliationScheduler.offsetMs("ns/my-cluster-" + i, 120_000), is(offset));
+        }
+
+        assertThat(PeriodicReconciliationScheduler.offsetMs("ns/my-cluster", 0), is(0L));
+    }
+
+    @Test
+    public void testAllResourcesAreReconciledWithinInterval(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        RecordingOperator operator = new RecordingOperator(metrics,
+                Set.of(new NamespaceAndName("ns", "a"), new NamespaceAndName("ns", "b"), new NamespaceAndName("ns", "c")));
+
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, operator, "ns", 200, metrics);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(v -> {
+            scheduler.reconcileAll("timer");
+
+            vertx.setTimer(500, t -> context.verify(() -> {
+                assertThat(operator.reconciled, containsInAnyOrder("ns/a", "ns/b", "ns/c"));
+                assertThat(operator.getResourceCounter().get(), is(3));
+                assertThat(operator.getPeriodicReconciliationsCounter().count(), is(1.0));
+
+                MeterRegistry registry = metrics.meterRegistry();
+                assertThat(registry.get("strimzi.reconciliations.periodical.scheduled").tag("kind", "Test").gauge().value(), is(0.0));
+                assertThat(registry.get("strimzi.reconciliations.periodical.busiest.second").tag("kind", "Test").gauge().value(), is(3.0));
+
+                async.flag();
+            }));
+        });
+    }
+
+    @Test
+    public void testCancelledReconciliationsDoNotRun(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        RecordingOperator operator = new RecordingOperator(metrics,
+                Set.of(new NamespaceAndName("ns", "a"), new NamespaceAndName("ns", "b")));
+
+        // Long interval => the reconciliations are very unlikely to be due before cancel() is called
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, operator, "ns", 3_600_000, metrics);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(v -> {
+            scheduler.reconcileAll("timer");
+            context.verify(() -> assertThat(metrics.meterRegistry().get("strimzi.reconciliations.periodical.scheduled").gauge().value(), is(2.0)));
+
+            scheduler.cancel();
+            context.verify(() -> {
+                assertThat(metrics.meterRegistry().get("strimzi.reconciliations.periodical.scheduled").gauge().value(), is(0.0));
+                assertThat(operator.reconciled.isEmpty(), is(true));
+            });
+
+            async.flag();
+        });
+    }
+
+    @Test
+    public void testPendingReconciliationsAreKeptWhenRescheduled(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        Set<NamespaceAndName> names = new CopyOnWriteArraySet<>(Set.of(new NamespaceAndName("ns", "a"), new NamespaceAndName("ns", "b")));
+        RecordingOperator operator = new RecordingOperator(metrics, names);
+
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, operator, "ns", 3_600_000, metrics);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(v -> {
+            scheduler.reconcileAll("timer");
+            scheduler.reconcileAll("timer");
+            context.verify(() -> assertThat(metrics.meterRegistry().get("strimzi.reconciliations.periodical.scheduled").gauge().value(), is(2.0)));
+
+            // The reconciliation of a deleted resource is cancelled
+            names.remove(new NamespaceAndName("ns", "b"));
+            scheduler.reconcileAll("timer");
+            context.verify(() -> {
+                assertThat(metrics.meterRegistry().get("strimzi.reconciliations.periodical.scheduled").gauge().value(), is(1.0));
+                assertThat(operator.getResourceCounter().get(), is(1));
+            });
+
+            scheduler.cancel();
+            context.verify(() -> assertThat(operator.reconciled.isEmpty(), is(true)));
+            async.flag();
+        });
+    }
+
+    @Test
+    public void testOffsetsAreRelativeToIntervalStart(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        Set<NamespaceAndName> names = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            names.add(new NamespaceAndName("ns", "resource-" + i));
+        }
+        // Listing takes the whole interval => all the reconciliations are due once it completes
+        RecordingOperator operator = new RecordingOperator(metrics, names, 1_000);
+
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, operator, "ns", 1_000, metrics);
+
+        Checkpoint async = context.checkpoint();
+        vertx.runOnContext(v -> {
+            scheduler.reconcileAll("timer");
+
+            vertx.setTimer(1_500, t -> context.verify(() -> {
+                assertThat(operator.reconciled.size(), is(20));
+                async.flag();
+            }));
+        });
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationWorkQueueTest {
+    @Test
+    public void testEventsForRunningResourceAreCoalescedIntoOneFollowUp() {
+        AtomicInteger coalesced = new AtomicInteger(0);
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(10, coalesced::incrementAndGet);
+
+        List<String> started = new ArrayList<>();
+        Promise<Void> first = Promise.promise();
+        Promise<Void> second = Promise.promise();
+
+        Future<Void> firstResult = queue.submit("ns/a", false, () -> {
+            started.add("first");
+            return first.future();
+        });
+        Future<Void> secondResult = queue.submit("ns/a", false, () -> {
+            started.add("second");
+            return second.future();
+        });
+        Future<Void> thirdResult = queue.submit("ns/a", true, () -> {
+            started.add("third");
+            return Future.succeededFuture();
+        });
+
+        // Only the first one runs, the others are merged into one follow-up
+        assertThat(started, is(List.of("first")));
+        assertThat(coalesced.get(), is(1));
+        assertThat(secondResult == thirdResult, is(true));
+
+        first.complete();
+        assertThat(firstResult.succeeded(), is(true));
+        assertThat(started, is(List.of("first", "second")));
+        assertThat(secondResult.isComplete(), is(false));
+
+        second.complete();
+        assertThat(thirdResult.succeeded(), is(true));
+        assertThat(queue.queued(), is(0));
+    }
+
+    @Test
+    public void testEventsForQueuedResourceAreCoalesced() {
+        AtomicInteger coalesced = new AtomicInteger(0);
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(1, coalesced::incrementAndGet);
+
+        Promise<Void> blocker = Promise.promise();
+        AtomicInteger runs = new AtomicInteger(0);
+
+        queue.submit("ns/blocker", false, blocker::future);
+        Future<Void> first = queue.submit("ns/a", false, () -> {
+            runs.incrementAndGet();
+            return Future.succeededFuture();
+        });
+        Future<Void> second = queue.submit("ns/a", false, () -> {
+            runs.incrementAndGet();
+            return Future.succeededFuture();
+        });
+
+        assertThat(first == second, is(true));
+        assertThat(coalesced.get(), is(1));
+        assertThat(queue.queued(), is(1));
+
+        blocker.complete();
+        assertThat(first.succeeded(), is(true));
+        assertThat(runs.get(), is(1));
+    }
+
+    @Test
+    public void testConcurrencyLimitAndPriority() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(1, () -> { });
+
+        List<String> started = new ArrayList<>();
+        Promise<Void> blocker = Promise.promise();
+
+        queue.submit("ns/blocker", false, blocker::future);
+        queue.submit("ns/timer-1", false, () -> {
+            started.add("timer-1");
+            return Future.succeededFuture();
+        });
+        queue.submit("ns/timer-2", false, () -> {
+            started.add("timer-2");
+            return Future.succeededFuture();
+        });
+        queue.submit("ns/watch", true, () -> {
+            started.add("watch");
+            return Future.succeededFuture();
+        });
+        // Urgent event for already queued resource moves it ahead
+        queue.submit("ns/timer-2", true, () -> {
+            started.add("timer-2-again");
+            return Future.succeededFuture();
+        });
+
+        assertThat(started.isEmpty(), is(true));
+        assertThat(queue.queued(), is(3));
+
+        blocker.complete();
+        assertThat(started, is(List.of("watch", "timer-2", "timer-1")));
+    }
+
+    @Test
+    public void testFailuresArePropagated() {
+        ReconciliationWorkQueue queue = new ReconciliationWorkQueue(1, () -> { });
+
+        Future<Void> failed = queue.submit("ns/a", false, () -> Future.failedFuture(new RuntimeException("failed")));
+        Future<Void> thrown = queue.submit("ns/b", false, () -> {
+            throw new RuntimeException("thrown");
+        });
+
+        assertThat(failed.cause().getMessage(), is("failed"));
+        assertThat(thrown.cause().getMessage(), is("thrown"));
+        assertThat(queue.queued(), is(0));
+    }
+
+    @Test
+    public void testInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new ReconciliationWorkQueue(0, () -> { }));
+    }
+}
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
@@ -385,4 +387,53 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
                     async.flag();
                 })));
     }
+
+    @Test
+    public void testWaitForCompletesOnWatchEvent(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+
+        AtomicBoolean watchClosed = new AtomicBoolean(false);
+        AtomicReference<Watcher> watcherRef = new AtomicReference<>();
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            watcherRef.set(invocation.getArgument(0));
+            return (Watch) () -> {
+                watchClosed.set(true);
+            };
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        AtomicBoolean ready = new AtomicBoolean(false);
+        AtomicInteger checks = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+        // The poll interval is longer than the timeout => only the watch event can complete the wait
+        op.waitFor(NAMESPACE, RESOURCE_NAME, "ready", 60_000, 10_000, (namespace, name) -> {
+            checks.incrementAndGet();
+            return ready.get();
+        }).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(watchClosed.get(), is(true));
+            async.flag();
+        })));
+
+        vertx.setPeriodic(10, timerId -> {
+            // Wait until the watch is open and the first check has been done
+            if (watcherRef.get() != null && checks.get() > 0) {
+                vertx.cancelTimer(timerId);
+                ready.set(true);
+                watcherRef.get().eventReceived(Watcher.Action.MODIFIED, resource);
+            }
+        });
+    }
 }
@@ -7,14 +7,34 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
+import java.net.HttpURLConnection;
 import java.util.Random;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> {
@@ -50,4 +70,69 @@ public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<Kubernet
                 .withData(singletonMap("FOO", Integer.toString(new Random().nextInt())))
                 .build();
     }
+
+    @SuppressWarnings("unchecked")
+    private static MixedOperation<ConfigMap, ConfigMapList, Resource<ConfigMap>> mockCachedOperation(Resource<ConfigMap> mockResource) {
+        NonNamespaceOperation<ConfigMap, ConfigMapList, Resource<ConfigMap>> mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(RESOURCE_NAME)).thenReturn(mockResource);
+        when(mockNameable.list()).thenReturn(new ConfigMapListBuilder().build());
+        when(mockNameable.withLabel(any())).thenReturn(mockNameable);
+        when(mockNameable.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        MixedOperation<ConfigMap, ConfigMapList, Resource<ConfigMap>> mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(any())).thenReturn(mockNameable);
+
+        return mockCms;
+    }
+
+    private static MetricsProvider createCleanMetricsProvider() {
+        return new MicrometerMetricsProvider(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCachedCreateConflictWithDeletedResourceRetriesCreate(VertxTestContext context) {
+        ConfigMap resource = resource();
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(null);
+        when(mockResource.create(any(ConfigMap.class)))
+                .thenThrow(new KubernetesClientException("Already exists", HttpURLConnection.HTTP_CONFLICT, null))
+                .thenReturn(resource);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCachedOperation(mockResource));
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.enableCache(NAMESPACE, Labels.STRIMZI_CLUSTER_LABEL, createCleanMetricsProvider())
+            .compose(v -> op.createOrUpdate(resource))
+            .onComplete(context.succeeding(rr -> context.verify(() -> {
+                verify(mockResource, times(2)).create(any(ConfigMap.class));
+                assertThat(rr.resource(), is(resource));
+                async.flag();
+            })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCacheMissIsNotRecordedForOtherNamespaces(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(resource());
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCachedOperation(mockResource));
+
+        ConfigMapOperator op = new ConfigMapOperator(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.enableCache(NAMESPACE, Labels.STRIMZI_CLUSTER_LABEL, metrics)
+            .compose(v -> op.getAsync("other-namespace", RESOURCE_NAME))
+            .onComplete(context.succeeding(cm -> context.verify(() -> {
+                verify(mockResource).get();
+                assertThat(metrics.meterRegistry().get("strimzi.resource.cache.misses").tag("namespace", NAMESPACE).counter().count(), is(0.0));
+                async.flag();
+            })));
+    }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapList;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "test";
+    private static final String CLUSTER = "my-cluster";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion, Map<String, String> labels) {
+        Map<String, String> clusterLabels = new HashMap<>(labels);
+        clusterLabels.put(Labels.STRIMZI_CLUSTER_LABEL, CLUSTER);
+
+        return unlabelledConfigMap(name, resourceVersion, clusterLabels);
+    }
+
+    private static ConfigMap unlabelledConfigMap(String name, String resourceVersion, Map<String, String> labels) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(labels)
+                .endMetadata()
+                .build();
+    }
+
+    private static ConfigMapList list(String resourceVersion, ConfigMap... items) {
+        return new ConfigMapListBuilder()
+                .withNewMetadata()
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withItems(items)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FilterWatchListDeletable<ConfigMap, ConfigMapList> mockOperation(ConfigMapList... lists) {
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mock(FilterWatchListDeletable.class);
+        when(operation.list()).thenReturn(lists[0], Arrays.copyOfRange(lists, 1, lists.length));
+        when(operation.watch(any(ListOptions.class), any(Watcher.class))).thenReturn(mock(Watch.class));
+
+        return operation;
+    }
+
+    private static FilterWatchListDeletable<ConfigMap, ConfigMapList> mockOperation(ConfigMap... current) {
+        return mockOperation(list("100", current));
+    }
+
+    private static ResourceCache<ConfigMap> cache(FilterWatchListDeletable<ConfigMap, ConfigMapList> operation, MetricsProvider metrics) {
+        return new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, Labels.STRIMZI_CLUSTER_LABEL, () -> operation, metrics);
+    }
+
+    private static Labels selector(Map<String, String> labels) {
+        Map<String, String> clusterLabels = new HashMap<>(labels);
+        clusterLabels.put(Labels.STRIMZI_CLUSTER_LABEL, CLUSTER);
+
+        return Labels.fromMap(clusterLabels);
+    }
+
+    private static MetricsProvider createCleanMetricsProvider() {
+        MetricsProvider metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+
+        registry.forEachMeter(registry::remove);
+
+        return metrics;
+    }
+
+    @Test
+    public void testGetAndListAfterSync(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mockOperation(
+                configMap("cm1", "1", Map.of("app", "a")),
+                configMap("cm2", "2", Map.of("app", "b")));
+
+        ResourceCache<ConfigMap> cache = cache(operation, metrics);
+        assertThat(cache.covers(NAMESPACE), is(false));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(cache.covers(NAMESPACE), is(true));
+            assertThat(cache.covers("other"), is(false));
+
+            // Only the LISTs which select the cached label can be served from the cache
+            assertThat(cache.covers(NAMESPACE, null), is(false));
+            assertThat(cache.covers(NAMESPACE, Labels.fromMap(Map.of("app", "b"))), is(false));
+            assertThat(cache.covers(NAMESPACE, selector(Map.of("app", "b"))), is(true));
+
+            assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getResourceVersion(), is("1"));
+            assertThat(cache.get(NAMESPACE, "cm3"), is(nullValue()));
+            assertThat(cache.list(NAMESPACE, selector(Map.of())).size(), is(2));
+            assertThat(cache.list(NAMESPACE, selector(Map.of("app", "b"))).size(), is(1));
+            assertThat(cache.list(NAMESPACE, selector(Map.of("app", "c"))).size(), is(0));
+
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get("strimzi.resource.cache.hits").tag("kind", "ConfigMap").counter().count(), is(4.0));
+            assertThat(registry.get("strimzi.resource.cache.misses").tag("kind", "ConfigMap").counter().count(), is(1.0));
+            assertThat(registry.get("strimzi.resource.cache.resources").tag("kind", "ConfigMap").gauge().value(), is(2.0));
+
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testWatchEventsUpdateTheCache(VertxTestContext context) {
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mockOperation(configMap("cm1", "5", Map.of()));
+
+        ResourceCache<ConfigMap> cache = cache(operation, createCleanMetricsProvider());
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            cache.eventReceived(Watcher.Action.ADDED, configMap("cm2", "6", Map.of()));
+            assertThat(cache.get(NAMESPACE, "cm2").getMetadata().getResourceVersion(), is("6"));
+
+            // Events older than what the cache already has are ignored
+            cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm1", "4", Map.of()));
+            assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getResourceVersion(), is("5"));
+
+            cache.eventReceived(Watcher.Action.MODIFIED, configMap("cm1", "7", Map.of()));
+            assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getResourceVersion(), is("7"));
+
+            cache.eventReceived(Watcher.Action.DELETED, configMap("cm1", "8", Map.of()));
+            assertThat(cache.get(NAMESPACE, "cm1"), is(nullValue()));
+
+            cache.close();
+            assertThat(cache.covers(NAMESPACE), is(false));
+
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testReadsReturnCopies(VertxTestContext context) {
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mockOperation(configMap("cm1", "1", Map.of("app", "a")));
+
+        ResourceCache<ConfigMap> cache = cache(operation, createCleanMetricsProvider());
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            cache.get(NAMESPACE, "cm1").getMetadata().setResourceVersion(null);
+            cache.list(NAMESPACE, selector(Map.of())).get(0).getMetadata().getLabels().put("app", "b");
+
+            ConfigMap written = configMap("cm2", "2", Map.of());
+            cache.update(written);
+            written.getMetadata().setName("changed");
+
+            assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getResourceVersion(), is("1"));
+            assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getLabels().get("app"), is("a"));
+            assertThat(cache.get(NAMESPACE, "cm2").getMetadata().getName(), is("cm2"));
+
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testLateDeleteEventDoesNotEvictRecreatedResource(VertxTestContext context) {
+        ConfigMap recreated = configMap("cm1", "10", Map.of());
+        recreated.getMetadata().setUid("new-uid");
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mockOperation(recreated);
+
+        ResourceCache<ConfigMap> cache = cache(operation, createCleanMetricsProvider());
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            ConfigMap oldDeleted = configMap("cm1", "8", Map.of());
+            oldDeleted.getMetadata().setUid("old-uid");
+            cache.eventReceived(Watcher.Action.DELETED, oldDeleted);
+            assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getUid(), is("new-uid"));
+
+            // Without UIDs, only the resource versions are compared
+            cache.eventReceived(Watcher.Action.DELETED, configMap("cm1", "9", Map.of()));
+            assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getResourceVersion(), is("10"));
+
+            ConfigMap deleted = configMap("cm1", "11", Map.of());
+            deleted.getMetadata().setUid("new-uid");
+            cache.eventReceived(Watcher.Action.DELETED, deleted);
+            assertThat(cache.get(NAMESPACE, "cm1"), is(nullValue()));
+
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testResourcesWithoutTheLabelAreNotCached(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mockOperation(configMap("cm1", "1", Map.of()));
+
+        ResourceCache<ConfigMap> cache = cache(operation, metrics);
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            cache.update(unlabelledConfigMap("cm2", "2", Map.of()));
+            assertThat(cache.get(NAMESPACE, "cm2"), is(nullValue()));
+
+            // The label was removed => the watch does not report the resource anymore
+            cache.eventReceived(Watcher.Action.MODIFIED, unlabelledConfigMap("cm1", "3", Map.of()));
+            assertThat(cache.get(NAMESPACE, "cm1"), is(nullValue()));
+
+            assertThat(metrics.meterRegistry().get("strimzi.resource.cache.misses").tag("kind", "ConfigMap").counter().count(), is(2.0));
+            assertThat(metrics.meterRegistry().get("strimzi.resource.cache.resources").tag("kind", "ConfigMap").gauge().value(), is(0.0));
+
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testResyncKeepsResourcesChangedAfterTheList(VertxTestContext context) {
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mockOperation(
+                list("10", configMap("cm1", "5", Map.of()), configMap("cm2", "6", Map.of())),
+                list("20", configMap("cm1", "15", Map.of())));
+
+        ResourceCache<ConfigMap> cache = cache(operation, createCleanMetricsProvider());
+
+        Checkpoint async = context.checkpoint();
+        cache.start()
+            .compose(v -> {
+                // Written by the operator after the second list was taken
+                cache.update(configMap("cm3", "21", Map.of()));
+                return cache.start();
+            })
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(cache.get(NAMESPACE, "cm1").getMetadata().getResourceVersion(), is("15"));
+                assertThat(cache.get(NAMESPACE, "cm2"), is(nullValue()));
+                assertThat(cache.get(NAMESPACE, "cm3").getMetadata().getResourceVersion(), is("21"));
+
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testSyncedGaugeFollowsTheWatch(VertxTestContext context) {
+        MetricsProvider metrics = createCleanMetricsProvider();
+        FilterWatchListDeletable<ConfigMap, ConfigMapList> operation = mockOperation(configMap("cm1", "1", Map.of()));
+
+        ResourceCache<ConfigMap> cache = cache(operation, metrics);
+        MeterRegistry registry = metrics.meterRegistry();
+        assertThat(registry.get("strimzi.resource.cache.synced").tag("kind", "ConfigMap").gauge().value(), is(0.0));
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(registry.get("strimzi.resource.cache.synced").tag("kind", "ConfigMap").gauge().value(), is(1.0));
+
+            cache.onClose(new WatcherException("Watch closed"));
+            assertThat(cache.covers(NAMESPACE), is(false));
+            assertThat(registry.get("strimzi.resource.cache.synced").tag("kind", "ConfigMap").gauge().value(), is(0.0));
+            assertThat(registry.get("strimzi.resource.cache.resyncs").tag("kind", "ConfigMap").counter().count(), is(1.0));
+
+            vertx.setTimer(ResourceCache.RESYNC_DELAY_MS + 500, timerId -> context.verify(() -> {
+                assertThat(cache.covers(NAMESPACE), is(true));
+                assertThat(registry.get("strimzi.resource.cache.synced").tag("kind", "ConfigMap").gauge().value(), is(1.0));
+
+                cache.close();
+                assertThat(registry.get("strimzi.resource.cache.synced").tag("kind", "ConfigMap").gauge().value(), is(0.0));
+
+                async.flag();
+            }));
+        })));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * TopicStore which keeps the topics in memory in front of another (slower) TopicStore.
+ * Reads are served from the memory once the topic was read or written, so they always see the previous writes.
+ * Writes are validated against the cached state, applied to the memory and acknowledged immediately.
+ * They are then passed to the underlying store without waiting for each other. Only the writes of the same topic
+ * are passed one after another to keep their order. When a write to the underlying store fails, the cached state
+ * of the topic is dropped, so the next read gets the state from the underlying store again.
+ */
+public class CachingTopicStore implements TopicStore {
+    private final static Logger LOGGER = LogManager.getLogger(CachingTopicStore.class);
+
+    private final TopicStore delegate;
+
+    /** The cached topics. An empty value means the topic is known not to exist. */
+    private final Map<TopicName, Optional<Topic>> cache = new HashMap<>();
+    /** The last write of each topic which has not been completed by the underlying store yet */
+    private final Map<TopicName, Future<Void>> writes = new HashMap<>();
+
+    public CachingTopicStore(TopicStore delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Future<Topic> read(TopicName name) {
+        Optional<Topic> cached = cached(name);
+        if (cached != null) {
+            return Future.succeededFuture(cached.orElse(null));
+        }
+        return load(name).map(topic -> topic.orElse(null));
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        TopicName name = topic.getTopicName();
+        return write(name, current -> current.isPresent() ? new EntityExistsException() : null,
+                Optional.of(topic), () -> delegate.create(topic));
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        TopicName name = topic.getTopicName();
+        return write(name, current -> current.isPresent() ? null : new NoSuchEntityExistsException(),
+                Optional.of(topic), () -> delegate.update(topic));
+    }
+
+    @Override
+    public Future<Void> delete(TopicName name) {
+        return write(name, current -> current.isPresent() ? null : new NoSuchEntityExistsException(),
+                Optional.empty(), () -> delegate.delete(name));
+    }
+
+    /**
+     * @return Future which completes when all the writes accepted so far were completed by the underlying store
+     */
+    public Future<Void> flush() {
+        Future<?>[] pending;
+        synchronized (this) {
+            pending = writes.values().toArray(new Future<?>[0]);
+        }
+        Future<Void> result = Future.succeededFuture();
+        for (Future<?> write : pending) {
+            result = result.compose(ignored -> write.<Void>mapEmpty().recover(error -> Future.succeededFuture()));
+        }
+        return result;
+    }
+
+    private synchronized Optional<Topic> cached(TopicName name) {
+        return cache.get(name);
+    }
+
+    /**
+     * Reads the topic from the underlying store unless it was cached in the meantime.
+     */
+    private Future<Optional<Topic>> load(TopicName name) {
+        return delegate.read(name).map(topic -> {
+            synchronized (this) {
+                // A write which happened while reading is more recent than the read topic
+                return cache.computeIfAbsent(name, ignored -> Optional.ofNullable(topic));
+            }
+        });
+    }
+
+    private Future<Void> write(TopicName name, Function<Optional<Topic>, Exception> validate,
+                               Optional<Topic> value, Supplier<Future<Void>> command) {
+        Optional<Topic> cached = cached(name);
+        Future<Optional<Topic>> current = cached != null ? Future.succeededFuture(cached) : load(name);
+
+        return current.compose(loaded -> {
+            Promise<Void> written = Promise.promise();
+            Future<Void> previous;
+            synchronized (this) {
+                // Validate against the latest state, which might have been changed while loading
+                Optional<Topic> latest = cache.getOrDefault(name, loaded);
+                Exception error = validate.apply(latest);
+                if (error != null) {
+                    return Future.failedFuture(error);
+                }
+                cache.put(name, value);
+                previous = writes.put(name, written.future());
+            }
+
+            Future<Void> ordered = previous != null ? previous.recover(e -> Future.succeededFuture()) : Future.succeededFuture();
+            ordered.onComplete(ignored2 -> command.get().onComplete(ar -> {
+                synchronized (this) {
+                    boolean last = writes.remove(name, written.future());
+                    if (ar.failed() && last) {
+                        // Without more recent writes the cached state might not match the underlying store any more
+                        cache.remove(name);
+                    }
+                }
+                if (ar.failed()) {
+                    LOGGER.error("Error writing topic {} to the topic store", name, ar.cause());
+                }
+                written.handle(ar);
+            }));
+
+            return Future.succeededFuture();
+        });
+    }
+}
@@ -76,6 +76,16 @@ public class Config {
         }
     };
 
+    /**
+     * The format of the Kafka Streams based TopicStore records.
+     */
+    private static final Type<? extends TopicStoreFormat> STORE_FORMAT_TYPE = new Type<TopicStoreFormat>() {
+        @Override
+        public TopicStoreFormat parse(String s) {
+            return TopicStoreFormat.fromString(s);
+        }
+    };
+
     static class Value<T> {
         public final String key;
         public final String defaultValue;
@@ -109,6 +119,11 @@ public class Config {
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
+    public static final String TC_FULL_RECONCILIATION_CONCURRENCY = "STRIMZI_FULL_RECONCILIATION_CONCURRENCY";
+    public static final String TC_STATUS_UPDATE_CONCURRENCY = "STRIMZI_STATUS_UPDATE_CONCURRENCY";
+    public static final String TC_STATUS_UPDATE_RATE = "STRIMZI_STATUS_UPDATE_RATE";
+    public static final String TC_EVENT_DEBOUNCE_MS = "STRIMZI_EVENT_DEBOUNCE_MS";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
@@ -124,8 +139,11 @@ public class Config {
     public static final String TC_APPLICATION_SERVER = "STRIMZI_APPLICATION_SERVER";
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
     public static final String TC_DISTRIBUTED_STORE = "STRIMZI_DISTRIBUTED_STORE";
+    public static final String TC_STORE_CACHE_ENABLED = "STRIMZI_STORE_CACHE_ENABLED";
+    public static final String TC_STORE_FORMAT = "STRIMZI_STORE_FORMAT";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
+    public static final String TC_USE_CONFIG_CHANGE_NOTIFICATIONS = "STRIMZI_USE_CONFIG_CHANGE_NOTIFICATIONS";
 
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
@@ -165,6 +183,21 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics whose metadata is fetched from the Kafka cluster in a single request during the periodic reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximum number of topics reconciled at the same time by the periodic reconciliation */
+    public static final Value<Integer> FULL_RECONCILIATION_CONCURRENCY = new Value<>(TC_FULL_RECONCILIATION_CONCURRENCY, POSITIVE_INTEGER, "100");
+
+    /** The maximum number of KafkaTopic status updates sent to Kubernetes at the same time */
+    public static final Value<Integer> STATUS_UPDATE_CONCURRENCY = new Value<>(TC_STATUS_UPDATE_CONCURRENCY, POSITIVE_INTEGER, "10");
+
+    /** The maximum number of KafkaTopic status updates sent to Kubernetes per second */
+    public static final Value<Integer> STATUS_UPDATE_RATE = new Value<>(TC_STATUS_UPDATE_RATE, POSITIVE_INTEGER, "100");
+
+    /** The time for which the reconciliation of a topic event is delayed so that further events of the same topic can be merged into it */
+    public static final Value<Long> EVENT_DEBOUNCE_MS = new Value<>(TC_EVENT_DEBOUNCE_MS, DURATION, "0");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -196,9 +229,18 @@ public class Config {
     /** Is distributed KeyValue store used for the Kafka Streams based TopicStore */
     public static final Value<Boolean> DISTRIBUTED_STORE = new Value<>(TC_DISTRIBUTED_STORE, BOOLEAN, "false");
 
+    /** Keep the topics of the Kafka Streams topic store in memory and write them to the store asynchronously */
+    public static final Value<Boolean> STORE_CACHE_ENABLED = new Value<>(TC_STORE_CACHE_ENABLED, BOOLEAN, "false");
+
+    /** The format used to write the records of the Kafka Streams based TopicStore. Records in any format can be read. */
+    public static final Value<TopicStoreFormat> STORE_FORMAT = new Value<>(TC_STORE_FORMAT, STORE_FORMAT_TYPE, "json");
+
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** Watch the config change notifications in ZooKeeper instead of the config and partitions of every topic */
+    public static final Value<Boolean> USE_CONFIG_CHANGE_NOTIFICATIONS = new Value<>(TC_USE_CONFIG_CHANGE_NOTIFICATIONS, BOOLEAN, "false");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -212,6 +254,11 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
+        addConfigValue(configValues, FULL_RECONCILIATION_CONCURRENCY);
+        addConfigValue(configValues, STATUS_UPDATE_CONCURRENCY);
+        addConfigValue(configValues, STATUS_UPDATE_RATE);
+        addConfigValue(configValues, EVENT_DEBOUNCE_MS);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
@@ -225,7 +272,10 @@ public class Config {
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, DISTRIBUTED_STORE);
+        addConfigValue(configValues, STORE_CACHE_ENABLED);
+        addConfigValue(configValues, STORE_FORMAT);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_CONFIG_CHANGE_NOTIFICATIONS);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
@@ -55,6 +55,7 @@ class DistributedStoreAndServiceFactory implements StoreAndServiceFactory {
             List<AutoCloseable> closeables
     ) {
         String storeName = config.get(Config.STORE_NAME);
+        TopicStoreFormat format = config.get(Config.STORE_FORMAT);
 
         String appServer = config.get(Config.APPLICATION_SERVER);
         String[] hostPort = appServer.split(":");
@@ -71,7 +72,7 @@ class DistributedStoreAndServiceFactory implements StoreAndServiceFactory {
                 hostInfo,
                 storeName,
                 Serdes.String(),
-                new TopicSerde(),
+                new TopicSerde(format),
                 new DefaultGrpcChannelProvider(),
                 true,
                 filter
@@ -81,7 +82,7 @@ class DistributedStoreAndServiceFactory implements StoreAndServiceFactory {
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
                 kafkaProperties,
                 Serdes.String().serializer(),
-                new TopicCommandSerde()
+                new TopicCommandSerde(format)
         );
         closeables.add(producer);
 
@@ -94,7 +95,7 @@ class DistributedStoreAndServiceFactory implements StoreAndServiceFactory {
 
         // gRPC
 
-        KeyValueStoreGrpc.KeyValueStoreImplBase kvGrpc = streamsKeyValueStoreGrpcImpl(streams, storeName, filter);
+        KeyValueStoreGrpc.KeyValueStoreImplBase kvGrpc = streamsKeyValueStoreGrpcImpl(streams, storeName, format, filter);
         AsyncBiFunctionServiceGrpc.AsyncBiFunctionServiceImplBase fnGrpc = streamsAsyncBiFunctionServiceGrpcImpl(localService);
         Lifecycle server = streamsGrpcServer(hostInfo, kvGrpc, fnGrpc);
         server.start();
@@ -107,6 +108,7 @@ class DistributedStoreAndServiceFactory implements StoreAndServiceFactory {
     private KeyValueStoreGrpc.KeyValueStoreImplBase streamsKeyValueStoreGrpcImpl(
             KafkaStreams streams,
             String storeName,
+            TopicStoreFormat format,
             FilterPredicate<String, Topic> filterPredicate
     ) {
         return new KeyValueStoreGrpcImplLocalDispatcher(
@@ -115,7 +117,7 @@ class DistributedStoreAndServiceFactory implements StoreAndServiceFactory {
                         .newRegistry()
                         .register(
                                 storeName,
-                                Serdes.String(), new TopicSerde()
+                                Serdes.String(), new TopicSerde(format)
                         ),
                 filterPredicate
         );
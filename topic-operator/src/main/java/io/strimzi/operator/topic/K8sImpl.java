@@ -14,6 +14,7 @@ import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.vertx.core.Future;
@@ -33,13 +34,26 @@ public class K8sImpl implements K8s {
 
     private final KubernetesClient client;
     private final CrdOperator<KubernetesClient, KafkaTopic, KafkaTopicList> crdOperator;
+    private final KafkaTopicStatusWriter statusWriter;
 
     private final Vertx vertx;
 
-    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
+    /**
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     * @param labels The labels of the KafkaTopic resources
+     * @param namespace The namespace of the KafkaTopic resources
+     * @param statusUpdateConcurrency The maximum number of status updates in flight
+     * @param statusUpdateRate The maximum number of status updates started per second
+     * @param metrics The metrics provider
+     */
+    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace,
+                   int statusUpdateConcurrency, int statusUpdateRate, MetricsProvider metrics) {
         this.vertx = vertx;
         this.client = client;
         this.crdOperator = new CrdOperator<>(vertx, client, KafkaTopic.class, KafkaTopicList.class, Crds.kafkaTopic());
+        this.statusWriter = new KafkaTopicStatusWriter(vertx, crdOperator::updateStatusAsync,
+                statusUpdateConcurrency, statusUpdateRate, metrics);
         this.labels = labels;
         this.namespace = namespace;
     }
@@ -82,7 +96,7 @@ public class K8sImpl implements K8s {
 
     @Override
     public Future<KafkaTopic> updateResourceStatus(KafkaTopic topicResource) {
-        return crdOperator.updateStatusAsync(topicResource);
+        return statusWriter.write(topicResource);
     }
 
     @Override
@@ -6,6 +6,8 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -75,6 +77,19 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka using a single request
+     * for the topic descriptions and a single request for the topic configs,
+     * completing the returned Future with the metadata indexed by the topic name.
+     * Topics whose metadata could not be fetched (for example because they were deleted
+     * in the meantime) are missing from the result.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the requested metadata.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicsMetadata(Collection<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
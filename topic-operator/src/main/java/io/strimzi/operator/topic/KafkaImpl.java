@@ -4,10 +4,15 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -23,6 +28,7 @@ import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -121,6 +127,50 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop
+     * with the metadata of the given topics obtained from the Kafka AdminClient API.
+     * Unlike {@link #topicMetadata(TopicName)} the existence of the topics is not checked first,
+     * so the caller should already know the topics exist (for example from {@link #listTopics()}).
+     * Topics which do not exist any more are missing from the result.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Collection<TopicName> topicNames) {
+        try {
+            LOGGER.debug("Getting metadata for {} topics", topicNames.size());
+            Set<String> names = topicNames.stream().map(TopicName::toString).collect(Collectors.toSet());
+            Set<ConfigResource> resources = names.stream()
+                    .map(name -> new ConfigResource(ConfigResource.Type.TOPIC, name))
+                    .collect(Collectors.toSet());
+            Map<String, KafkaFuture<TopicDescription>> descriptionFutures = adminClient.describeTopics(names).values();
+            Map<ConfigResource, KafkaFuture<Config>> configFutures = adminClient.describeConfigs(resources).values();
+
+            Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+            List<Future> futures = new ArrayList<>(topicNames.size());
+            for (TopicName topicName : topicNames) {
+                Future<TopicDescription> topicDescriptionFuture = mapFuture(descriptionFutures.get(topicName.toString()));
+                Future<Config> configFuture = mapFuture(configFutures.get(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString())));
+                futures.add(CompositeFuture.all(topicDescriptionFuture, configFuture)
+                        .<Void>map(compositeFuture -> {
+                            // The futures complete on the context thread, so the map is not modified concurrently
+                            result.put(topicName, new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
+                            return null;
+                        })
+                        .recover(e -> {
+                            if (e instanceof UnknownTopicOrPartitionException) {
+                                LOGGER.debug("Topic {} does not exist any more", topicName);
+                                return Future.succeededFuture();
+                            } else {
+                                return Future.failedFuture(e);
+                            }
+                        }));
+            }
+            return CompositeFuture.all(futures).map(ignored -> result);
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
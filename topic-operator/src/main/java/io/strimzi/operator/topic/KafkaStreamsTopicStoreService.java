@@ -27,6 +27,8 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.Integer.parseInt;
@@ -41,6 +43,7 @@ public class KafkaStreamsTopicStoreService {
 
     /* test */ KafkaStreams streams;
     /* test */ TopicStore store;
+    private long flushTimeoutMs;
 
     public CompletionStage<TopicStore> start(Config config, Properties kafkaProperties) {
         String storeTopic = config.get(Config.STORE_TOPIC);
@@ -81,7 +84,7 @@ public class KafkaStreamsTopicStoreService {
         ProducerActions<String, TopicCommand> producer = new AsyncProducer<>(
                 kafkaProperties,
             Serdes.String().serializer(),
-            new TopicCommandSerde()
+            new TopicCommandSerde(config.get(Config.STORE_FORMAT))
         );
         closeables.add(producer);
 
@@ -94,6 +97,16 @@ public class KafkaStreamsTopicStoreService {
         StoreAndServiceFactory.StoreContext sc = factory.create(config, kafkaProperties, streams, serviceImpl, closeables);
 
         this.store = new KafkaStreamsTopicStore(sc.getStore(), storeTopic, producer, sc.getService());
+        if (config.get(Config.STORE_CACHE_ENABLED)) {
+            if (config.get(Config.DISTRIBUTED_STORE)) {
+                // Other instances can write to a distributed store, so its content cannot be cached
+                log.warn("Topic store cache is not supported with the distributed store and will not be used");
+            } else {
+                log.info("Using topic store cache");
+                this.store = new CachingTopicStore(this.store);
+                this.flushTimeoutMs = config.get(Config.STALE_RESULT_TIMEOUT_MS);
+            }
+        }
         return this.store;
     }
 
@@ -115,7 +128,7 @@ public class KafkaStreamsTopicStoreService {
             }
         };
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, kafkaProperties, dispatcher).get();
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, config.get(Config.STORE_FORMAT), kafkaProperties, dispatcher).get();
         streams = new KafkaStreams(topology, kafkaProperties);
         streams.setStateListener(listener);
         streams.setGlobalStateRestoreListener(new LoggingStateRestoreListener());
@@ -153,10 +166,26 @@ public class KafkaStreamsTopicStoreService {
 
     public void stop() {
         log.info("Stopping services ...");
+        if (store instanceof CachingTopicStore) {
+            flush((CachingTopicStore) store);
+        }
         Collections.reverse(closeables);
         closeables.forEach(KafkaStreamsTopicStoreService::close);
     }
 
+    private void flush(CachingTopicStore store) {
+        log.info("Waiting for the pending writes of the topic store ...");
+        CountDownLatch latch = new CountDownLatch(1);
+        store.flush().onComplete(ignored -> latch.countDown());
+        try {
+            if (!latch.await(flushTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out waiting for the pending writes of the topic store");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static void close(AutoCloseable service) {
         try {
             service.close();
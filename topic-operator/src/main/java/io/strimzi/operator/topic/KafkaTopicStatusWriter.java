@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Writes the status of the KafkaTopic resources with at most a given number of requests in flight and at most a given
+ * number of requests started per second, so that a periodic reconciliation of many topics does not get the operator
+ * throttled by the API server. The writes which cannot be started yet wait in a queue, in the order in which they
+ * were requested. The future of a write completes only once the status was written, so the reconciliations waiting
+ * for their status to be written are held back by the queue as well.
+ */
+class KafkaTopicStatusWriter {
+
+    private final static Logger LOGGER = LogManager.getLogger(KafkaTopicStatusWriter.class);
+
+    private final Vertx vertx;
+    private final Function<KafkaTopic, Future<KafkaTopic>> write;
+    private final int concurrency;
+    private final long nanosBetweenWrites;
+
+    private final Queue<PendingWrite> queue = new ArrayDeque<>();
+    private int running = 0;
+    private long nextWriteNanos = Long.MIN_VALUE;
+    private boolean timerSet = false;
+
+    private final Counter writesCounter;
+    private final Counter failedWritesCounter;
+    private final Counter delayedWritesCounter;
+    private final AtomicInteger pendingWritesGauge;
+
+    /**
+     * @param vertx The Vertx instance used for the timers of the delayed writes
+     * @param write The function writing the status of the given KafkaTopic to Kubernetes
+     * @param concurrency The maximum number of writes in flight
+     * @param writesPerSecond The maximum number of writes started per second
+     * @param metrics The metrics provider
+     */
+    KafkaTopicStatusWriter(Vertx vertx, Function<KafkaTopic, Future<KafkaTopic>> write, int concurrency,
+                           int writesPerSecond, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.write = write;
+        this.concurrency = concurrency;
+        this.nanosBetweenWrites = TimeUnit.SECONDS.toNanos(1) / writesPerSecond;
+
+        Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+        writesCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "resources.status.writes",
+                "Number of status updates of KafkaTopic resources sent to Kubernetes",
+                metricTags);
+        failedWritesCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "resources.status.writes.failed",
+                "Number of status updates of KafkaTopic resources sent to Kubernetes which failed",
+                metricTags);
+        delayedWritesCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "resources.status.writes.delayed",
+                "Number of times the status updates of KafkaTopic resources waited for the status update rate limit",
+                metricTags);
+        pendingWritesGauge = metrics.gauge(TopicOperator.METRICS_PREFIX + "resources.status.writes.pending",
+                "Number of status updates of KafkaTopic resources which are waiting to be sent to Kubernetes",
+                metricTags);
+    }
+
+    /**
+     * @param kafkaTopic The KafkaTopic with the status to be written
+     * @return A future which completes with the updated KafkaTopic once the status was written
+     */
+    Future<KafkaTopic> write(KafkaTopic kafkaTopic) {
+        PendingWrite pending = new PendingWrite(kafkaTopic);
+        synchronized (this) {
+            queue.add(pending);
+            pendingWritesGauge.incrementAndGet();
+        }
+        pump();
+        return pending.promise.future();
+    }
+
+    /**
+     * Starts as many of the queued writes as the concurrency and the rate limit allow, and sets a timer for the next
+     * write when the rate limit does not allow it yet. The writes are started outside the lock, because their
+     * futures might complete (and call back into this writer) right away.
+     */
+    private void pump() {
+        List<PendingWrite> started = new ArrayList<>();
+        synchronized (this) {
+            while (!queue.isEmpty() && running < concurrency) {
+                long now = System.nanoTime();
+                if (nextWriteNanos != Long.MIN_VALUE && now - nextWriteNanos < 0) {
+                    if (!timerSet) {
+                        timerSet = true;
+                        delayedWritesCounter.increment();
+                        long delayMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(nextWriteNanos - now + 999_999));
+                        vertx.setTimer(delayMs, id -> {
+                            synchronized (this) {
+                                timerSet = false;
+                            }
+                            pump();
+                        });
+                    }
+                    break;
+                }
+                nextWriteNanos = now + nanosBetweenWrites;
+                running++;
+                pendingWritesGauge.decrementAndGet();
+                started.add(queue.remove());
+            }
+        }
+        for (PendingWrite pending : started) {
+            writesCounter.increment();
+            Future<KafkaTopic> result;
+            try {
+                result = write.apply(pending.kafkaTopic);
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+            result.onComplete(ar -> completed(pending, ar));
+        }
+    }
+
+    private void completed(PendingWrite pending, AsyncResult<KafkaTopic> result) {
+        synchronized (this) {
+            running--;
+        }
+        if (result.failed()) {
+            failedWritesCounter.increment();
+            LOGGER.debug("Error writing the status of KafkaTopic {}", pending.kafkaTopic.getMetadata().getName(), result.cause());
+        }
+        pending.promise.handle(result);
+        pump();
+    }
+
+    private static class PendingWrite {
+        private final KafkaTopic kafkaTopic;
+        private final Promise<KafkaTopic> promise = Promise.promise();
+
+        PendingWrite(KafkaTopic kafkaTopic) {
+            this.kafkaTopic = kafkaTopic;
+        }
+    }
+}
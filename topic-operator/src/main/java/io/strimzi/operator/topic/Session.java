@@ -13,6 +13,7 @@ import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.PeriodicReconciliationScheduler;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AbstractVerticle;
@@ -54,6 +55,7 @@ public class Session extends AbstractVerticle {
     /*test*/ ZkTopicsWatcher topicsWatcher;
     /*test*/ TopicConfigsWatcher topicConfigsWatcher;
     /*test*/ ZkTopicWatcher topicWatcher;
+    /*test*/ ZkConfigChangesWatcher configChangesWatcher;
     /*test*/ PrometheusMeterRegistry metricsRegistry;
     K8sTopicWatcher watcher;
     /** The id of the periodic reconciliation timer. This is null during a periodic reconciliation. */
@@ -171,7 +173,8 @@ public class Session extends AbstractVerticle {
 
         String namespace = config.get(Config.NAMESPACE);
         LOGGER.debug("Using namespace {}", namespace);
-        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace);
+        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace,
+                config.get(Config.STATUS_UPDATE_CONCURRENCY), config.get(Config.STATUS_UPDATE_RATE), new MicrometerMetricsProvider());
         LOGGER.debug("Using k8s {}", k8s);
 
         String clientId = config.get(Config.CLIENT_ID);
@@ -222,11 +225,17 @@ public class Session extends AbstractVerticle {
                 this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
-                LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
-                LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                if (config.get(Config.USE_CONFIG_CHANGE_NOTIFICATIONS)) {
+                    this.configChangesWatcher = new ZkConfigChangesWatcher(topicOperator);
+                    LOGGER.debug("Using ConfigChangesWatcher {}", configChangesWatcher);
+                    this.topicsWatcher = new ZkTopicsWatcher(topicOperator, configChangesWatcher);
+                } else {
+                    this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                    LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
+                    this.topicWatcher = new ZkTopicWatcher(topicOperator);
+                    LOGGER.debug("Using TopicWatcher {}", topicWatcher);
+                    this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                }
                 LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
                 topicsWatcher.start(zk);
 
@@ -242,6 +251,9 @@ public class Session extends AbstractVerticle {
                     }).onComplete(start);
 
                 final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
+                // Topic Operators of different Kafka clusters are often started at the same time (e.g. after upgrade).
+                // The stable offset delays the first periodic reconciliation so that they do not all run at the same time.
+                final long offset = PeriodicReconciliationScheduler.offsetMs(config.get(Config.NAMESPACE) + "/" + config.get(Config.LABELS).labels(), interval);
                 Handler<Long> periodic = new Handler<>() {
                     @Override
                     public void handle(Long oldTimerId) {
@@ -254,7 +266,7 @@ public class Session extends AbstractVerticle {
                                     initReconcilePromise.complete();
                                 }
                                 if (!stopped) {
-                                    timerId = vertx.setTimer(interval, this);
+                                    timerId = vertx.setTimer(isInitialReconcile ? interval + offset : interval, this);
                                 }
                             });
                         }
@@ -0,0 +1,230 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary serialization of the topics and topic commands stored in the Kafka Streams based TopicStore.
+ * Every record starts with the {@link #MAGIC} byte followed by the version of the format. The JSON records written
+ * by {@link TopicSerialization} always start with {@code '{'}, so both formats can be told apart by the first byte.
+ *
+ * <p>The version 1 of the format is:</p>
+ * <pre>
+ *   topic   := MAGIC VERSION body
+ *   body    := string(topic name) string(resource name) varint(partitions) int16(replicas)
+ *              varint(number of config entries) (string(key) string(value))*
+ *   command := MAGIC VERSION int8(type) uuid varint(command version) (body | string(key))
+ *   uuid    := 0 int64 int64 | 1 string
+ *   string  := varint(length of the UTF-8 bytes + 1, or 0 for null) bytes
+ * </pre>
+ */
+class TopicBinarySerialization {
+
+    static final byte MAGIC = 0;
+    static final byte VERSION = 1;
+
+    private static final byte UUID_BINARY = 0;
+    private static final byte UUID_STRING = 1;
+
+    private TopicBinarySerialization() { }
+
+    /**
+     * @param data The serialized record
+     * @return Whether the record was serialized using the binary format (rather than JSON)
+     */
+    static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    static byte[] toBytes(Topic topic) {
+        Output out = new Output();
+        out.header();
+        writeTopic(out, topic);
+        return out.toByteArray();
+    }
+
+    static Topic fromBytes(byte[] data) {
+        ByteBuffer in = header(data);
+        try {
+            return readTopic(in);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated topic store record", e);
+        }
+    }
+
+    static byte[] toBytes(TopicCommand command) {
+        Output out = new Output();
+        out.header();
+        TopicCommand.Type type = command.getType();
+        out.write(type.getId());
+        writeUuid(out, command.getUuid());
+        out.writeVarint(command.getVersion());
+        if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+            writeTopic(out, command.getTopic());
+        } else {
+            out.writeString(command.getKey());
+        }
+        return out.toByteArray();
+    }
+
+    static TopicCommand commandFromBytes(byte[] data) {
+        ByteBuffer in = header(data);
+        try {
+            TopicCommand.Type type = TopicCommand.Type.fromId(in.get());
+            String uuid = readUuid(in);
+            int version = readVarint(in);
+            Topic topic = null;
+            TopicName name = null;
+            if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                topic = readTopic(in);
+            } else {
+                name = new TopicName(readString(in));
+            }
+            return new TopicCommand(uuid, type, topic, name, version);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated topic command record", e);
+        }
+    }
+
+    private static ByteBuffer header(byte[] data) {
+        if (!isBinary(data) || data.length < 2) {
+            throw new IllegalArgumentException("Not a binary topic store record");
+        }
+        if (data[1] != VERSION) {
+            throw new IllegalArgumentException("Unsupported version " + data[1] + " of the binary topic store record");
+        }
+        return ByteBuffer.wrap(data, 2, data.length - 2);
+    }
+
+    private static void writeTopic(Output out, Topic topic) {
+        out.writeString(topic.getTopicName().toString());
+        out.writeString(topic.getOrAsKubeName().toString());
+        out.writeVarint(topic.getNumPartitions());
+        out.writeShort(topic.getNumReplicas());
+        Map<String, String> config = topic.getConfig();
+        out.writeVarint(config.size());
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeString(entry.getValue());
+        }
+    }
+
+    private static Topic readTopic(ByteBuffer in) {
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName(readString(in))
+                .withMapName(readString(in))
+                .withNumPartitions(readVarint(in))
+                .withNumReplicas(in.getShort());
+        int configSize = readVarint(in);
+        for (int i = 0; i < configSize; i++) {
+            builder.withConfigEntry(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    private static void writeUuid(Output out, String uuid) {
+        UUID parsed = null;
+        try {
+            parsed = UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            // Not a UUID, written as a string below
+        }
+        // UUID.fromString() accepts some non-canonical forms, which would not be read back the same
+        if (parsed != null && parsed.toString().equals(uuid)) {
+            out.write(UUID_BINARY);
+            out.writeLong(parsed.getMostSignificantBits());
+            out.writeLong(parsed.getLeastSignificantBits());
+        } else {
+            out.write(UUID_STRING);
+            out.writeString(uuid);
+        }
+    }
+
+    private static String readUuid(ByteBuffer in) {
+        byte kind = in.get();
+        if (kind == UUID_BINARY) {
+            return new UUID(in.getLong(), in.getLong()).toString();
+        } else if (kind == UUID_STRING) {
+            return readString(in);
+        } else {
+            throw new IllegalArgumentException("Unknown uuid encoding " + kind);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarint(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String result = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return result;
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in topic store record");
+    }
+
+    /**
+     * Growable output buffer with the primitive writes used by the format.
+     */
+    private static class Output extends ByteArrayOutputStream {
+        Output() {
+            super(128);
+        }
+
+        void header() {
+            write(MAGIC);
+            write(VERSION);
+        }
+
+        void writeShort(short value) {
+            write(value >>> 8);
+            write(value);
+        }
+
+        void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        /** Writes an int using 7 bits per byte, with the highest bit set on all but the last byte. Negative values take 5 bytes. */
+        void writeVarint(int value) {
+            while ((value & ~0x7f) != 0) {
+                write((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarint(bytes.length + 1);
+                write(bytes, 0, bytes.length);
+            }
+        }
+    }
+}
@@ -11,7 +11,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde.
+ * Commands are written in the given format, but records in any of the formats can be read.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,8 +22,21 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final TopicStoreFormat format;
+
+    public TopicCommandSerde() {
+        this(TopicStoreFormat.JSON);
+    }
+
+    public TopicCommandSerde(TopicStoreFormat format) {
+        this.format = format;
+    }
+
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        if (format == TopicStoreFormat.BINARY) {
+            return TopicBinarySerialization.toBytes(data);
+        }
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -39,6 +53,9 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
+        if (TopicBinarySerialization.isBinary(data)) {
+            return TopicBinarySerialization.commandFromBytes(data);
+        }
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
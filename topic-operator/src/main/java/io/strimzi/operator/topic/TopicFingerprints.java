@@ -0,0 +1,211 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicSpec;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact content hashes of the three versions of the topics (the KafkaTopic resource, the topic in Kafka and the
+ * topic in the topic store) as they were when each topic was last reconciled successfully. When none of the versions
+ * changed since then, the periodic reconciliation of the topic would not change anything and can be skipped.
+ * The hashes are computed directly from the KafkaTopic resources and the topic metadata, without building the
+ * {@link Topic} objects which the full reconciliation needs.
+ */
+class TopicFingerprints {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<TopicName, Fingerprint> reconciled = new ConcurrentHashMap<>();
+
+    /**
+     * @param topicName The name of the topic
+     * @param fingerprint The fingerprint of the current versions of the topic
+     * @return Whether the topic was last reconciled successfully with the same versions
+     */
+    boolean unchanged(TopicName topicName, Fingerprint fingerprint) {
+        return fingerprint != null && fingerprint.equals(reconciled.get(topicName));
+    }
+
+    /**
+     * Records the fingerprint of the versions with which the topic was reconciled successfully
+     */
+    void reconciled(TopicName topicName, Fingerprint fingerprint) {
+        reconciled.put(topicName, fingerprint);
+    }
+
+    /**
+     * Forgets the topic, so that its next periodic reconciliation is never skipped
+     */
+    void forget(TopicName topicName) {
+        reconciled.remove(topicName);
+    }
+
+    /**
+     * Forgets all the topics other than the given ones
+     */
+    void retainAll(Collection<TopicName> topicNames) {
+        Set<TopicName> retained = new HashSet<>(topicNames);
+        reconciled.keySet().retainAll(retained);
+    }
+
+    int size() {
+        return reconciled.size();
+    }
+
+    /**
+     * The hashes of the three versions of a topic
+     */
+    static class Fingerprint {
+        private final long kube;
+        private final long kafka;
+        private final long store;
+
+        Fingerprint(long kube, long kafka, long store) {
+            this.kube = kube;
+            this.kafka = kafka;
+            this.store = store;
+        }
+
+        /**
+         * @return The fingerprint of the given versions, or null if any of them is missing or if the status of the
+         * KafkaTopic does not show a successful reconciliation of its current generation. Reconciliations which
+         * leave the status out of date are then never skipped.
+         */
+        static Fingerprint of(KafkaTopic kafkaTopic, TopicMetadata kafkaMetadata, Topic privateTopic) {
+            if (kafkaTopic == null || kafkaMetadata == null || privateTopic == null || !isReady(kafkaTopic)) {
+                return null;
+            }
+            return new Fingerprint(hash(kafkaTopic), hash(kafkaMetadata), hash(privateTopic));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Fingerprint that = (Fingerprint) o;
+            return kube == that.kube && kafka == that.kafka && store == that.store;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kube, kafka, store);
+        }
+    }
+
+    private static boolean isReady(KafkaTopic kafkaTopic) {
+        KafkaTopicStatus status = kafkaTopic.getStatus();
+        if (status == null || status.getConditions() == null
+                || !Objects.equals(kafkaTopic.getMetadata().getGeneration(), status.getObservedGeneration())) {
+            return false;
+        }
+        return status.getConditions().stream()
+                .anyMatch(condition -> "Ready".equals(condition.getType()) && "True".equals(condition.getStatus()));
+    }
+
+    /**
+     * The hash of the spec of the KafkaTopic, together with its generation, labels and annotations
+     */
+    static long hash(KafkaTopic kafkaTopic) {
+        ObjectMeta metadata = kafkaTopic.getMetadata();
+        KafkaTopicSpec spec = kafkaTopic.getSpec();
+        long hash = FNV_OFFSET_BASIS;
+        hash = add(hash, metadata.getName());
+        hash = add(hash, String.valueOf(metadata.getGeneration()));
+        hash = add(hash, metadata.getLabels());
+        hash = add(hash, metadata.getAnnotations());
+        if (spec != null) {
+            hash = add(hash, spec.getTopicName());
+            hash = add(hash, String.valueOf(spec.getPartitions()));
+            hash = add(hash, String.valueOf(spec.getReplicas()));
+            hash = add(hash, spec.getConfig());
+        }
+        return hash;
+    }
+
+    /**
+     * The hash of the topic in Kafka, covering the same fields as {@link TopicSerialization#fromTopicMetadata(TopicMetadata)}
+     */
+    static long hash(TopicMetadata kafkaMetadata) {
+        TopicDescription description = kafkaMetadata.getDescription();
+        long hash = FNV_OFFSET_BASIS;
+        hash = add(hash, description.name());
+        hash = add(hash, String.valueOf(description.partitions().size()));
+        hash = add(hash, description.partitions().isEmpty() ? null : String.valueOf(description.partitions().get(0).replicas().size()));
+        Map<String, String> config = new HashMap<>();
+        for (ConfigEntry entry : kafkaMetadata.getConfig().entries()) {
+            if (entry.source() != ConfigEntry.ConfigSource.DEFAULT_CONFIG
+                    && entry.source() != ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG) {
+                config.put(entry.name(), entry.value());
+            }
+        }
+        return add(hash, config);
+    }
+
+    /**
+     * The hash of the topic in the topic store
+     */
+    static long hash(Topic topic) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = add(hash, topic.getTopicName().toString());
+        hash = add(hash, topic.getOrAsKubeName().toString());
+        hash = add(hash, String.valueOf(topic.getNumPartitions()));
+        hash = add(hash, String.valueOf(topic.getNumReplicas()));
+        return add(hash, topic.getConfig());
+    }
+
+    /**
+     * Adds the entries of the map in the order of their keys, so that the hash does not depend on the map implementation
+     */
+    private static long add(long hash, Map<String, ?> map) {
+        if (map == null) {
+            return add(hash, (String) null);
+        }
+        Map<String, Object> sorted = new TreeMap<>(Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+        sorted.putAll(map);
+        hash = add(hash, String.valueOf(sorted.size()));
+        for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+            hash = add(hash, entry.getKey());
+            hash = add(hash, entry.getValue() != null ? entry.getValue().toString() : null);
+        }
+        return hash;
+    }
+
+    /**
+     * Adds the string to the 64-bit FNV-1a hash. Every string is terminated, so that adjacent strings cannot be
+     * confused, and null is distinguished from the empty string.
+     */
+    private static long add(long hash, String value) {
+        if (value == null) {
+            hash = (hash ^ 0xff) * FNV_PRIME;
+        } else {
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+        }
+        // 0xfe and 0xff are never part of UTF-8
+        return (hash ^ 0xfe) * FNV_PRIME;
+    }
+}
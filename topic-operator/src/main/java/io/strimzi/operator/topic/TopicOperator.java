@@ -14,6 +14,7 @@ import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.BackOff;
@@ -35,15 +36,19 @@ import org.apache.logging.log4j.Logger;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
@@ -63,6 +68,9 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Future<Void>> pendingEvents = new ConcurrentHashMap<>();
+    private volatile MetadataSnapshot metadataSnapshot;
+    private final TopicFingerprints fingerprints = new TopicFingerprints();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -70,7 +78,13 @@ class TopicOperator {
     private Counter failedReconciliationsCounter;
     private Counter successfulReconciliationsCounter;
     private Counter lockedReconciliationsCounter;
+    private Counter mergedEventsCounter;
     private AtomicInteger topicCounter;
+    private AtomicInteger pendingReconciliationsGauge;
+    private Counter periodicTopicsCounter;
+    private AtomicInteger periodicRemainingGauge;
+    private Counter skippedReconciliationsCounter;
+    private Counter unchangedStatusCounter;
     protected Timer reconciliationsTimer;
 
     enum EventType {
@@ -420,6 +434,30 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            mergedEventsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.merged",
+                    "Number of topic events merged into a pending reconciliation of the same topic",
+                    metricTags);
+
+            pendingReconciliationsGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.pending",
+                    "Number of reconciliations for individual topics which are running or waiting for another reconciliation of the same topic",
+                    metricTags);
+
+            periodicTopicsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.periodical.topics",
+                    "Number of topics processed by the periodical reconciliations",
+                    metricTags);
+
+            periodicRemainingGauge = metrics.gauge(METRICS_PREFIX + "reconciliations.periodical.remaining",
+                    "Number of topics which the running periodical reconciliation has yet to process",
+                    metricTags);
+
+            unchangedStatusCounter = metrics.counter(METRICS_PREFIX + "resources.status.unchanged",
+                    "Number of status updates of KafkaTopic resources skipped because the status did not change",
+                    metricTags);
+
+            skippedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.skipped",
+                    "Number of periodical reconciliations of individual topics skipped because nothing changed since the last successful reconciliation",
+                    metricTags);
         }
     }
 
@@ -436,13 +474,49 @@ class TopicOperator {
      * immediately if there are currently no other actions with the given {@code key},
      * or when the other actions with the given {@code key} have completed.
      * When the given {@code action} is complete it must complete its argument future,
-     * which will complete the returned future
+     * which will complete the returned future.
+     * If the action has a {@link Reconciliation#coalescingKey()} and an action with the same coalescing key
+     * is still waiting to run for the same topic, the given action is not run at all and the returned future
+     * is completed with the result of the waiting action.
+     * Such actions are also delayed by {@link Config#EVENT_DEBOUNCE_MS} to merge bursts of events.
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
+        String coalescingKey = action.coalescingKey();
+        if (coalescingKey == null) {
+            return executeWithTopicLockHeld(logContext, key, action, null);
+        }
+
+        String pendingKey = key + "/" + coalescingKey;
+        Promise<Void> result = Promise.promise();
+        Future<Void> pendingResult = pendingEvents.putIfAbsent(pendingKey, result.future());
+        if (pendingResult != null) {
+            LOGGER.debug("{}: Merging action {} on topic {} into the pending one", logContext, action, key);
+            mergedEventsCounter.increment();
+            return pendingResult;
+        }
+
+        // Once the lock is acquired the action reads the current state of the topic,
+        // so the events received after that need a new reconciliation
+        Runnable execute = () -> executeWithTopicLockHeld(logContext, key, action, () -> pendingEvents.remove(pendingKey, result.future()))
+                .onComplete(ar -> {
+                    pendingEvents.remove(pendingKey, result.future());
+                    result.handle(ar);
+                });
+        long debounceMs = config.get(Config.EVENT_DEBOUNCE_MS);
+        if (debounceMs > 0) {
+            vertx.setTimer(debounceMs, timerId -> execute.run());
+        } else {
+            execute.run();
+        }
+        return result.future();
+    }
+
+    private Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action, Runnable onLockAcquired) {
         String lockName = key.toString();
         int timeoutMs = 30 * 1_000;
         Promise<Void> result = Promise.promise();
         BiFunction<TopicName, Integer, Integer> decrement = (topicName, waiters) -> {
+            pendingReconciliationsGauge.decrementAndGet();
             if (waiters != null) {
                 if (waiters == 1) {
                     LOGGER.debug("{}: Removing last waiter {}", logContext, action);
@@ -466,9 +540,13 @@ class TopicOperator {
                 return waiters + 1;
             }
         });
+        pendingReconciliationsGauge.incrementAndGet();
         vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
             if (lockResult.succeeded()) {
                 LOGGER.debug("{}: Lock acquired", logContext);
+                if (onLockAcquired != null) {
+                    onLockAcquired.run();
+                }
                 LOGGER.debug("{}: Executing action {} on topic {}", logContext, action, lockName);
                 action.execute().onComplete(actionResult -> {
                     LOGGER.debug("{}: Executing handler for action {} on topic {}", logContext, action, lockName);
@@ -479,6 +557,10 @@ class TopicOperator {
                             LOGGER.error("{}: Error updating KafkaTopic.status for action {}", logContext, action,
                                     statusResult.cause());
                         }
+                        // The action might have changed the topic in Kafka, so the metadata fetched for the
+                        // periodic reconciliation cannot be used any more. This is done before completing the
+                        // result, which might already start the next periodic reconciliation with a new snapshot.
+                        invalidateMetadataSnapshot(key);
                         try {
                             if (actionResult.failed() && statusResult.failed()) {
                                 actionResult.cause().addSuppressed(statusResult.cause());
@@ -822,6 +904,11 @@ class TopicOperator {
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
         return executeWithTopicLockHeld(logContext, topicName,
                 new Reconciliation("onTopicConfigChanged", true) {
+                    @Override
+                    protected String coalescingKey() {
+                        return "onTopicConfigChanged";
+                    }
+
                     @Override
                     public Future<Void> execute() {
                         return kafka.topicMetadata(topicName)
@@ -838,6 +925,11 @@ class TopicOperator {
      */
     Future<Void> onTopicPartitionsChanged(LogContext logContext, TopicName topicName) {
         Reconciliation action = new Reconciliation("onTopicPartitionsChanged", true) {
+            @Override
+            protected String coalescingKey() {
+                return "onTopicPartitionsChanged";
+            }
+
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
@@ -993,6 +1085,14 @@ class TopicOperator {
 
         public abstract Future<Void> execute();
 
+        /**
+         * @return The key of the events which can be merged into this reconciliation while it is waiting to run,
+         * or null if this reconciliation should never be merged with other events of the same topic.
+         */
+        protected String coalescingKey() {
+            return null;
+        }
+
         protected void observedTopicFuture(KafkaTopic observedTopic) {
             topic = observedTopic;
         }
@@ -1010,8 +1110,7 @@ class TopicOperator {
                     KafkaTopicStatus kts = new KafkaTopicStatus();
                     StatusUtils.setStatusConditionAndObservedGeneration(topic, kts, result);
 
-                    StatusDiff ksDiff = new StatusDiff(topic.getStatus(), kts);
-                    if (!ksDiff.isEmpty()) {
+                    if (!statusUnchanged(topic.getStatus(), kts) && !new StatusDiff(topic.getStatus(), kts).isEmpty()) {
                         Promise<Void> promise = Promise.promise();
                         statusFuture = promise.future();
                         k8s.updateResourceStatus(new KafkaTopicBuilder(topic).withStatus(kts).build()).onComplete(ar -> {
@@ -1028,6 +1127,7 @@ class TopicOperator {
                             statusFuture.handle(ar.map((Void) null));
                         });
                     } else {
+                        unchangedStatusCounter.increment();
                         statusFuture = Future.succeededFuture();
                     }
                 } else {
@@ -1046,6 +1146,13 @@ class TopicOperator {
     Future<Void> onResourceEvent(LogContext logContext, KafkaTopic modifiedTopic, Watcher.Action action) {
         return executeWithTopicLockHeld(logContext, new TopicName(modifiedTopic),
                 new Reconciliation("onResourceEvent", false) {
+                    @Override
+                    protected String coalescingKey() {
+                        // The resource is read again when the reconciliation runs, so only the kind of the event matters.
+                        // Several KafkaTopics might refer to the same topic, so the events of different resources are not merged.
+                        return "onResourceEvent " + action + " " + modifiedTopic.getMetadata().getName();
+                    }
+
                     @Override
                     public Future<Void> execute() {
                         return k8s.getFromName(new ResourceName(modifiedTopic))
@@ -1207,8 +1314,8 @@ class TopicOperator {
     }
 
     public boolean isWorkInflight() {
-        LOGGER.debug("Outstanding: {}", inflight);
-        return inflight.size() > 0;
+        LOGGER.debug("Outstanding: {}, pending events: {}", inflight, pendingEvents.keySet());
+        return inflight.size() > 0 || pendingEvents.size() > 0;
     }
 
     /**
@@ -1231,6 +1338,7 @@ class TopicOperator {
         private final Set<TopicName> succeeded;
         private final Set<TopicName> undetermined;
         private final Map<TopicName, Throwable> failed;
+        private final Set<TopicName> swept = ConcurrentHashMap.newKeySet();
         private List<KafkaTopic> ktList;
 
         public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed) {
@@ -1245,14 +1353,169 @@ class TopicOperator {
         }
     }
 
+    /**
+     * Metadata of the Kafka topics fetched in batches at the start of the periodic reconciliation.
+     * An entry is removed once it has been used or when any other action on the topic completes,
+     * so the periodic reconciliation never acts on metadata older than the last change of the topic.
+     */
+    static class MetadataSnapshot {
+        private final Map<TopicName, TopicMetadata> metadata = new ConcurrentHashMap<>();
+        private final Set<TopicName> invalidated = ConcurrentHashMap.newKeySet();
+
+        void putAll(Map<TopicName, TopicMetadata> fetched) {
+            for (Map.Entry<TopicName, TopicMetadata> entry : fetched.entrySet()) {
+                if (!invalidated.contains(entry.getKey())) {
+                    metadata.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        TopicMetadata remove(TopicName topicName) {
+            return metadata.remove(topicName);
+        }
+
+        void invalidate(TopicName topicName) {
+            invalidated.add(topicName);
+            metadata.remove(topicName);
+        }
+    }
+
+    private void invalidateMetadataSnapshot(TopicName topicName) {
+        MetadataSnapshot snapshot = metadataSnapshot;
+        if (snapshot != null) {
+            snapshot.invalidate(topicName);
+        }
+    }
+
+    /**
+     * Fetches the metadata of the given batch of topics into a new {@link MetadataSnapshot} using a single request.
+     * When the request fails, the topics are fetched one by one later during their reconciliation.
+     */
+    private Future<Void> loadMetadataSnapshot(String reconciliationType, List<TopicName> batch) {
+        MetadataSnapshot snapshot = new MetadataSnapshot();
+        metadataSnapshot = snapshot;
+
+        return kafka.topicsMetadata(batch)
+                .<Void>map(fetched -> {
+                    snapshot.putAll(fetched);
+                    return null;
+                })
+                .recover(error -> {
+                    LOGGER.warn("Error getting metadata of {} topics during {} reconciliation, they will be fetched one by one",
+                            batch.size(), reconciliationType, error);
+                    return Future.succeededFuture();
+                });
+    }
+
+    /**
+     * Runs an action for each item taken from an iterator, with at most the given number of actions running at the
+     * same time. The next item is taken from the iterator only once a running action completes, so the number of
+     * futures and reconciliations in memory is bounded by the concurrency rather than by the number of items.
+     * The returned future completes once the actions of all the items completed. Like {@link CompositeFuture#join},
+     * it fails with the first failure of an action.
+     */
+    static class BoundedSweep<T> {
+        private final Iterator<T> items;
+        private final int concurrency;
+        private final Function<T, Future<?>> action;
+        private final Runnable onItemCompleted;
+        private final Promise<Void> result = Promise.promise();
+
+        private int running = 0;
+        private boolean pumping = false;
+        private Throwable firstError;
+
+        BoundedSweep(Iterator<T> items, int concurrency, Function<T, Future<?>> action, Runnable onItemCompleted) {
+            this.items = items;
+            this.concurrency = concurrency;
+            this.action = action;
+            this.onItemCompleted = onItemCompleted;
+        }
+
+        Future<Void> run() {
+            pump();
+            return result.future();
+        }
+
+        private void pump() {
+            synchronized (this) {
+                if (pumping) {
+                    // The pumping thread picks up the slot freed by this completion
+                    return;
+                }
+                pumping = true;
+            }
+            // Loop rather than recursing from the completion handlers, which run immediately for completed futures
+            while (true) {
+                T item;
+                synchronized (this) {
+                    if (running >= concurrency || !items.hasNext()) {
+                        pumping = false;
+                        if (running == 0 && !items.hasNext()) {
+                            if (firstError != null) {
+                                result.tryFail(firstError);
+                            } else {
+                                result.tryComplete();
+                            }
+                        }
+                        return;
+                    }
+                    item = items.next();
+                    running++;
+                }
+
+                Future<?> future;
+                try {
+                    future = action.apply(item);
+                } catch (RuntimeException e) {
+                    future = Future.failedFuture(e);
+                }
+                future.onComplete(ar -> {
+                    onItemCompleted.run();
+                    synchronized (this) {
+                        running--;
+                        if (ar.failed() && firstError == null) {
+                            firstError = ar.cause();
+                        }
+                    }
+                    pump();
+                });
+            }
+        }
+    }
+
+    /**
+     * Runs the given action of the periodic reconciliation for all the items, with at most
+     * {@link Config#FULL_RECONCILIATION_CONCURRENCY} of them running at the same time.
+     * The items are expected to be already counted in the gauge of the remaining topics.
+     * A topic is processed by several passes of the same periodic reconciliation (from Kafka, from KafkaTopics and the
+     * remaining deletions), so it is counted as a processed topic only by the first of them.
+     */
+    private <T> Future<Void> sweep(Collection<T> items, Function<T, TopicName> topicNameOf, ReconcileState state,
+                                   Function<T, Future<?>> action) {
+        return new BoundedSweep<>(items.iterator(), config.get(Config.FULL_RECONCILIATION_CONCURRENCY), item -> {
+            if (state.swept.add(topicNameOf.apply(item))) {
+                periodicTopicsCounter.increment();
+            }
+            return action.apply(item);
+        }, periodicRemainingGauge::decrementAndGet).run();
+    }
+
     Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.info("Starting {} reconciliation", reconciliationType);
+        long startNanos = System.nanoTime();
+        double topicsAtStart = periodicTopicsCounter.count();
+        periodicRemainingGauge.set(0);
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
+        )).compose(topicNamesFromKafka -> {
+            List<TopicName> topicNames = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            periodicRemainingGauge.addAndGet(topicNames.size());
+            // Topics which no longer exist in Kafka are reconciled in full if they appear again
+            fingerprints.retainAll(topicNames);
+            // Reconcile the topic found in Kafka
+            return reconcileFromKafka(reconciliationType, topicNames);
+        }).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
@@ -1261,9 +1524,9 @@ class TopicOperator {
                 return reconcileState;
             });
         }).compose(reconcileState -> {
-            List<Future> futs = new ArrayList<>();
             topicCounter.set(reconcileState.ktList.size());
-            for (KafkaTopic kt : reconcileState.ktList) {
+            periodicRemainingGauge.addAndGet(reconcileState.ktList.size());
+            Future<Void> kubeSweep = sweep(reconcileState.ktList, TopicName::new, reconcileState, kt -> {
                 LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName()).withKubeTopic(kt);
                 Topic topic = TopicSerialization.fromTopicResource(kt);
                 TopicName topicName = topic.getTopicName();
@@ -1273,116 +1536,141 @@ class TopicOperator {
                     LOGGER.trace("{}: Already failed to reconcile {}", logContext, topicName);
                     reconciliationsCounter.increment();
                     failedReconciliationsCounter.increment();
+                    return Future.succeededFuture();
                 } else if (reconcileState.succeeded.contains(topicName)) {
                     // we already succeeded in reconciling this topic in reconcileFromKafka()
                     LOGGER.trace("{}: Already successfully reconciled {}", logContext, topicName);
                     reconciliationsCounter.increment();
                     successfulReconciliationsCounter.increment();
+                    return Future.succeededFuture();
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    return reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
-                    }));
+                    });
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debug("{}: Topic {} exists in Kubernetes, but not Kafka", logContext, topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    return reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
-                    }));
-                }
-            }
-            return CompositeFuture.join(futs).compose(joined -> {
-                List<Future> futs2 = new ArrayList<>();
-                for (Throwable exception : reconcileState.failed.values()) {
-                    futs2.add(Future.failedFuture(exception));
+                    });
                 }
+            });
+            return kubeSweep.compose(joined -> {
                 // anything left in undetermined doesn't exist in topic store nor kube
-                for (TopicName tn : reconcileState.undetermined) {
+                List<TopicName> remaining = new ArrayList<>(reconcileState.undetermined);
+                periodicRemainingGauge.addAndGet(remaining.size());
+                Future<Void> remainingSweep = sweep(remaining, Function.identity(), reconcileState, tn -> {
                     LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn);
-                    futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining", true) {
+                    return executeWithTopicLockHeld(logContext, tn, new Reconciliation("delete-remaining", true) {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null, null);
                         }
-                    }));
-                }
-                return CompositeFuture.join(futs2);
+                    });
+                });
+                Promise<Void> result = Promise.promise();
+                remainingSweep.onComplete(ar -> {
+                    // Fail with the errors of the topics which failed in reconcileFromKafka() first
+                    Throwable error = reconcileState.failed.values().stream().findFirst().orElse(ar.cause());
+                    if (error != null) {
+                        result.fail(error);
+                    } else {
+                        result.complete();
+                    }
+                });
+                return result.future();
             });
+        }).onComplete(ar -> {
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            long topics = (long) (periodicTopicsCounter.count() - topicsAtStart);
+            LOGGER.info("Finished {} reconciliation of {} topics in {}ms ({} topics/s)", reconciliationType, topics, durationMs,
+                    durationMs > 0 ? topics * 1000 / durationMs : topics);
+            periodicRemainingGauge.set(0);
         });
     }
 
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * The topics are processed in batches of {@link Config#TOPIC_METADATA_BATCH_SIZE} topics, so that the metadata of
+     * only a single batch is held in memory. The metadata of each batch is fetched with a single request and its topics
+     * are then reconciled with bounded concurrency.
      */
     private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
-        Set<TopicName> succeeded = new HashSet<>();
-        Set<TopicName> undetermined = new HashSet<>();
-        Map<TopicName, Throwable> failed = new HashMap<>();
+        Set<TopicName> succeeded = ConcurrentHashMap.newKeySet();
+        Set<TopicName> undetermined = ConcurrentHashMap.newKeySet();
+        Map<TopicName, Throwable> failed = new ConcurrentHashMap<>();
 
         LOGGER.debug("Reconciling kafka topics {}", topicsFromKafka);
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
-        if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", false) {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting topic " + topicName + " from topic store during "
-                                            + reconciliationType + " reconciliation", error));
-                            return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debug("{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).recover(error -> {
-                                            LOGGER.debug("{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return Future.failedFuture(error);
-                                        });
-                            }
-                        });
-
-                    }
-                }));
-            }
-            return join(futures).map(state);
-        } else {
-            return Future.succeededFuture(state);
+        int batchSize = config.get(Config.TOPIC_METADATA_BATCH_SIZE);
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        Future<Void> chain = Future.succeededFuture();
+        for (int i = 0; i < topicsFromKafka.size(); i += batchSize) {
+            List<TopicName> batch = topicsFromKafka.subList(i, Math.min(i + batchSize, topicsFromKafka.size()));
+            chain = chain.compose(ignored -> loadMetadataSnapshot(reconciliationType, batch))
+                    .compose(ignored -> sweep(batch, Function.identity(), state, topicName -> reconcileFromKafka(reconciliationType, topicName, state)))
+                    .recover(error -> {
+                        // Carry on with the other batches and fail once all of them are reconciled
+                        firstError.compareAndSet(null, error);
+                        return Future.succeededFuture();
+                    });
         }
-
-
+        return chain.onComplete(ignored -> metadataSnapshot = null)
+                .compose(ignored -> firstError.get() != null ? Future.failedFuture(firstError.get()) : Future.succeededFuture(state));
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> CompositeFuture join(List<T> futures) {
-        return CompositeFuture.join((List) futures);
+    private Future<Void> reconcileFromKafka(String reconciliationType, TopicName topicName, ReconcileState state) {
+        LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
+        return executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka", false) {
+            @Override
+            public Future<Void> execute() {
+                return getFromTopicStore(topicName).recover(error -> {
+                    state.failed.put(topicName,
+                            new OperatorException("Error getting topic " + topicName + " from topic store during "
+                                    + reconciliationType + " reconciliation", error));
+                    return Future.succeededFuture();
+                }).compose(topic -> {
+                    if (topic == null) {
+                        LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
+                        state.undetermined.add(topicName);
+                        return Future.succeededFuture();
+                    } else {
+                        LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
+                        MetadataSnapshot snapshot = metadataSnapshot;
+                        TopicMetadata snapshotMetadata = snapshot != null ? snapshot.remove(topicName) : null;
+                        return reconcileWithPrivateTopic(logContext, topicName, topic, snapshotMetadata, this)
+                                .<Void>map(ignored -> {
+                                    LOGGER.debug("{} reconcile success -> succeeded", topicName);
+                                    state.succeeded.add(topicName);
+                                    return null;
+                                }).recover(error -> {
+                                    LOGGER.debug("{} reconcile error -> failed", topicName);
+                                    state.failed.put(topicName, error);
+                                    return Future.failedFuture(error);
+                                });
+                    }
+                });
+
+            }
+        });
     }
 
 
     /**
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
+     * When {@code kafkaTopicMeta} is not null it is used instead of fetching the topic metadata from Kafka.
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
-                                                   Topic privateTopic,
+                                                   Topic privateTopic, TopicMetadata kafkaTopicMeta,
                                                    Reconciliation reconciliation) {
         return k8s.getFromName(privateTopic.getResourceName())
             .recover(error -> {
@@ -1393,36 +1681,88 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, kafkaTopicMeta);
             });
     }
 
+    /**
+     * Whether the desired status differs from the current one only in the transition times of its conditions.
+     * This covers the common case of a reconciliation which did not change anything without the cost of
+     * a {@link StatusDiff}, which is used for the other cases.
+     */
+    static boolean statusUnchanged(KafkaTopicStatus current, KafkaTopicStatus desired) {
+        if (current == null
+                || current.getObservedGeneration() != desired.getObservedGeneration()
+                || !isNullOrEmpty(current.getAdditionalProperties())
+                || current.getConditions() == null
+                || desired.getConditions() == null
+                || current.getConditions().size() != desired.getConditions().size()) {
+            return false;
+        }
+        for (int i = 0; i < current.getConditions().size(); i++) {
+            Condition currentCondition = current.getConditions().get(i);
+            Condition desiredCondition = desired.getConditions().get(i);
+            if (!Objects.equals(currentCondition.getType(), desiredCondition.getType())
+                    || !Objects.equals(currentCondition.getStatus(), desiredCondition.getStatus())
+                    || !Objects.equals(currentCondition.getReason(), desiredCondition.getReason())
+                    || !Objects.equals(currentCondition.getMessage(), desiredCondition.getMessage())
+                    || !isNullOrEmpty(currentCondition.getAdditionalProperties())
+                    || !isNullOrEmpty(desiredCondition.getAdditionalProperties())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNullOrEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
+    }
+
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, TopicMetadata snapshotMeta) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
+            if (snapshotMeta != null && fingerprints.unchanged(topicName,
+                    TopicFingerprints.Fingerprint.of(kafkaTopicResource, snapshotMeta, privateTopic))) {
+                // Nothing changed since the last successful reconciliation, so reconciling again would not change anything
+                skippedReconciliationsCounter.increment();
+                reconciliation.succeeded();
+                LOGGER.debug("{}: Skipping reconciliation of unchanged KafkaTopic {}", logContext, logTopic(kafkaTopicResource));
+                return Future.succeededFuture();
+            }
             Topic k8sTopic = kafkaTopicResource != null ? TopicSerialization.fromTopicResource(kafkaTopicResource) : null;
-            kafka.topicMetadata(topicName)
+            Future<TopicMetadata> kafkaTopicMetaFuture = snapshotMeta != null ? Future.succeededFuture(snapshotMeta) : kafka.topicMetadata(topicName);
+            AtomicReference<TopicFingerprints.Fingerprint> fingerprint = new AtomicReference<>();
+            kafkaTopicMetaFuture
                 .compose(kafkaTopicMeta -> {
+                    fingerprint.set(TopicFingerprints.Fingerprint.of(kafkaTopicResource, kafkaTopicMeta, privateTopic));
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
                 })
                 .onComplete(ar -> {
                     if (ar.failed()) {
+                        fingerprints.forget(topicName);
                         reconciliation.failed();
                         LOGGER.error("Error reconciling KafkaTopic {}", logTopic(kafkaTopicResource), ar.cause());
                     } else {
+                        if (fingerprint.get() != null) {
+                            fingerprints.reconciled(topicName, fingerprint.get());
+                        } else {
+                            fingerprints.forget(topicName);
+                        }
                         reconciliation.succeeded();
                         LOGGER.info("Success reconciling KafkaTopic {}", logTopic(kafkaTopicResource));
                     }
                     topicPromise.handle(ar);
                 });
         } catch (InvalidTopicException e) {
+            fingerprints.forget(topicName);
             reconciliation.failed();
             LOGGER.error("Error reconciling KafkaTopic {}: Invalid resource: ", logTopic(kafkaTopicResource), e.getMessage());
             topicPromise.fail(e);
         } catch (OperatorException e) {
+            fingerprints.forget(topicName);
             reconciliation.failed();
             LOGGER.error("Error reconciling KafkaTopic {}", logTopic(kafkaTopicResource), e);
             topicPromise.fail(e);
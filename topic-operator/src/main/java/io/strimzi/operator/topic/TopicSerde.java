@@ -7,16 +7,33 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde.
+ * Topics are written in the given format, but records in any of the formats can be read.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final TopicStoreFormat format;
+
+    public TopicSerde() {
+        this(TopicStoreFormat.JSON);
+    }
+
+    public TopicSerde(TopicStoreFormat format) {
+        this.format = format;
+    }
+
     @Override
     public byte[] serialize(String topic, Topic data) {
+        if (format == TopicStoreFormat.BINARY) {
+            return TopicBinarySerialization.toBytes(data);
+        }
         return TopicSerialization.toJson(data);
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
+        if (TopicBinarySerialization.isBinary(data)) {
+            return TopicBinarySerialization.fromBytes(data);
+        }
         return TopicSerialization.fromJson(data);
     }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import java.util.Locale;
+
+/**
+ * The format used to write the topics and topic commands to the Kafka Streams based TopicStore.
+ * Regardless of the format used for writing, the records in both formats can always be read.
+ */
+public enum TopicStoreFormat {
+    /** The JSON format used by all the previous versions */
+    JSON,
+    /** The compact binary format of {@link TopicBinarySerialization} */
+    BINARY;
+
+    /**
+     * @param format The name of the format (case insensitive)
+     * @return The format with the given name
+     */
+    public static TopicStoreFormat fromString(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown topic store format " + format + ", expected one of json, binary");
+        }
+    }
+}
@@ -28,17 +28,20 @@ import java.util.function.Supplier;
 public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String storeTopic;
     private final String topicStoreName;
+    private final TopicStoreFormat format;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
 
     public TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
+            TopicStoreFormat format,
             Properties kafkaProperties,
             ForeachAction<? super String, ? super Integer> dispatcher
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
+        this.format = format;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
     }
@@ -57,7 +60,7 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         // Key is Kafka topic name -- which is also used for KeyValue store key
         KStream<String, TopicCommand> topicRequest = builder.stream(
                 storeTopic,
-                Consumed.with(Serdes.String(), new TopicCommandSerde())
+                Consumed.with(Serdes.String(), new TopicCommandSerde(format))
         );
 
         // Data structure holds all topic information
@@ -65,7 +68,7 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
                 Stores
                         .keyValueStoreBuilder(
                                 Stores.inMemoryKeyValueStore(topicStoreName),
-                                Serdes.String(), new TopicSerde()
+                                Serdes.String(), new TopicSerde(format)
                         )
                         .withCachingEnabled()
                         .withLoggingEnabled(configuration);
@@ -0,0 +1,233 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ZooKeeper watcher for the sequential config change notifications which Kafka writes to {@code /config/changes}
+ * whenever the config of an entity changes. The notifications of topics are turned into calls of
+ * {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)}. Unlike {@link TopicConfigsWatcher} this needs
+ * a single watch regardless of the number of topics. All the notifications observed by a single child watch event
+ * are coalesced, so the operator is called at most once per topic for them.
+ */
+class ZkConfigChangesWatcher {
+
+    private final static Logger LOGGER = LogManager.getLogger(ZkConfigChangesWatcher.class);
+
+    private static final String CONFIG_CHANGES_ZNODE = "/config/changes";
+    private static final String NOTIFICATION_PREFIX = "config_change_";
+    private static final String TOPICS_ENTITY_TYPE = "topics";
+
+    private final TopicOperator topicOperator;
+    private volatile ZkWatcher.ZkWatcherState state = ZkWatcher.ZkWatcherState.NOT_STARTED;
+
+    /** The sequence number of the last processed notification, or null before the existing notifications were read */
+    private Long lastSequence;
+    private int watchCount = 0;
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator    Operator instance to notify
+     */
+    ZkConfigChangesWatcher(TopicOperator topicOperator) {
+        this.topicOperator = topicOperator;
+    }
+
+    /**
+     * Start the watcher. The notifications which already exist are skipped,
+     * as the changes they describe are handled by the initial reconciliation.
+     *
+     * @param zk    Zookeeper client instance
+     */
+    void start(Zk zk) {
+        synchronized (this) {
+            lastSequence = null;
+        }
+        zk.watchChildren(CONFIG_CHANGES_ZNODE, new ChildrenWatchHandler(zk)).<Void>compose(zk2 -> {
+            zk.children(CONFIG_CHANGES_ZNODE, childResult -> {
+                if (childResult.failed()) {
+                    LOGGER.error("Error on znode {} children", CONFIG_CHANGES_ZNODE, childResult.cause());
+                    return;
+                }
+                long initialSequence = childResult.result().stream()
+                        .mapToLong(ZkConfigChangesWatcher::sequence)
+                        .max()
+                        .orElse(-1L);
+                LOGGER.debug("Setting initial config change notification sequence {}", initialSequence);
+                synchronized (this) {
+                    lastSequence = initialSequence;
+                }
+                this.state = ZkWatcher.ZkWatcherState.STARTED;
+            });
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Stop the watcher
+     */
+    void stop() {
+        this.state = ZkWatcher.ZkWatcherState.STOPPED;
+    }
+
+    /**
+     * @return  if the watcher is already started
+     */
+    boolean started() {
+        return this.state == ZkWatcher.ZkWatcherState.STARTED;
+    }
+
+    /**
+     * @param child Name of the notification znode
+     * @return  The sequence number of the notification, or -1 if the znode is not a notification
+     */
+    static long sequence(String child) {
+        if (child.startsWith(NOTIFICATION_PREFIX)) {
+            try {
+                return Long.parseLong(child.substring(NOTIFICATION_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                LOGGER.debug("Ignoring znode {} which is not a config change notification", child);
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * Parses the topic name from the content of the config change notification. Both the version 1
+     * ({@code {"version":1,"entity_type":"topics","entity_name":"my-topic"}}) and the version 2
+     * ({@code {"version":2,"entity_path":"topics/my-topic"}}) formats used by Kafka are supported.
+     *
+     * @param data  The content of the notification znode
+     * @return  The name of the topic, or null if the notification is not about a topic
+     */
+    static String topicName(byte[] data) {
+        JsonNode root;
+        try {
+            root = TopicSerialization.fromJson(data, (mapper, bytes) -> {
+                try {
+                    return mapper.readTree(bytes);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            LOGGER.warn("Ignoring config change notification which could not be parsed", e);
+            return null;
+        }
+
+        if (root == null || !root.isObject()) {
+            return null;
+        } else if (root.path("version").asInt() == 1) {
+            return TOPICS_ENTITY_TYPE.equals(root.path("entity_type").asText()) ? root.path("entity_name").asText(null) : null;
+        } else {
+            String entityPath = root.path("entity_path").asText("");
+            String prefix = TOPICS_ENTITY_TYPE + "/";
+            return entityPath.startsWith(prefix) && entityPath.length() > prefix.length() ? entityPath.substring(prefix.length()) : null;
+        }
+    }
+
+    /**
+     * Handler which runs on ZkClient's single event handling thread.
+     */
+    private class ChildrenWatchHandler implements Handler<AsyncResult<List<String>>> {
+
+        private final Zk zk;
+
+        public ChildrenWatchHandler(Zk zk) {
+            this.zk = zk;
+        }
+
+        @Override
+        public void handle(AsyncResult<List<String>> childResult) {
+            if (state == ZkWatcher.ZkWatcherState.STOPPED) {
+                zk.unwatchChildren(CONFIG_CHANGES_ZNODE);
+                return;
+            }
+            if (childResult.failed()) {
+                LOGGER.error("Error on znode {} children", CONFIG_CHANGES_ZNODE, childResult.cause());
+                return;
+            }
+
+            List<String> notifications = new ArrayList<>();
+            int watchCount;
+            synchronized (ZkConfigChangesWatcher.this) {
+                if (lastSequence == null) {
+                    return;
+                }
+                long last = lastSequence;
+                for (String child : childResult.result()) {
+                    long sequence = sequence(child);
+                    if (sequence > last) {
+                        notifications.add(child);
+                        lastSequence = Math.max(lastSequence, sequence);
+                    }
+                }
+                watchCount = ++ZkConfigChangesWatcher.this.watchCount;
+            }
+
+            if (!notifications.isEmpty()) {
+                notifications.sort((a, b) -> Long.compare(sequence(a), sequence(b)));
+                LOGGER.debug("{}: New config change notifications {}", watchCount, notifications);
+                readNotifications(watchCount, notifications);
+            }
+        }
+
+        /**
+         * Reads the content of the given notifications and notifies the operator once per changed topic
+         * once all of them were read.
+         */
+        private void readNotifications(int watchCount, List<String> notifications) {
+            Set<String> topics = new LinkedHashSet<>();
+            int[] remaining = {notifications.size()};
+
+            for (String notification : notifications) {
+                String path = CONFIG_CHANGES_ZNODE + "/" + notification;
+                zk.getData(path, dataResult -> {
+                    boolean last;
+                    synchronized (topics) {
+                        if (dataResult.succeeded()) {
+                            String topicName = topicName(dataResult.result());
+                            if (topicName != null) {
+                                topics.add(topicName);
+                            }
+                        } else {
+                            // Kafka deletes the notifications after some time, so this notification was most likely
+                            // already deleted and the change is picked up by the periodic reconciliation
+                            LOGGER.debug("Error getting data of znode {}", path, dataResult.cause());
+                        }
+                        last = --remaining[0] == 0;
+                    }
+                    if (last) {
+                        notifyOperator(watchCount, topics);
+                    }
+                });
+            }
+        }
+
+        private void notifyOperator(int watchCount, Set<String> topics) {
+            LOGGER.info("Topic configs changed in ZK for watch {}: {}", watchCount, topics);
+            for (String topicName : topics) {
+                LogContext logContext = LogContext.zkWatch(CONFIG_CHANGES_ZNODE, watchCount + ":=" + topicName);
+                topicOperator.onTopicConfigChanged(logContext, new TopicName(topicName)).onComplete(ar -> {
+                    LOGGER.info("{}: Reconciliation result due to topic config change on topic {}: {}", logContext, topicName, ar);
+                });
+            }
+        }
+    }
+}
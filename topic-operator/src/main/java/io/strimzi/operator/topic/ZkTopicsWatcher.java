@@ -19,6 +19,9 @@ import java.util.Set;
  * ZooKeeper watcher for child znodes of {@code /brokers/topics},
  * calling {@link TopicOperator#onTopicCreated(LogContext, TopicName)} for new children and
  * {@link TopicOperator#onTopicDeleted(LogContext, TopicName)} for deleted children.
+ * The changes of the existing topics are observed either with a watch per topic
+ * ({@link TopicConfigsWatcher} and {@link ZkTopicWatcher}) or with a single watch
+ * of the config change notifications ({@link ZkConfigChangesWatcher}).
  */
 class ZkTopicsWatcher {
 
@@ -29,6 +32,7 @@ class ZkTopicsWatcher {
     private final TopicOperator topicOperator;
     private final TopicConfigsWatcher tcw;
     private final ZkTopicWatcher tw;
+    private final ZkConfigChangesWatcher ccw;
 
     private List<String> children;
 
@@ -45,11 +49,30 @@ class ZkTopicsWatcher {
         this.topicOperator = topicOperator;
         this.tcw = tcw;
         this.tw = tw;
+        this.ccw = null;
+    }
+
+    /**
+     * Constructor for watching the topics without any per-topic watches. Changes of the topic partitions are
+     * not notified by Kafka in this case and are picked up by the periodic reconciliation.
+     *
+     * @param topicOperator    Operator instance
+     * @param ccw   watcher for the config change notifications
+     */
+    ZkTopicsWatcher(TopicOperator topicOperator, ZkConfigChangesWatcher ccw) {
+        this.topicOperator = topicOperator;
+        this.tcw = null;
+        this.tw = null;
+        this.ccw = ccw;
     }
 
     void stop() {
-        this.tcw.stop();
-        this.tw.stop();
+        if (ccw != null) {
+            this.ccw.stop();
+        } else {
+            this.tcw.stop();
+            this.tw.stop();
+        }
         this.state = 2;
     }
 
@@ -61,8 +84,12 @@ class ZkTopicsWatcher {
         synchronized (this) {
             children = null;
         }
-        tcw.start(zk);
-        tw.start(zk);
+        if (ccw != null) {
+            ccw.start(zk);
+        } else {
+            tcw.start(zk);
+            tw.start(zk);
+        }
         zk.watchChildren(TOPICS_ZNODE, new ChildrenWatchHandler(zk)).<Void>compose(zk2 -> {
             zk.children(TOPICS_ZNODE, childResult -> {
                 if (childResult.failed()) {
@@ -76,8 +103,7 @@ class ZkTopicsWatcher {
                 }
                 // Start watching existing children for config and partition changes
                 for (String child : result) {
-                    tcw.addChild(child);
-                    tw.addChild(child);
+                    watchTopic(child);
                 }
                 this.state = 1;
             });
@@ -85,6 +111,20 @@ class ZkTopicsWatcher {
         });
     }
 
+    private void watchTopic(String topicName) {
+        if (ccw == null) {
+            tcw.addChild(topicName);
+            tw.addChild(topicName);
+        }
+    }
+
+    private void unwatchTopic(String topicName) {
+        if (ccw == null) {
+            tcw.removeChild(topicName);
+            tw.removeChild(topicName);
+        }
+    }
+
     /**
      * Handler which runs on ZkClient's single event handling thread.
      */
@@ -127,8 +167,7 @@ class ZkTopicsWatcher {
             LOGGER.info("Topics deleted from ZK for watch {}: {}", watchCount, deleted);
             if (!deleted.isEmpty()) {
                 for (String topicName : deleted) {
-                    tcw.removeChild(topicName);
-                    tw.removeChild(topicName);
+                    unwatchTopic(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":-" + topicName);
                     topicOperator.onTopicDeleted(logContext, new TopicName(topicName)).onComplete(ar -> {
                         if (ar.succeeded()) {
@@ -143,8 +182,7 @@ class ZkTopicsWatcher {
             LOGGER.info("Topics created in ZK for watch {}: {}", watchCount, created);
             if (!created.isEmpty()) {
                 for (String topicName : created) {
-                    tcw.addChild(topicName);
-                    tw.addChild(topicName);
+                    watchTopic(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":+" + topicName);
                     topicOperator.onTopicCreated(logContext, new TopicName(topicName)).onComplete(ar -> {
                         if (ar.succeeded()) {
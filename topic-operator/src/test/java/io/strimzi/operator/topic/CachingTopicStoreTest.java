@@ -0,0 +1,161 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+public class CachingTopicStoreTest extends TopicStoreTestBase {
+
+    private final TopicName topicName = new TopicName("my-topic");
+    private final Topic topic = new Topic.Builder(topicName.toString(), 2, (short) 3, singletonMap("foo", "bar")).build();
+
+    private DeferredTopicStore delegate;
+
+    @BeforeEach
+    public void setup() {
+        delegate = new DeferredTopicStore();
+        delegate.autoComplete = true;
+        store = new CachingTopicStore(delegate);
+    }
+
+    @Override
+    protected boolean canRunTest() {
+        return true;
+    }
+
+    @Test
+    public void testReadYourWrites(VertxTestContext context) {
+        delegate.autoComplete = false;
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .compose(v -> store.read(topicName))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> {
+                // The topic is read from the cache even though the store did not complete the write yet
+                assertThat(readTopic, is(topic));
+                assertThat(delegate.commands, contains("create my-topic"));
+                assertThat(delegate.reads, is(1));
+            })))
+            .compose(v -> store.delete(topicName))
+            .compose(v -> store.read(topicName))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> {
+                assertThat(readTopic, is(nullValue()));
+                assertThat(delegate.reads, is(1));
+            })))
+            .compose(v -> store.update(topic))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.NoSuchEntityExistsException.class));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWritesOfSameTopicAreOrdered(VertxTestContext context) {
+        delegate.autoComplete = false;
+        Topic updatedTopic = new Topic.Builder(topic).withNumPartitions(3).build();
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .compose(v -> store.update(updatedTopic))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The update is sent to the store only once the create is completed
+                assertThat(delegate.commands, contains("create my-topic"));
+                delegate.completeNext();
+                assertThat(delegate.commands, contains("create my-topic", "update my-topic"));
+                delegate.completeNext();
+                assertThat(delegate.topics.get(topicName), is(updatedTopic));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedWriteIsReadFromStoreAgain(VertxTestContext context) {
+        delegate.autoComplete = false;
+
+        Checkpoint async = context.checkpoint();
+        store.create(topic)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                delegate.failNext(new TopicStore.InvalidStateException());
+                delegate.autoComplete = true;
+            })))
+            .compose(v -> store.read(topicName))
+            .onComplete(context.succeeding(readTopic -> context.verify(() -> {
+                assertThat(readTopic, is(nullValue()));
+                assertThat(delegate.reads, is(2));
+                async.flag();
+            })));
+    }
+
+    /**
+     * TopicStore which completes the writes only when asked to by the test
+     */
+    static class DeferredTopicStore implements TopicStore {
+        final Map<TopicName, Topic> topics = new HashMap<>();
+        final List<String> commands = new ArrayList<>();
+        private final List<Runnable> pending = new ArrayList<>();
+        private final List<Promise<Void>> promises = new ArrayList<>();
+        boolean autoComplete;
+        int reads = 0;
+
+        @Override
+        public Future<Topic> read(TopicName name) {
+            reads++;
+            return Future.succeededFuture(topics.get(name));
+        }
+
+        @Override
+        public Future<Void> create(Topic topic) {
+            return command("create", topic.getTopicName(), () -> topics.put(topic.getTopicName(), topic));
+        }
+
+        @Override
+        public Future<Void> update(Topic topic) {
+            return command("update", topic.getTopicName(), () -> topics.put(topic.getTopicName(), topic));
+        }
+
+        @Override
+        public Future<Void> delete(TopicName topic) {
+            return command("delete", topic, () -> topics.remove(topic));
+        }
+
+        private Future<Void> command(String type, TopicName name, Runnable apply) {
+            commands.add(type + " " + name);
+            Promise<Void> promise = Promise.promise();
+            pending.add(apply);
+            promises.add(promise);
+            if (autoComplete) {
+                completeNext();
+            }
+            return promise.future();
+        }
+
+        void completeNext() {
+            pending.remove(0).run();
+            promises.remove(0).complete();
+        }
+
+        void failNext(Throwable error) {
+            pending.remove(0);
+            promises.remove(0).fail(error);
+        }
+    }
+}
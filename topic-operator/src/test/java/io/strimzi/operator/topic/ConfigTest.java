@@ -76,4 +76,28 @@ public class ConfigTest {
         Config c = new Config(map);
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS).intValue(), is(3));
     }
+
+    @Test
+    public void testTopicMetadataBatchSize() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE).intValue(), is(500));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "50");
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE).intValue(), is(50));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testStoreFormat() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.STORE_FORMAT), is(TopicStoreFormat.JSON));
+
+        map.put(Config.TC_STORE_FORMAT, "Binary");
+        assertThat(new Config(map).get(Config.STORE_FORMAT), is(TopicStoreFormat.BINARY));
+
+        map.put(Config.TC_STORE_FORMAT, "avro");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
 }
@@ -10,9 +10,11 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -68,7 +70,8 @@ public class K8sImplTest {
             return ktl;
         });
 
-        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default", 1, 1,
+                new MicrometerMetricsProvider(new SimpleMeterRegistry()));
 
         k8s.listResources().onComplete(context.succeeding(kafkaTopics -> context.verify(() -> {
             assertThat(kafkaTopics, is(mockKafkaTopicsList));
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -29,15 +30,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -245,6 +251,42 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testTopicsMetadataSkipsMissingTopics(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        Map<String, Either<TopicDescription, Exception>> descriptions = new HashMap<>();
+        descriptions.put("test", Either.ofLeft(mock(TopicDescription.class)));
+        descriptions.put("deleted", Either.ofRight(new UnknownTopicOrPartitionException()));
+        mockDescribeTopics(admin, descriptions);
+        Map<ConfigResource, Either<Config, Exception>> configs = new HashMap<>();
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "test"), Either.ofLeft(mock(Config.class)));
+        configs.put(new ConfigResource(ConfigResource.Type.TOPIC, "deleted"), Either.ofRight(new UnknownTopicOrPartitionException()));
+        mockDescribeConfigs(admin, configs);
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.topicsMetadata(asList(new TopicName("test"), new TopicName("deleted"))).onComplete(testContext.succeeding(topicsMetadata -> testContext.verify(() -> {
+            assertEquals(singleton(new TopicName("test")), topicsMetadata.keySet());
+            assertNotNull(topicsMetadata.get(new TopicName("test")).getDescription());
+            assertNotNull(topicsMetadata.get(new TopicName("test")).getConfig());
+            verify(admin, never()).createTopics(any(), any());
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    public void testTopicsMetadataDescribeTimeout(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        mockDescribeTopics(admin, singletonMap("test", Either.ofLeft(mock(TopicDescription.class))));
+        mockDescribeConfigs(admin, singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "test"),
+                    Either.ofRight(new TimeoutException())));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.topicsMetadata(singleton(new TopicName("test"))).onComplete(testContext.failing(error -> testContext.verify(() -> {
+            assertTrue(error instanceof TimeoutException);
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
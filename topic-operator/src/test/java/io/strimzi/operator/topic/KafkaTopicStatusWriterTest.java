@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaTopicStatusWriterTest {
+
+    private static Vertx vertx;
+
+    private MeterRegistry registry;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private KafkaTopic kafkaTopic(int index) {
+        return new KafkaTopicBuilder().withNewMetadata().withName("topic-" + index).endMetadata().build();
+    }
+
+    private double metric(String name) {
+        return registry.find(TopicOperator.METRICS_PREFIX + name).tag("kind", "KafkaTopic").meter()
+                .measure().iterator().next().getValue();
+    }
+
+    @Test
+    public void testConcurrencyIsLimited(VertxTestContext context) {
+        List<Promise<KafkaTopic>> running = new ArrayList<>();
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(vertx, kafkaTopic -> {
+            Promise<KafkaTopic> promise = Promise.promise();
+            running.add(promise);
+            return promise.future();
+        }, 2, 1_000_000, new MicrometerMetricsProvider(registry));
+
+        List<Future<KafkaTopic>> writes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            writes.add(writer.write(kafkaTopic(i)));
+        }
+
+        Checkpoint async = context.checkpoint();
+        context.verify(() -> {
+            assertThat(running.size(), is(2));
+            assertThat(metric("resources.status.writes.pending"), is(3.0));
+            running.get(0).complete(kafkaTopic(0));
+            running.get(1).fail(new RuntimeException("failed"));
+            assertThat(writes.get(0).succeeded(), is(true));
+            assertThat(writes.get(1).failed(), is(true));
+        });
+        vertx.setTimer(100, id -> context.verify(() -> {
+            // The other writes were started once the first two completed
+            assertThat(running.size(), is(4));
+            running.get(2).complete(kafkaTopic(2));
+            running.get(3).complete(kafkaTopic(3));
+        }));
+        vertx.setTimer(200, id -> context.verify(() -> {
+            assertThat(running.size(), is(5));
+            running.get(4).complete(kafkaTopic(4));
+            assertThat(writes.get(4).succeeded(), is(true));
+            assertThat(metric("resources.status.writes"), is(5.0));
+            assertThat(metric("resources.status.writes.failed"), is(1.0));
+            assertThat(metric("resources.status.writes.pending"), is(0.0));
+            async.flag();
+        }));
+    }
+
+    @Test
+    public void testRateIsLimited(VertxTestContext context) {
+        List<Long> startNanos = new ArrayList<>();
+        KafkaTopicStatusWriter writer = new KafkaTopicStatusWriter(vertx, kafkaTopic -> {
+            startNanos.add(System.nanoTime());
+            return Future.succeededFuture(kafkaTopic);
+        }, 10, 20, new MicrometerMetricsProvider(registry));
+
+        List<Future> writes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            writes.add(writer.write(kafkaTopic(i)));
+        }
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(writes).onComplete(context.succeeding(v -> context.verify(() -> {
+            // At 20 writes per second, the writes are started at least 50ms apart
+            assertThat(startNanos.size(), is(4));
+            assertThat(TimeUnit.NANOSECONDS.toMillis(startNanos.get(3) - startNanos.get(0)), is(greaterThanOrEqualTo(145L)));
+            assertThat(metric("resources.status.writes.delayed"), is(greaterThanOrEqualTo(3.0)));
+            async.flag();
+        })));
+    }
+}
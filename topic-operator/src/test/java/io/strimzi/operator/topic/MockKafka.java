@@ -9,6 +9,7 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.NewTopic;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +36,8 @@ public class MockKafka implements Kafka {
     private int topicMetadataResposeCall = 0;
     private List<Function<TopicName, Future<TopicMetadata>>> topicMetadataRespose = singletonList(
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicMetadataResponse."));
+    private Function<Collection<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse =
+        t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicsMetadataResponse.");
     private Function<TopicName, Future<Boolean>> topicExistsResult =
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicExistsResult.");
     private Function<String, Future<Void>> createTopicResponse =
@@ -54,6 +57,11 @@ public class MockKafka implements Kafka {
         return this;
     }
 
+    public MockKafka setTopicsMetadataResponse(Function<Collection<TopicName>, Future<Map<TopicName, TopicMetadata>>> topicsMetadataResponse) {
+        this.topicsMetadataResponse = topicsMetadataResponse;
+        return this;
+    }
+
     public MockKafka setTopicMetadataResponse(Function<TopicName, Future<TopicMetadata>> topicMetadataRespose) {
         this.topicMetadataRespose = singletonList(topicMetadataRespose);
         return this;
@@ -212,6 +220,11 @@ public class MockKafka implements Kafka {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
 
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicsMetadata(Collection<TopicName> topicNames) {
+        return topicsMetadataResponse.apply(topicNames);
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         return topicsListResponse;
@@ -22,15 +22,30 @@ class MockZk implements Zk {
     public AsyncResult<Void> setDataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".setDataResult");
     public AsyncResult<List<String>> childrenResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".childrenResult");
     public AsyncResult<byte[]> dataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".dataResult");
-    private Handler<AsyncResult<List<String>>> childrenHandler;
+    public Map<String, AsyncResult<List<String>>> childrenResults = new HashMap<>();
+    public Map<String, AsyncResult<byte[]>> dataResults = new HashMap<>();
+    private Map<String, Handler<AsyncResult<List<String>>>> childrenHandlers = new HashMap<>();
     private Map<String, Handler<AsyncResult<byte[]>>> dataHandlers = new HashMap<>();
 
     public void triggerChildren(AsyncResult<List<String>> childrenResult) {
+        triggerChildren("/brokers/topics", childrenResult);
+    }
+
+    public void triggerChildren(String path, AsyncResult<List<String>> childrenResult) {
+        Handler<AsyncResult<List<String>>> childrenHandler = childrenHandlers.get(path);
         if (childrenHandler != null) {
             childrenHandler.handle(childrenResult);
         }
     }
 
+    public boolean watchingChildren(String path) {
+        return childrenHandlers.containsKey(path);
+    }
+
+    public boolean watchingData(String path) {
+        return dataHandlers.containsKey(path);
+    }
+
     public void triggerData(String path, AsyncResult<byte[]> dataResult) {
         Handler<AsyncResult<byte[]>> asyncResultHandler = dataHandlers.get(path);
         if (asyncResultHandler != null) {
@@ -58,25 +73,25 @@ class MockZk implements Zk {
 
     @Override
     public Zk children(String path, Handler<AsyncResult<List<String>>> handler) {
-        handler.handle(childrenResult);
+        handler.handle(childrenResults.getOrDefault(path, childrenResult));
         return this;
     }
 
     @Override
     public Future<Zk> watchChildren(String path, Handler<AsyncResult<List<String>>> watcher) {
-        childrenHandler = watcher;
+        childrenHandlers.put(path, watcher);
         return Future.succeededFuture(this);
     }
 
     @Override
     public Zk unwatchChildren(String path) {
-        childrenHandler = null;
+        childrenHandlers.remove(path);
         return this;
     }
 
     @Override
     public Zk getData(String path, Handler<AsyncResult<byte[]>> handler) {
-        handler.handle(dataResult);
+        handler.handle(dataResults.getOrDefault(path, dataResult));
         return this;
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TopicFingerprintsTest {
+
+    private final Labels labels = Labels.fromString("app=strimzi");
+
+    private Topic topic(String... config) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < config.length; i += 2) {
+            map.put(config[i], config[i + 1]);
+        }
+        return new Topic.Builder("my-topic", 3, (short) 2, map).build();
+    }
+
+    private KafkaTopic readyResource(Topic topic, long generation, long observedGeneration) {
+        return new KafkaTopicBuilder(TopicSerialization.toTopicResource(topic, labels))
+                .editMetadata()
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(observedGeneration)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus()
+            .build();
+    }
+
+    @Test
+    public void testHashDoesNotDependOnConfigOrder() {
+        Topic topic = topic("cleanup.policy", "compact", "retention.ms", "1000");
+        Topic reordered = topic("retention.ms", "1000", "cleanup.policy", "compact");
+        assertThat(TopicFingerprints.hash(topic), is(TopicFingerprints.hash(reordered)));
+        assertThat(TopicFingerprints.hash(Utils.getTopicMetadata(topic)), is(TopicFingerprints.hash(Utils.getTopicMetadata(reordered))));
+        assertThat(TopicFingerprints.hash(readyResource(topic, 1, 1)), is(TopicFingerprints.hash(readyResource(reordered, 1, 1))));
+
+        assertThat(TopicFingerprints.hash(topic), is(not(TopicFingerprints.hash(topic("cleanup.policy", "compact", "retention.ms", "1001")))));
+        // The terminated strings cannot be confused when the boundary between key and value moves
+        assertThat(TopicFingerprints.hash(topic("ab", "c")), is(not(TopicFingerprints.hash(topic("a", "bc")))));
+    }
+
+    @Test
+    public void testNoFingerprintWithoutUpToDateStatus() {
+        Topic topic = topic("cleanup.policy", "compact");
+        TopicMetadata metadata = Utils.getTopicMetadata(topic);
+
+        assertThat(TopicFingerprints.Fingerprint.of(readyResource(topic, 1, 1), metadata, topic), is(not(nullValue())));
+        assertThat(TopicFingerprints.Fingerprint.of(readyResource(topic, 2, 1), metadata, topic), is(nullValue()));
+        assertThat(TopicFingerprints.Fingerprint.of(TopicSerialization.toTopicResource(topic, labels), metadata, topic), is(nullValue()));
+        assertThat(TopicFingerprints.Fingerprint.of(readyResource(topic, 1, 1), metadata, null), is(nullValue()));
+    }
+
+    @Test
+    public void testRetainAll() {
+        Topic topic = topic();
+        TopicFingerprints fingerprints = new TopicFingerprints();
+        TopicFingerprints.Fingerprint fingerprint = TopicFingerprints.Fingerprint.of(readyResource(topic, 1, 1), Utils.getTopicMetadata(topic), topic);
+        fingerprints.reconciled(new TopicName("my-topic"), fingerprint);
+        fingerprints.reconciled(new TopicName("other-topic"), fingerprint);
+
+        fingerprints.retainAll(singletonList(new TopicName("my-topic")));
+        assertThat(fingerprints.size(), is(1));
+        assertThat(fingerprints.unchanged(new TopicName("my-topic"), fingerprint), is(true));
+        assertThat(fingerprints.unchanged(new TopicName("other-topic"), fingerprint), is(false));
+        assertThat(fingerprints.unchanged(new TopicName("my-topic"), null), is(false));
+    }
+}
@@ -11,12 +11,16 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
 import io.strimzi.operator.common.MaxAttemptsExceededException;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.junit5.Checkpoint;
@@ -35,20 +39,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
 import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -1175,6 +1184,232 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_usesBatchedMetadata(VertxTestContext context) throws InterruptedException {
+        Topic kafkaTopic = new Topic.Builder(topicName.toString(), 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        List<Collection<TopicName>> batches = new ArrayList<>();
+
+        CountDownLatch async0 = new CountDownLatch(3);
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.createTopic(kafkaTopic).onComplete(ar -> async0.countDown());
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicsMetadataResponse(topicNames -> {
+            batches.add(new ArrayList<>(topicNames));
+            return Future.succeededFuture(singletonMap(topicName, Utils.getTopicMetadata(kafkaTopic)));
+        });
+        mockKafka.setTopicMetadataResponse(t -> Future.failedFuture("The metadata should have been fetched in a batch"));
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(kafkaTopic).onComplete(ar -> async0.countDown());
+        mockK8s.setCreateResponse(topicName.asKubeName(), null);
+        mockK8s.createResource(TopicSerialization.toTopicResource(kafkaTopic, labels)).onComplete(ar -> async0.countDown());
+        async0.await();
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(batches, is(singletonList(singletonList(topicName))));
+            assertThat(mockKafka.getTopicState(topicName), is(kafkaTopic));
+
+            // The topic is reconciled both from Kafka and from Kubernetes, but counted once
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.periodical.topics").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.periodical.remaining").tag("kind", "KafkaTopic").gauge().value(), is(0.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_skipsUnchangedTopics(VertxTestContext context) throws InterruptedException {
+        Topic kafkaTopic = new Topic.Builder(topicName.toString(), 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        Topic changedKafkaTopic = new Topic.Builder(kafkaTopic).withConfigEntry("cleanup.policy", "baz").build();
+        KafkaTopic resource = new KafkaTopicBuilder(TopicSerialization.toTopicResource(kafkaTopic, labels))
+                .editMetadata()
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus()
+            .build();
+
+        CountDownLatch async0 = new CountDownLatch(3);
+        mockKafka.setCreateTopicResponse(topicName -> Future.succeededFuture());
+        mockKafka.createTopic(kafkaTopic).onComplete(ar -> async0.countDown());
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicsMetadataResponse(topicNames -> Future.succeededFuture(singletonMap(topicName, Utils.getTopicMetadata(kafkaTopic))));
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.create(kafkaTopic).onComplete(ar -> async0.countDown());
+        mockK8s.setCreateResponse(topicName.asKubeName(), null);
+        mockK8s.createResource(resource).onComplete(ar -> async0.countDown());
+        async0.await();
+
+        MeterRegistry registry = metrics.meterRegistry();
+        Checkpoint async = context.checkpoint();
+        topicOperator.reconcileAllTopics("periodic")
+            .compose(v -> topicOperator.reconcileAllTopics("periodic"))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The second reconciliation finds the topic as the first one left it
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.skipped").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                mockKafka.setTopicsMetadataResponse(topicNames -> Future.succeededFuture(singletonMap(topicName, Utils.getTopicMetadata(changedKafkaTopic))));
+                mockTopicStore.setUpdateTopicResponse(topicName, null);
+                mockK8s.setModifyResponse(topicName.asKubeName(), null);
+            })))
+            .compose(v -> topicOperator.reconcileAllTopics("periodic"))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The topic changed in Kafka, so it is reconciled in full again
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.skipped").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+                assertThat(mockTopicStore.read(topicName).result().getConfig(), is(changedKafkaTopic.getConfig()));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testStatusUnchanged() {
+        KafkaTopic resource = new KafkaTopicBuilder().withNewMetadata().withName("my-topic").withGeneration(2L).endMetadata().build();
+        KafkaTopicStatus ready = new KafkaTopicStatus();
+        StatusUtils.setStatusConditionAndObservedGeneration(resource, ready, (Throwable) null);
+        KafkaTopicStatus readyLater = new KafkaTopicStatus();
+        StatusUtils.setStatusConditionAndObservedGeneration(resource, readyLater, (Throwable) null);
+        readyLater.getConditions().get(0).setLastTransitionTime("2100-01-01T00:00:00Z");
+        KafkaTopicStatus notReady = new KafkaTopicStatus();
+        StatusUtils.setStatusConditionAndObservedGeneration(resource, notReady, new RuntimeException("failed"));
+
+        // Only the transition time differs
+        assertThat(TopicOperator.statusUnchanged(ready, readyLater), is(true));
+        assertThat(TopicOperator.statusUnchanged(null, ready), is(false));
+        assertThat(TopicOperator.statusUnchanged(ready, notReady), is(false));
+        readyLater.setObservedGeneration(3L);
+        assertThat(TopicOperator.statusUnchanged(ready, readyLater), is(false));
+    }
+
+    @Test
+    public void testBoundedSweepLimitsConcurrency(VertxTestContext context) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(i);
+        }
+        List<Promise<Void>> running = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        Future<Void> result = new TopicOperator.BoundedSweep<Integer>(items.iterator(), 3, item -> {
+            Promise<Void> promise = Promise.promise();
+            running.add(promise);
+            return promise.future();
+        }, completed::incrementAndGet).run();
+
+        Checkpoint async = context.checkpoint();
+        context.verify(() -> {
+            // The next item is started only once a running one completes
+            assertThat(running.size(), is(3));
+            running.get(0).complete();
+            assertThat(running.size(), is(4));
+            running.get(1).fail(new RuntimeException("first failure"));
+            running.get(2).fail(new RuntimeException("second failure"));
+            assertThat(running.size(), is(6));
+            for (int i = 3; i < running.size(); i++) {
+                running.get(i).complete();
+            }
+            assertThat(running.size(), is(10));
+            assertThat(result.isComplete(), is(true));
+        });
+        result.onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("first failure"));
+            assertThat(completed.get(), is(10));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testBoundedSweepOfCompletedFutures(VertxTestContext context) {
+        // The actions complete immediately, which must not recurse once per item
+        int count = 100_000;
+        AtomicInteger processed = new AtomicInteger();
+        Iterator<Integer> items = IntStream.range(0, count).iterator();
+
+        Checkpoint async = context.checkpoint();
+        new TopicOperator.BoundedSweep<Integer>(items, 10, item -> {
+            processed.incrementAndGet();
+            return Future.succeededFuture();
+        }, () -> { }).run().onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(processed.get(), is(count));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testTopicEventsAreMergedWhileWaitingForLock(VertxTestContext context) {
+        AtomicInteger metadataCalls = new AtomicInteger();
+        mockKafka.setTopicMetadataResponse(t -> {
+            metadataCalls.incrementAndGet();
+            return Future.failedFuture(new RuntimeException("some failure"));
+        });
+        LogContext logContext = LogContext.zkWatch("/config/changes", "=" + topicName);
+
+        Promise<Void> blocker = Promise.promise();
+        topicOperator.executeWithTopicLockHeld(logContext, topicName, topicOperator.new Reconciliation("blocking", false) {
+            @Override
+            public Future<Void> execute() {
+                return blocker.future();
+            }
+        });
+        Future<Void> first = topicOperator.onTopicConfigChanged(logContext, topicName);
+        Future<Void> second = topicOperator.onTopicConfigChanged(logContext, topicName);
+        Future<Void> third = topicOperator.onTopicConfigChanged(logContext, topicName);
+        blocker.complete();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second, third).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(second, is(first));
+            assertThat(third, is(first));
+            assertThat(metadataCalls.get(), is(1));
+            assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.merged").tag("kind", "KafkaTopic").counter().count(), is(2.0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testResourceEventsAreMergedPerResourceWhileWaitingForLock(VertxTestContext context) {
+        KafkaTopic first = invalidResourceForTopic("first-resource", topicName);
+        KafkaTopic second = invalidResourceForTopic("second-resource", topicName);
+        mockK8s.setGetFromNameResponse(new ResourceName(first), Future.succeededFuture(first));
+        mockK8s.setGetFromNameResponse(new ResourceName(second), Future.succeededFuture(second));
+        LogContext logContext = LogContext.kubeWatch(MODIFIED, first);
+
+        Promise<Void> blocker = Promise.promise();
+        topicOperator.executeWithTopicLockHeld(logContext, topicName, topicOperator.new Reconciliation("blocking", false) {
+            @Override
+            public Future<Void> execute() {
+                return blocker.future();
+            }
+        });
+        Future<Void> firstEvent = topicOperator.onResourceEvent(logContext, first, MODIFIED);
+        Future<Void> repeatedFirstEvent = topicOperator.onResourceEvent(logContext, first, MODIFIED);
+        Future<Void> secondEvent = topicOperator.onResourceEvent(logContext, second, MODIFIED);
+        blocker.complete();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(firstEvent, repeatedFirstEvent, secondEvent).onComplete(context.failing(e -> context.verify(() -> {
+            // The repeated event of the same resource is merged, but the event of the other resource for the same topic is not
+            assertThat(repeatedFirstEvent, is(firstEvent));
+            assertThat(secondEvent == firstEvent, is(false));
+            assertThat(firstEvent.cause(), instanceOf(InvalidTopicException.class));
+            assertThat(secondEvent.cause(), instanceOf(InvalidTopicException.class));
+            assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "reconciliations.merged").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            async.flag();
+        })));
+    }
+
+    private KafkaTopic invalidResourceForTopic(String resourceName, TopicName topicName) {
+        return new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(resourceName).withLabels(labels.labels()).build())
+                .withNewSpec()
+                    .withTopicName(topicName.toString())
+                    .withReplicas(1)
+                    .withPartitions(1)
+                    .withConfig(singletonMap(null, null))
+                .endSpec()
+            .build();
+    }
+
     @Test
     public void testReconcileMetrics(VertxTestContext context) throws InterruptedException {
         mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
@@ -63,6 +63,82 @@ public class TopicSerializationTest {
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
     }
 
+    @Test
+    public void testBinaryTopicSerdeRoundTrip() {
+        TopicSerde serde = new TopicSerde(TopicStoreFormat.BINARY);
+        Map<String, String> config = new HashMap<>();
+        config.put("cleanup.policy", "compact");
+        config.put("retention.ms", "86400000");
+        config.put("message.format.version", "2.7-IV2 \u00e9");
+        Topic topic = new Topic.Builder("my-topic", 1200, (short) 3, config, new ObjectMeta())
+                .withMapName("my-topic---c55e57fe2546a33f9e603caf57165db4072e827e")
+                .build();
+
+        byte[] bytes = serde.serialize("dummy", topic);
+        assertThat(TopicBinarySerialization.isBinary(bytes), is(true));
+        assertThat(bytes.length < TopicSerialization.toJson(topic).length, is(true));
+
+        Topic readTopic = serde.deserialize("dummy", bytes);
+        assertThat(readTopic, is(topic));
+        assertThat(readTopic.getResourceName(), is(topic.getResourceName()));
+        assertThat(readTopic.getNumReplicas(), is((short) 3));
+
+        // Topics read from Kafka do not have the number of replicas set
+        Topic noReplicas = new Topic.Builder("no-replicas", 1, emptyMap(), new ObjectMeta()).build();
+        assertThat(serde.deserialize("dummy", serde.serialize("dummy", noReplicas)), is(noReplicas));
+    }
+
+    @Test
+    public void testBinaryTopicCommandSerdeRoundTrip() {
+        TopicCommandSerde serde = new TopicCommandSerde(TopicStoreFormat.BINARY);
+        Topic topic = new Topic.Builder("foobar", 2, (short) 1, singletonMap("cleanup.policy", "bar"), new ObjectMeta()).build();
+
+        TopicCommand data = TopicCommand.update(topic);
+        byte[] bytes = serde.serialize("dummy", data);
+        TopicCommand readData = serde.deserialize("dummy", bytes);
+        assertThat(readData.getType(), is(TopicCommand.Type.UPDATE));
+        assertThat(readData.getUuid(), is(data.getUuid()));
+        assertThat(readData.getTopic(), is(topic));
+        assertThat(readData.getVersion(), is(TopicCommand.CURRENT_VERSION));
+
+        // UUIDs which are not in the canonical form are kept as they are
+        data = new TopicCommand("not-a-uuid", TopicCommand.Type.DELETE, null, new TopicName("deleteme"), 7);
+        readData = serde.deserialize("dummy", serde.serialize("dummy", data));
+        assertThat(readData.getType(), is(TopicCommand.Type.DELETE));
+        assertThat(readData.getUuid(), is("not-a-uuid"));
+        assertThat(readData.getName(), is(new TopicName("deleteme")));
+        assertThat(readData.getVersion(), is(7));
+    }
+
+    @Test
+    public void testSerdesReadRecordsOfAnyFormat() {
+        Topic topic = new Topic.Builder("foobar", 2, (short) 1, singletonMap("cleanup.policy", "bar"), new ObjectMeta()).build();
+        TopicCommand command = TopicCommand.create(topic);
+
+        // Records written before switching the format (in either direction) remain readable
+        for (TopicStoreFormat writeFormat : TopicStoreFormat.values()) {
+            for (TopicStoreFormat readFormat : TopicStoreFormat.values()) {
+                Topic readTopic = new TopicSerde(readFormat).deserialize("dummy", new TopicSerde(writeFormat).serialize("dummy", topic));
+                assertThat(readTopic, is(topic));
+
+                TopicCommand readCommand = new TopicCommandSerde(readFormat).deserialize("dummy", new TopicCommandSerde(writeFormat).serialize("dummy", command));
+                assertThat(readCommand.getUuid(), is(command.getUuid()));
+                assertThat(readCommand.getTopic(), is(topic));
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupportedBinaryVersion() {
+        byte[] bytes = new TopicSerde(TopicStoreFormat.BINARY).serialize("dummy", new Topic.Builder("foobar", 2).build());
+        bytes[1] = 42;
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicSerde().deserialize("dummy", bytes));
+        assertThat(e.getMessage(), is("Unsupported version 42 of the binary topic store record"));
+
+        byte[] truncated = new byte[] {TopicBinarySerialization.MAGIC, TopicBinarySerialization.VERSION, 5, 'f'};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicSerde().deserialize("dummy", truncated));
+    }
+
     @Test
     public void testResourceSerializationRoundTrip() {
 
@@ -11,7 +11,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.charset.StandardCharsets;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,4 +84,52 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testTopicAddWithConfigChangeNotifications() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        mockZk.childrenResults.put("/brokers/topics", Future.succeededFuture(asList("foo", "bar")));
+        mockZk.childrenResults.put("/config/changes", Future.succeededFuture(asList("config_change_0000000001")));
+
+        ZkConfigChangesWatcher configChangesWatcher = new ZkConfigChangesWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, configChangesWatcher);
+        topicsWatcher.start(mockZk);
+        mockZk.triggerChildren(Future.succeededFuture(asList("foo", "bar", "baz")));
+
+        assertThat(operator.getMockOperatorEvents(),
+                is(asList(new MockTopicOperator.MockOperatorEvent(Type.CREATE, new TopicName("baz")))));
+        assertThat(configChangesWatcher.started(), is(true));
+        assertThat(mockZk.watchingData("/config/topics/baz"), is(false));
+        assertThat(mockZk.watchingData("/brokers/topics/baz"), is(false));
+    }
+
+    @Test
+    public void testTopicConfigChangeNotifications() {
+        operator.topicModifiedResult = Future.succeededFuture();
+        mockZk.childrenResults.put("/brokers/topics", Future.succeededFuture(asList("foo", "bar")));
+        mockZk.childrenResults.put("/config/changes", Future.succeededFuture(asList("config_change_0000000001")));
+        mockZk.dataResults.put("/config/changes/config_change_0000000002",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/foo\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000003",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"users/foo\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000004",
+                Future.succeededFuture("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"bar\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000005",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/foo\"}".getBytes(StandardCharsets.UTF_8)));
+
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, new ZkConfigChangesWatcher(operator));
+        topicsWatcher.start(mockZk);
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(asList("config_change_0000000001",
+                "config_change_0000000002", "config_change_0000000003", "config_change_0000000004", "config_change_0000000005")));
+
+        // The already existing notification is skipped and the repeated changes of the same topic are coalesced
+        assertThat(operator.getMockOperatorEvents(),
+                is(asList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")),
+                        new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+
+        // Already processed notifications are not processed again
+        operator.clearEvents();
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(asList("config_change_0000000004", "config_change_0000000005")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+    }
 }
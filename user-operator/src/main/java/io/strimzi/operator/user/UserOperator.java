@@ -6,6 +6,7 @@ package io.strimzi.operator.user;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
+import io.strimzi.operator.common.PeriodicReconciliationScheduler;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
@@ -35,6 +36,7 @@ public class UserOperator extends AbstractVerticle {
     private final PrometheusMeterRegistry metrics;
 
     private Watch watch;
+    private PeriodicReconciliationScheduler scheduler;
     private long reconcileTimer;
 
     public UserOperator(String namespace,
@@ -62,6 +64,7 @@ public class UserOperator extends AbstractVerticle {
                 watch = w;
 
                 log.info("Setting up periodic reconciliation for namespace {}", namespace);
+                this.scheduler = new PeriodicReconciliationScheduler(vertx, kafkaUserOperator, namespace, reconciliationInterval, kafkaUserOperator.getMetricsProvider());
                 this.reconcileTimer = vertx.setPeriodic(this.reconciliationInterval, res2 -> {
                     log.info("Triggering periodic reconciliation for namespace {}...", namespace);
                     reconcileAll("timer");
@@ -76,6 +79,9 @@ public class UserOperator extends AbstractVerticle {
     public void stop(Promise<Void> stop) {
         log.info("Stopping UserOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+        if (scheduler != null) {
+            scheduler.cancel();
+        }
 
         if (watch != null) {
             watch.close();
@@ -86,10 +92,11 @@ public class UserOperator extends AbstractVerticle {
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations of the individual users are spread
+      over the reconciliation interval.
      */
     private void reconcileAll(String trigger) {
-        kafkaUserOperator.reconcileAll(trigger, namespace, ignored -> { });
+        scheduler.reconcileAll(trigger);
     }
 
     /**
@@ -29,12 +29,20 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_VALIDITY = "STRIMZI_CA_VALIDITY";
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
+    public static final String STRIMZI_SCRAM_SHA_BATCH_SIZE = "STRIMZI_SCRAM_SHA_BATCH_SIZE";
+    public static final String STRIMZI_SCRAM_SHA_WORKER_POOL_SIZE = "STRIMZI_SCRAM_SHA_WORKER_POOL_SIZE";
+    public static final String STRIMZI_CERTIFICATES_WORKER_POOL_SIZE = "STRIMZI_CERTIFICATES_WORKER_POOL_SIZE";
+    public static final String STRIMZI_OPENSSL_CERT_MANAGER_ENABLED = "STRIMZI_OPENSSL_CERT_MANAGER_ENABLED";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_ZOOKEEPER_CONNECT = "localhost:2181";
     public static final long DEFAULT_ZOOKEEPER_SESSION_TIMEOUT_MS = 6_000;
     public static final String DEFAULT_SECRET_PREFIX = "";
+    public static final int DEFAULT_SCRAM_SHA_BATCH_SIZE = 100;
+    public static final int DEFAULT_SCRAM_SHA_WORKER_POOL_SIZE = 4;
+    public static final int DEFAULT_CERTIFICATES_WORKER_POOL_SIZE = 4;
+    public static final boolean DEFAULT_OPENSSL_CERT_MANAGER_ENABLED = false;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,6 +56,10 @@ public class UserOperatorConfig {
     private final String eoKeySecretName;
     private final String caNamespace;
     private final String secretPrefix;
+    private final int scramShaBatchSize;
+    private final int scramShaWorkerPoolSize;
+    private final int certificatesWorkerPoolSize;
+    private final boolean openSslCertManagerEnabled;
 
     /**
      * Constructor
@@ -64,6 +76,10 @@ public class UserOperatorConfig {
      * @param eoKeySecretName The name of the secret containing the Entity Operator key and certificate
      * @param caNamespace Namespace with the CA secret.
      * @param secretPrefix Prefix used for the Secret names
+     * @param scramShaBatchSize Maximal number of SCRAM-SHA credential changes sent to Kafka in a single request
+     * @param scramShaWorkerPoolSize Number of worker threads used to generate and apply the SCRAM-SHA credentials
+     * @param certificatesWorkerPoolSize Number of worker threads used to generate the user certificates
+     * @param openSslCertManagerEnabled true to generate the user certificates with the openssl command instead of in Java
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"}) //TODO: to remove when removing the zookeeper related parameters
     public UserOperatorConfig(String namespace,
@@ -76,7 +92,11 @@ public class UserOperatorConfig {
                               String clusterCaCertSecretName,
                               String eoKeySecretName,
                               String caNamespace,
-                              String secretPrefix) {
+                              String secretPrefix,
+                              int scramShaBatchSize,
+                              int scramShaWorkerPoolSize,
+                              int certificatesWorkerPoolSize,
+                              boolean openSslCertManagerEnabled) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -89,6 +109,10 @@ public class UserOperatorConfig {
         this.eoKeySecretName = eoKeySecretName;
         this.caNamespace = caNamespace;
         this.secretPrefix = secretPrefix;
+        this.scramShaBatchSize = scramShaBatchSize;
+        this.scramShaWorkerPoolSize = scramShaWorkerPoolSize;
+        this.certificatesWorkerPoolSize = certificatesWorkerPoolSize;
+        this.openSslCertManagerEnabled = openSslCertManagerEnabled;
     }
 
     /**
@@ -161,8 +185,34 @@ public class UserOperatorConfig {
             secretPrefix = DEFAULT_SECRET_PREFIX;
         }
 
+        int scramShaBatchSize = parsePositiveInt(map, STRIMZI_SCRAM_SHA_BATCH_SIZE, DEFAULT_SCRAM_SHA_BATCH_SIZE);
+        int scramShaWorkerPoolSize = parsePositiveInt(map, STRIMZI_SCRAM_SHA_WORKER_POOL_SIZE, DEFAULT_SCRAM_SHA_WORKER_POOL_SIZE);
+        int certificatesWorkerPoolSize = parsePositiveInt(map, STRIMZI_CERTIFICATES_WORKER_POOL_SIZE, DEFAULT_CERTIFICATES_WORKER_POOL_SIZE);
+        boolean openSslCertManagerEnabled = map.containsKey(STRIMZI_OPENSSL_CERT_MANAGER_ENABLED) ? Boolean.parseBoolean(map.get(STRIMZI_OPENSSL_CERT_MANAGER_ENABLED)) : DEFAULT_OPENSSL_CERT_MANAGER_ENABLED;
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, zookeeperConnect, zookeeperSessionTimeoutMs, labels,
-                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix);
+                caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix,
+                scramShaBatchSize, scramShaWorkerPoolSize, certificatesWorkerPoolSize, openSslCertManagerEnabled);
+    }
+
+    private static int parsePositiveInt(Map<String, String> map, String name, int defaultValue) {
+        int value = defaultValue;
+        String envVar = map.get(name);
+
+        if (envVar != null && !envVar.isEmpty()) {
+            try {
+                value = Integer.parseInt(envVar);
+            } catch (NumberFormatException e) {
+                value = 0;
+            }
+
+            if (value < 1) {
+                throw new InvalidConfigurationException(envVar + " is not a valid " + name + " value. "
+                        + name + " has to be a positive integer.");
+            }
+        }
+
+        return value;
     }
 
     public static int getClientsCaValidityDays() {
@@ -266,6 +316,34 @@ public class UserOperatorConfig {
         return secretPrefix;
     }
 
+    /**
+     * @return  The maximal number of SCRAM-SHA credential changes sent to Kafka in a single request
+     */
+    public int getScramShaBatchSize() {
+        return scramShaBatchSize;
+    }
+
+    /**
+     * @return  The number of worker threads used to generate and apply the SCRAM-SHA credentials
+     */
+    public int getScramShaWorkerPoolSize() {
+        return scramShaWorkerPoolSize;
+    }
+
+    /**
+     * @return  The number of worker threads used to generate the user certificates
+     */
+    public int getCertificatesWorkerPoolSize() {
+        return certificatesWorkerPoolSize;
+    }
+
+    /**
+     * @return  Indicates whether the user certificates should be generated with the openssl command instead of in Java
+     */
+    public boolean isOpenSslCertManagerEnabled() {
+        return openSslCertManagerEnabled;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -279,6 +357,10 @@ public class UserOperatorConfig {
                 ",clusterCaCertSecretName=" + clusterCaCertSecretName +
                 ",eoKeySecretName=" + eoKeySecretName +
                 ",caNamespace=" + caNamespace +
+                ",scramShaBatchSize=" + scramShaBatchSize +
+                ",scramShaWorkerPoolSize=" + scramShaWorkerPoolSize +
+                ",certificatesWorkerPoolSize=" + certificatesWorkerPoolSize +
+                ",openSslCertManagerEnabled=" + openSslCertManagerEnabled +
                 ")";
     }
 }
@@ -11,6 +11,7 @@ import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.KafkaUserSpec;
+import io.strimzi.api.kafka.model.KafkaUserTlsClientAuthentication;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.common.AbstractOperator;
@@ -24,6 +25,7 @@ import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
+import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.vertx.core.CompositeFuture;
@@ -53,6 +55,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final SecretOperator secretOperations;
     private final SimpleAclOperator aclOperations;
     private final CertManager certManager;
+    private final UserCertificateIssuer certificateIssuer;
     private final String caCertName;
     private final String caKeyName;
     private final String caNamespace;
@@ -84,8 +87,38 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                              ScramShaCredentialsOperator scramShaCredentialOperator,
                              KafkaUserQuotasOperator kafkaUserQuotasOperator,
                              SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace, String secretPrefix) {
+        this(vertx, certManager, crdOperator, labels, secretOperations, scramShaCredentialOperator, kafkaUserQuotasOperator,
+                aclOperations, caCertName, caKeyName, caNamespace, secretPrefix, UserOperatorConfig.DEFAULT_CERTIFICATES_WORKER_POOL_SIZE);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param certManager For managing certificates.
+     * @param crdOperator For operating on Custom Resources.
+     * @param labels A selector for which users in the namespace to consider as the operators
+     * @param secretOperations For operating on Secrets.
+     * @param scramShaCredentialOperator For operating on SCRAM SHA credentials.
+     * @param kafkaUserQuotasOperator For operating on Kafka User quotas.
+     * @param aclOperations For operating on ACLs.
+     * @param caCertName The name of the Secret containing the clients CA certificate.
+     * @param caKeyName The name of the Secret containing the clients CA private key.
+     * @param caNamespace The namespace of the Secret containing the clients CA certificate and private key.
+     * @param secretPrefix The prefix used to add to the name of the Secrets generated from the KafkaUser resources.
+     * @param certificatesWorkerPoolSize The number of worker threads used to generate the user certificates.
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public KafkaUserOperator(Vertx vertx,
+                             CertManager certManager,
+                             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperator,
+                             Labels labels,
+                             SecretOperator secretOperations,
+                             ScramShaCredentialsOperator scramShaCredentialOperator,
+                             KafkaUserQuotasOperator kafkaUserQuotasOperator,
+                             SimpleAclOperator aclOperations, String caCertName, String caKeyName, String caNamespace, String secretPrefix,
+                             int certificatesWorkerPoolSize) {
         super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider());
         this.certManager = certManager;
+        this.certificateIssuer = new UserCertificateIssuer(vertx, certificatesWorkerPoolSize, metrics);
         Map<String, String> matchLabels = labels.toMap();
         this.selector = matchLabels.isEmpty() ? Optional.empty() : Optional.of(new LabelSelector(null, matchLabels));
         this.secretOperations = secretOperations;
@@ -150,17 +183,32 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(secretPrefix, reconciliation.name()));
 
         KafkaUserStatus userStatus = new KafkaUserStatus();
-        String namespace = reconciliation.namespace();
-        String userName = reconciliation.name();
-        KafkaUserModel user;
+        Future<KafkaUserModel> userFuture;
 
-        try {
-            user = KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix);
-        } catch (Exception e) {
-            StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(e));
-            return Future.failedFuture(new ReconciliationException(userStatus, e));
+        if (resource.getSpec() != null && resource.getSpec().getAuthentication() instanceof KafkaUserTlsClientAuthentication) {
+            // Generating the keys and certificates is slow, so it runs on the certificates worker pool
+            boolean newUser = userSecret == null || userSecret.getData() == null || userSecret.getData().get("user.crt") == null;
+            userFuture = certificateIssuer.issue(newUser,
+                () -> KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix));
+        } else {
+            try {
+                userFuture = Future.succeededFuture(KafkaUserModel.fromCrd(certManager, passwordGenerator, resource, clientsCaCert, clientsCaKey, userSecret, secretPrefix));
+            } catch (Exception e) {
+                userFuture = Future.failedFuture(e);
+            }
         }
 
+        return userFuture.compose(user -> reconcileUser(reconciliation, resource, user, userStatus),
+            error -> {
+                StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, Future.failedFuture(error));
+                return Future.failedFuture(new ReconciliationException(userStatus, error));
+            });
+    }
+
+    private Future<KafkaUserStatus> reconcileUser(Reconciliation reconciliation, KafkaUser resource, KafkaUserModel user, KafkaUserStatus userStatus) {
+        String namespace = reconciliation.namespace();
+        String userName = reconciliation.name();
+
         log.debug("{}: Updating User {} in namespace {}", reconciliation, userName, namespace);
         Secret desired = user.generateSecret();
         String password = null;
@@ -4,26 +4,224 @@
  */
 package io.strimzi.operator.user.operator;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
+/**
+ * Manages the SCRAM-SHA credentials of the users. When the Kafka brokers support it, the credential changes are
+ * collected into batches and applied using the Kafka Admin API. Otherwise the credentials are written directly to
+ * ZooKeeper one by one. The salted passwords are in both cases generated on a dedicated worker pool with a bounded
+ * number of threads. The pending changes are collected and their futures are completed on the Vert.x context of the
+ * operator.
+ */
 public class ScramShaCredentialsOperator {
+    private static final Logger log = LogManager.getLogger(ScramShaCredentialsOperator.class.getName());
 
-    private ScramShaCredentials credsManager;
+    private static final ScramMechanism MECHANISM = ScramMechanism.SCRAM_SHA_512;
+    private static final int ITERATIONS = 4096;
 
-    private Vertx vertx;
+    /* test */ static final long BATCH_LINGER_MS = 100;
 
-    public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager) {
-        this.credsManager = credsManager;
+    private final Vertx vertx;
+    private final Context context;
+    private final ScramShaCredentials credsManager;
+    private final Admin adminClient;
+    private final int batchSize;
+    private final WorkerExecutor workerExecutor;
+
+    // Accessed only from the Vert.x context of the operator
+    private final Map<String, PendingChange> pending = new LinkedHashMap<>();
+    private long batchTimer = -1;
+    private volatile boolean adminApiSupported;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param credsManager Manager of the SCRAM-SHA credentials stored in ZooKeeper
+     * @param adminClient Kafka Admin client instance or null if the credentials should be managed only in ZooKeeper
+     * @param batchSize Maximal number of credential changes sent to Kafka in a single request
+     * @param workerPoolSize Number of worker threads used to generate and apply the credentials
+     */
+    public ScramShaCredentialsOperator(Vertx vertx, ScramShaCredentials credsManager, Admin adminClient, int batchSize, int workerPoolSize) {
         this.vertx = vertx;
+        this.context = vertx.getOrCreateContext();
+        this.credsManager = credsManager;
+        this.adminClient = adminClient;
+        this.batchSize = batchSize;
+        this.workerExecutor = vertx.createSharedWorkerExecutor("scram-sha-credentials-pool", workerPoolSize);
+        this.adminApiSupported = adminClient != null;
     }
 
+    /**
+     * Creates, updates or deletes the SCRAM-SHA credentials of given user. When the Admin API is used, the change is
+     * sent to Kafka together with the changes of other users which are reconciled at the same time.
+     *
+     * @param username  Name of the user
+     * @param password  Desired password of the user or null if the credentials should be deleted
+     *
+     * @return  Future which completes when the credentials were changed
+     */
     Future<Void> reconcile(String username, String password) {
+        if (!adminApiSupported) {
+            return reconcileInZookeeper(username, password);
+        }
+
         Promise<Void> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+
+        context.runOnContext(v -> {
+            // Repeated changes of the same user are merged into the last one, as the Admin API does not allow
+            // to alter the same user more than once in a single request
+            PendingChange change = pending.computeIfAbsent(username, user -> new PendingChange());
+            change.password = password;
+            change.promises.add(promise);
+
+            if (pending.size() >= batchSize) {
+                if (batchTimer != -1) {
+                    vertx.cancelTimer(batchTimer);
+                    batchTimer = -1;
+                }
+
+                alter(drainPending());
+            } else if (batchTimer == -1) {
+                batchTimer = vertx.setTimer(BATCH_LINGER_MS, id -> {
+                    batchTimer = -1;
+                    alter(drainPending());
+                });
+            }
+        });
+
+        return promise.future();
+    }
+
+    /**
+     * List users with SCRAM-SHA credentials
+     *
+     * @return List of usernames with SCRAM-SHA credentials
+     */
+    public List<String> list() {
+        if (adminApiSupported) {
+            try {
+                Map<String, UserScramCredentialsDescription> descriptions = adminClient.describeUserScramCredentials().all().get();
+
+                return descriptions.values().stream()
+                        .filter(description -> description.credentialInfos().stream().anyMatch(info -> info.mechanism() == MECHANISM))
+                        .map(UserScramCredentialsDescription::name)
+                        .collect(Collectors.toList());
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof UnsupportedVersionException)) {
+                    throw new RuntimeException("Failed to list the SCRAM-SHA credentials", e.getCause());
+                }
+
+                disableAdminApi();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while listing the SCRAM-SHA credentials", e);
+            }
+        }
+
+        return credsManager.list();
+    }
+
+    private Map<String, PendingChange> drainPending() {
+        Map<String, PendingChange> batch = new LinkedHashMap<>(pending);
+        pending.clear();
+        return batch;
+    }
+
+    /**
+     * Sends a batch of credential changes to Kafka. The Admin client generates the salted passwords while building the
+     * request, so the request is sent from the worker pool. The results of the individual users are handled on the
+     * Vert.x context of the operator.
+     *
+     * @param batch Credential changes indexed by the user name
+     */
+    private void alter(Map<String, PendingChange> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        log.debug("Altering SCRAM-SHA credentials of {} users", batch.size());
+
+        workerExecutor.<Map<String, KafkaFuture<Void>>>executeBlocking(
+            future -> {
+                List<UserScramCredentialAlteration> alterations = new ArrayList<>(batch.size());
+
+                for (Map.Entry<String, PendingChange> entry : batch.entrySet()) {
+                    String password = entry.getValue().password;
+
+                    if (password != null) {
+                        alterations.add(new UserScramCredentialUpsertion(entry.getKey(), new ScramCredentialInfo(MECHANISM, ITERATIONS), password));
+                    } else {
+                        alterations.add(new UserScramCredentialDeletion(entry.getKey(), MECHANISM));
+                    }
+                }
+
+                future.complete(adminClient.alterUserScramCredentials(alterations).values());
+            },
+            false,
+            res -> {
+                if (res.failed()) {
+                    log.error("Failed to alter the SCRAM-SHA credentials", res.cause());
+                    batch.values().forEach(change -> change.complete(Future.failedFuture(res.cause())));
+                    return;
+                }
+
+                for (Map.Entry<String, PendingChange> entry : batch.entrySet()) {
+                    String username = entry.getKey();
+                    PendingChange change = entry.getValue();
+
+                    res.result().get(username).whenComplete((ignored, error) -> context.runOnContext(v -> {
+                        if (error == null) {
+                            change.complete(Future.succeededFuture());
+                        } else if (error instanceof ResourceNotFoundException && change.password == null) {
+                            log.debug("SCRAM-SHA credentials for user {} already don't exist", username);
+                            change.complete(Future.succeededFuture());
+                        } else if (error instanceof UnsupportedVersionException) {
+                            disableAdminApi();
+                            reconcileInZookeeper(username, change.password).onComplete(change::complete);
+                        } else {
+                            log.error("Failed to alter the SCRAM-SHA credentials of user {}", username, error);
+                            change.complete(Future.failedFuture(error));
+                        }
+                    }));
+                }
+            });
+    }
+
+    private void disableAdminApi() {
+        if (adminApiSupported) {
+            log.info("The Kafka brokers do not support the management of SCRAM-SHA credentials using the Admin API. The credentials will be managed in ZooKeeper.");
+            adminApiSupported = false;
+        }
+    }
+
+    private Future<Void> reconcileInZookeeper(String username, String password) {
+        Promise<Void> promise = Promise.promise();
+        workerExecutor.executeBlocking(
             future -> {
                 boolean exists = credsManager.exists(username);
                 if (password != null) {
@@ -43,7 +241,15 @@ public class ScramShaCredentialsOperator {
         return promise.future();
     }
 
-    public List<String> list() {
-        return credsManager.list();
+    /**
+     * Credential change waiting to be sent to Kafka
+     */
+    private static class PendingChange {
+        private String password;
+        private final List<Promise<Void>> promises = new ArrayList<>(1);
+
+        private void complete(AsyncResult<Void> result) {
+            promises.forEach(promise -> promise.handle(result));
+        }
     }
 }
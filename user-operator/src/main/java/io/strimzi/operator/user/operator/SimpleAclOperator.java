@@ -9,18 +9,17 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.common.acl.AccessControlEntryFilter;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
-import org.apache.kafka.common.acl.AclOperation;
-import org.apache.kafka.common.acl.AclPermissionType;
 import org.apache.kafka.common.errors.SecurityDisabledException;
 import org.apache.kafka.common.errors.UnknownServerException;
-import org.apache.kafka.common.resource.ResourcePatternFilter;
 import org.apache.kafka.common.security.auth.KafkaPrincipal;
 import org.apache.kafka.common.utils.SecurityUtils;
 import org.apache.logging.log4j.LogManager;
@@ -29,22 +28,52 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 /**
  * SimlpeAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
+ *
+ * The operator keeps a snapshot of all ACL rules indexed by the principal. The snapshot is loaded with a single
+ * describeAcls request in every periodic reconciliation (see {@link #getUsersWithAcls()}) and updated after the rules
+ * are created or deleted by the operator, so that the reconciliation of the individual users does not need to query
+ * Kafka. The rules created or deleted for different users at the same time are sent to Kafka in a single request.
+ *
+ * The pending changes are collected and the batches are sent from the Vert.x context of the operator, and the futures
+ * of the individual users are completed on the same context. The reloaded snapshot replaces the current one only when
+ * no batch was sent while it was being loaded, because such snapshot might miss the changes done by the batch.
  */
 public class SimpleAclOperator {
     private static final Logger log = LogManager.getLogger(SimpleAclOperator.class.getName());
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    /* test */ static final long BATCH_LINGER_MS = 50;
+
     private final Vertx vertx;
+    private final Context context;
     private final Admin adminClient;
 
+    // ACL bindings indexed by the principal or null when the snapshot needs to be loaded
+    private Map<String, Set<AclBinding>> aclSnapshot;
+    // Number of batches sent so far and number of batches which are being applied, guarded by this
+    private long batchesStarted = 0;
+    private int batchesInFlight = 0;
+    // Held while the missing snapshot is being loaded, so that the snapshot itself stays available for the batches
+    private final Object snapshotLoadLock = new Object();
+
+    // Accessed only from the Vert.x context of the operator
+    private final List<PendingAclChange> pendingCreates = new ArrayList<>();
+    private final List<PendingAclChange> pendingDeletes = new ArrayList<>();
+    private long batchTimer = -1;
+
     /**
      * Constructor
      *
@@ -53,6 +82,7 @@ public class SimpleAclOperator {
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient)  {
         this.vertx = vertx;
+        this.context = vertx.getOrCreateContext();
         this.adminClient = adminClient;
     }
 
@@ -112,15 +142,8 @@ public class SimpleAclOperator {
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
-        try {
-            Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-            adminClient.createAcls(aclBindings).all().get();
-        } catch (Exception e) {
-            log.error("Adding Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
-        }
-
-        return Future.succeededFuture(ReconcileResult.created(desired));
+        return enqueue(pendingCreates, username, desired)
+                .map(ignore -> ReconcileResult.created(desired));
     }
 
     /**
@@ -153,15 +176,6 @@ public class SimpleAclOperator {
         return promise.future();
     }
 
-    private Collection<AclBindingFilter> getAclBindingFilters(String username, Set<SimpleAclRule> aclRules) {
-        KafkaPrincipal principal = new KafkaPrincipal("User", username);
-        Collection<AclBindingFilter> aclBindingFilters = new ArrayList<>();
-        for (SimpleAclRule rule: aclRules) {
-            aclBindingFilters.add(rule.toKafkaAclBinding(principal).toFilter());
-        }
-        return aclBindingFilters;
-    }
-
     private Collection<AclBinding> getAclBindings(String username, Set<SimpleAclRule> aclRules) {
         KafkaPrincipal principal = new KafkaPrincipal("User", username);
         Collection<AclBinding> aclBindings = new ArrayList<>();
@@ -175,15 +189,144 @@ public class SimpleAclOperator {
      * Deletes all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+        return enqueue(pendingDeletes, username, current)
+                .map(ignore -> ReconcileResult.deleted());
+    }
+
+    /**
+     * Adds the ACL rules of given user to the next batch of created or deleted rules
+     */
+    private Future<Void> enqueue(List<PendingAclChange> queue, String username, Set<SimpleAclRule> rules) {
+        if (rules.isEmpty()) {
+            return Future.succeededFuture();
+        }
 
+        PendingAclChange change = new PendingAclChange(username, getAclBindings(username, rules));
+
+        context.runOnContext(v -> {
+            queue.add(change);
+
+            if (batchTimer == -1) {
+                batchTimer = vertx.setTimer(BATCH_LINGER_MS, id -> sendBatch());
+            }
+        });
+
+        return change.promise.future();
+    }
+
+    /**
+     * Sends the pending ACL changes to Kafka. The deletions are sent before the creations. It runs on the Vert.x
+     * context of the operator and completes the futures of the changes on it once the batch is applied.
+     */
+    private void sendBatch() {
+        batchTimer = -1;
+        List<PendingAclChange> creates = new ArrayList<>(pendingCreates);
+        List<PendingAclChange> deletes = new ArrayList<>(pendingDeletes);
+        pendingCreates.clear();
+        pendingDeletes.clear();
+
+        batchStarted();
+
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                if (!deletes.isEmpty()) {
+                    deleteBatch(deletes);
+                }
+
+                if (!creates.isEmpty()) {
+                    createBatch(creates);
+                }
+
+                future.complete();
+            },
+            false,
+            res -> {
+                batchFinished();
+
+                if (res.failed()) {
+                    log.error("Failed to update the Acl rules", res.cause());
+                    invalidateSnapshot();
+                }
+
+                deletes.forEach(change -> change.complete(res.cause()));
+                creates.forEach(change -> change.complete(res.cause()));
+            });
+    }
+
+    /**
+     * Applies the batch of created ACL rules. The outcome of each change is recorded in it and the futures of the
+     * changes are completed later on the Vert.x context.
+     */
+    private void createBatch(List<PendingAclChange> changes) {
+        Set<AclBinding> aclBindings = new LinkedHashSet<>();
+        changes.forEach(change -> aclBindings.addAll(change.aclBindings));
+
+        log.debug("Adding {} Acl rules of {} users", aclBindings.size(), changes.size());
+
+        Map<AclBinding, KafkaFuture<Void>> results;
+        try {
+            results = adminClient.createAcls(aclBindings).values();
+        } catch (Exception e) {
+            log.error("Adding Acl rules failed", e);
+            invalidateSnapshot();
+            changes.forEach(change -> change.error = e);
+            return;
+        }
+
+        for (PendingAclChange change : changes) {
+            try {
+                for (AclBinding aclBinding : change.aclBindings) {
+                    results.get(aclBinding).get();
+                }
+
+                updateSnapshot(change.aclBindings, true);
+            } catch (InterruptedException | ExecutionException e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                log.error("Adding Acl rules for user {} failed", change.username, cause);
+                invalidateSnapshot();
+                change.error = cause;
+            }
+        }
+    }
+
+    /**
+     * Applies the batch of deleted ACL rules. The outcome of each change is recorded in it and the futures of the
+     * changes are completed later on the Vert.x context.
+     */
+    private void deleteBatch(List<PendingAclChange> changes) {
+        Set<AclBindingFilter> aclBindingFilters = new LinkedHashSet<>();
+        changes.forEach(change -> change.aclBindings.forEach(aclBinding -> aclBindingFilters.add(aclBinding.toFilter())));
+
+        log.debug("Deleting {} Acl rules of {} users", aclBindingFilters.size(), changes.size());
+
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> results;
         try {
-            Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-            adminClient.deleteAcls(aclBindingFilters).all().get();
+            results = adminClient.deleteAcls(aclBindingFilters).values();
         } catch (Exception e) {
-            log.error("Deleting Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
+            log.error("Deleting Acl rules failed", e);
+            invalidateSnapshot();
+            changes.forEach(change -> change.error = e);
+            return;
+        }
+
+        for (PendingAclChange change : changes) {
+            try {
+                for (AclBinding aclBinding : change.aclBindings) {
+                    for (DeleteAclsResult.FilterResult filterResult : results.get(aclBinding.toFilter()).get().values()) {
+                        if (filterResult.exception() != null) {
+                            throw new ExecutionException(filterResult.exception());
+                        }
+                    }
+                }
+
+                updateSnapshot(change.aclBindings, false);
+            } catch (InterruptedException | ExecutionException e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                log.error("Deleting Acl rules for user {} failed", change.username, cause);
+                invalidateSnapshot();
+                change.error = cause;
+            }
         }
-        return Future.succeededFuture(ReconcileResult.deleted());
     }
 
     /**
@@ -197,20 +340,7 @@ public class SimpleAclOperator {
         Set<SimpleAclRule> result = new HashSet<>();
         KafkaPrincipal principal = new KafkaPrincipal("User", username);
 
-        AclBindingFilter aclBindingFilter = new AclBindingFilter(ResourcePatternFilter.ANY,
-            new AccessControlEntryFilter(principal.toString(), null, AclOperation.ANY, AclPermissionType.ANY));
-
-        Collection<AclBinding> aclBindings = null;
-        try {
-            aclBindings = adminClient.describeAcls(aclBindingFilter).values().get();
-        } catch (InterruptedException | ExecutionException e) {
-            // Admin Client API needs authorizer enabled on the Kafka brokers
-            if (e.getCause() instanceof SecurityDisabledException) {
-                throw new InvalidResourceException("Authorization needs to be enabled in the Kafka custom resource", e.getCause());
-            } else if (e.getCause() instanceof UnknownServerException && e.getMessage().contains("Simple ACL delegation not enabled")) {
-                throw new InvalidResourceException("Simple ACL delegation needs to be enabled in the Kafka custom resource", e.getCause());
-            }
-        }
+        Collection<AclBinding> aclBindings = getSnapshotAclBindings(principal.toString());
 
         if (aclBindings != null) {
             log.debug("ACL rules for user {}", username);
@@ -224,7 +354,118 @@ public class SimpleAclOperator {
     }
 
     /**
-     * Returns set with all usernames which have some ACLs.
+     * Returns the ACL bindings of given principal from the snapshot. The snapshot is loaded when it is missing.
+     *
+     * @param principal The principal in the Kafka format, e.g. User:CN=my-user
+     * @return The copy of the ACL bindings of the principal or null if they could not be loaded.
+     */
+    private Collection<AclBinding> getSnapshotAclBindings(String principal) {
+        Collection<AclBinding> aclBindings = getLoadedSnapshotAclBindings(principal);
+
+        if (aclBindings != null) {
+            return aclBindings;
+        }
+
+        // Users reconciled at the same time wait for a single load instead of loading the snapshot each
+        synchronized (snapshotLoadLock) {
+            aclBindings = getLoadedSnapshotAclBindings(principal);
+
+            if (aclBindings != null) {
+                return aclBindings;
+            }
+
+            long batchesStartedBeforeLoad = batchesStarted();
+
+            try {
+                aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
+            } catch (InterruptedException | ExecutionException e) {
+                // Admin Client API needs authorizer enabled on the Kafka brokers
+                if (e.getCause() instanceof SecurityDisabledException) {
+                    throw new InvalidResourceException("Authorization needs to be enabled in the Kafka custom resource", e.getCause());
+                } else if (e.getCause() instanceof UnknownServerException && e.getMessage().contains("Simple ACL delegation not enabled")) {
+                    throw new InvalidResourceException("Simple ACL delegation needs to be enabled in the Kafka custom resource", e.getCause());
+                }
+            }
+
+            if (aclBindings == null) {
+                return null;
+            }
+
+            replaceSnapshot(aclBindings, batchesStartedBeforeLoad);
+        }
+
+        return aclBindings.stream()
+                .filter(aclBinding -> principal.equals(aclBinding.entry().principal()))
+                .collect(Collectors.toList());
+    }
+
+    private synchronized Collection<AclBinding> getLoadedSnapshotAclBindings(String principal) {
+        return aclSnapshot != null ? new ArrayList<>(aclSnapshot.getOrDefault(principal, Collections.emptySet())) : null;
+    }
+
+    /* test */ synchronized long batchesStarted() {
+        return batchesStarted;
+    }
+
+    private synchronized void batchStarted() {
+        batchesStarted++;
+        batchesInFlight++;
+    }
+
+    private synchronized void batchFinished() {
+        batchesInFlight--;
+    }
+
+    /**
+     * Replaces the snapshot with the loaded ACL bindings unless a batch of changes was sent while they were loaded.
+     *
+     * @param aclBindings The loaded ACL bindings
+     * @param batchesStartedBeforeLoad The number of batches sent before the ACL bindings started to be loaded
+     *
+     * @return True if the snapshot was replaced. False otherwise.
+     */
+    /* test */ synchronized boolean replaceSnapshot(Collection<AclBinding> aclBindings, long batchesStartedBeforeLoad) {
+        if (batchesInFlight > 0 || batchesStarted != batchesStartedBeforeLoad) {
+            log.debug("Not replacing the snapshot of ACL rules because Acl rules were changed while it was loaded");
+            return false;
+        }
+
+        aclSnapshot = new HashMap<>();
+
+        for (AclBinding aclBinding : aclBindings) {
+            aclSnapshot.computeIfAbsent(aclBinding.entry().principal(), principal -> new HashSet<>()).add(aclBinding);
+        }
+
+        log.debug("Loaded snapshot with ACL rules of {} principals", aclSnapshot.size());
+        return true;
+    }
+
+    private synchronized void updateSnapshot(Collection<AclBinding> aclBindings, boolean created) {
+        if (aclSnapshot != null) {
+            for (AclBinding aclBinding : aclBindings) {
+                String principal = aclBinding.entry().principal();
+
+                if (created) {
+                    aclSnapshot.computeIfAbsent(principal, p -> new HashSet<>()).add(aclBinding);
+                } else if (aclSnapshot.containsKey(principal)) {
+                    Set<AclBinding> principalBindings = aclSnapshot.get(principal);
+                    principalBindings.remove(aclBinding);
+
+                    if (principalBindings.isEmpty()) {
+                        aclSnapshot.remove(principal);
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized void invalidateSnapshot() {
+        aclSnapshot = null;
+    }
+
+    /**
+     * Returns set with all usernames which have some ACLs. It also reloads the snapshot of the ACL rules used by the
+     * reconciliation of the individual users.
      *
      * @return The set with all usernames which have some ACLs.
      */
@@ -234,13 +475,17 @@ public class SimpleAclOperator {
 
         log.debug("Searching for Users with any ACL rules");
 
+        long batchesStartedBeforeLoad = batchesStarted();
         Collection<AclBinding> aclBindings;
         try {
             aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
         } catch (InterruptedException | ExecutionException e) {
+            invalidateSnapshot();
             return result;
         }
 
+        replaceSnapshot(aclBindings, batchesStartedBeforeLoad);
+
         for (AclBinding aclBinding : aclBindings) {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
@@ -266,4 +511,34 @@ public class SimpleAclOperator {
 
         return result;
     }
+
+    /**
+     * ACL rules of a user waiting to be created or deleted
+     */
+    private static class PendingAclChange {
+        private final String username;
+        private final Collection<AclBinding> aclBindings;
+        private final Promise<Void> promise = Promise.promise();
+        private Throwable error;
+
+        private PendingAclChange(String username, Collection<AclBinding> aclBindings) {
+            this.username = username;
+            this.aclBindings = aclBindings;
+        }
+
+        /**
+         * Completes the future of the change with its recorded outcome
+         *
+         * @param batchError The error of the whole batch or null if the batch did not fail as a whole
+         */
+        private void complete(Throwable batchError) {
+            Throwable cause = error != null ? error : batchError;
+
+            if (cause != null) {
+                promise.fail(cause);
+            } else {
+                promise.complete();
+            }
+        }
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the generation of the keys and certificates of the users on a dedicated worker pool with a bounded number of
+ * threads, so that it does not block the event loop and several users get their certificates at the same time. The
+ * certificates of new users are generated before the certificates of existing users. So when the clients CA is
+ * renewed and all the existing users need new certificates, the users created in the meantime do not have to wait
+ * until all the renewals are done.
+ */
+public class UserCertificateIssuer {
+    private final WorkerExecutor workerExecutor;
+    private final int workerPoolSize;
+
+    private final Queue<Task<?>> newUsers = new ArrayDeque<>();
+    private final Queue<Task<?>> existingUsers = new ArrayDeque<>();
+    private int running = 0;
+
+    private final Timer newUsersQueueTimer;
+    private final Timer existingUsersQueueTimer;
+    private final Timer newUsersDurationTimer;
+    private final Timer existingUsersDurationTimer;
+    private final AtomicInteger pendingGauge;
+    private final MetricsProvider metrics;
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param workerPoolSize Number of worker threads used to generate the certificates
+     * @param metrics Metrics provider
+     */
+    public UserCertificateIssuer(Vertx vertx, int workerPoolSize, MetricsProvider metrics) {
+        this.workerExecutor = vertx.createSharedWorkerExecutor("user-certificates-pool", workerPoolSize);
+        this.workerPoolSize = workerPoolSize;
+        this.metrics = metrics;
+
+        Tags newUsersTags = Tags.of(Tag.of("kind", "KafkaUser"), Tag.of("user", "new"));
+        Tags existingUsersTags = Tags.of(Tag.of("kind", "KafkaUser"), Tag.of("user", "existing"));
+        newUsersQueueTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "certificates.queue.duration",
+                "The time the certificates of the users waited for a worker thread", newUsersTags);
+        existingUsersQueueTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "certificates.queue.duration",
+                "The time the certificates of the users waited for a worker thread", existingUsersTags);
+        newUsersDurationTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "certificates.duration",
+                "The time taken to generate the certificates of the users", newUsersTags);
+        existingUsersDurationTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "certificates.duration",
+                "The time taken to generate the certificates of the users", existingUsersTags);
+        pendingGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "certificates.pending",
+                "Number of users waiting for a worker thread to generate their certificates",
+                Tags.of(Tag.of("kind", "KafkaUser")));
+    }
+
+    /**
+     * Queues the generation of the certificates of a user
+     *
+     * @param newUser Whether the user does not have any certificate yet. The new users are handled first.
+     * @param generator Generates the certificates. It is called on a worker thread.
+     * @param <T> Type of the result of the generator
+     *
+     * @return Future which completes with the result of the generator
+     */
+    public <T> Future<T> issue(boolean newUser, Callable<T> generator) {
+        Task<T> task = new Task<>(newUser, generator, Timer.start(metrics.meterRegistry()));
+        synchronized (this) {
+            (newUser ? newUsers : existingUsers).add(task);
+            pendingGauge.incrementAndGet();
+        }
+        pump();
+        return task.promise.future();
+    }
+
+    /**
+     * Starts as many of the queued tasks as there are free worker threads, the new users first
+     */
+    private void pump() {
+        List<Task<?>> started = new ArrayList<>();
+        synchronized (this) {
+            while (running < workerPoolSize && !(newUsers.isEmpty() && existingUsers.isEmpty())) {
+                Task<?> task = newUsers.isEmpty() ? existingUsers.remove() : newUsers.remove();
+                running++;
+                pendingGauge.decrementAndGet();
+                started.add(task);
+            }
+        }
+        for (Task<?> task : started) {
+            run(task);
+        }
+    }
+
+    private <T> void run(Task<T> task) {
+        task.queueSample.stop(task.newUser ? newUsersQueueTimer : existingUsersQueueTimer);
+        Timer durationTimer = task.newUser ? newUsersDurationTimer : existingUsersDurationTimer;
+
+        workerExecutor.<T>executeBlocking(future -> {
+            try {
+                future.complete(durationTimer.recordCallable(task.generator));
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        }, false, result -> completed(task, result));
+    }
+
+    private <T> void completed(Task<T> task, AsyncResult<T> result) {
+        synchronized (this) {
+            running--;
+        }
+        task.promise.handle(result);
+        pump();
+    }
+
+    private static class Task<T> {
+        private final boolean newUser;
+        private final Callable<T> generator;
+        private final Timer.Sample queueSample;
+        private final Promise<T> promise = Promise.promise();
+
+        Task(boolean newUser, Callable<T> generator, Timer.Sample queueSample) {
+            this.newUser = newUser;
+            this.generator = generator;
+            this.queueSample = queueSample;
+        }
+    }
+}
@@ -107,4 +107,56 @@ public class UserOperatorConfigTest {
 
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
     }
+
+    @Test
+    public void testFromMapScramShaOptions()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getScramShaBatchSize(), is(UserOperatorConfig.DEFAULT_SCRAM_SHA_BATCH_SIZE));
+        assertThat(config.getScramShaWorkerPoolSize(), is(UserOperatorConfig.DEFAULT_SCRAM_SHA_WORKER_POOL_SIZE));
+
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_BATCH_SIZE, "500");
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_WORKER_POOL_SIZE, "8");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getScramShaBatchSize(), is(500));
+        assertThat(config.getScramShaWorkerPoolSize(), is(8));
+    }
+
+    @Test
+    public void testFromMapCertificatesWorkerPoolSize()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getCertificatesWorkerPoolSize(), is(UserOperatorConfig.DEFAULT_CERTIFICATES_WORKER_POOL_SIZE));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATES_WORKER_POOL_SIZE, "8");
+        assertThat(UserOperatorConfig.fromMap(envVars).getCertificatesWorkerPoolSize(), is(8));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATES_WORKER_POOL_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapOpenSslCertManagerEnabled()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        assertThat(UserOperatorConfig.fromMap(envVars).isOpenSslCertManagerEnabled(), is(false));
+
+        envVars.put(UserOperatorConfig.STRIMZI_OPENSSL_CERT_MANAGER_ENABLED, "true");
+        assertThat(UserOperatorConfig.fromMap(envVars).isOpenSslCertManagerEnabled(), is(true));
+    }
+
+    @Test
+    public void testFromMapInvalidScramShaOptionsThrows()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_BATCH_SIZE, "0");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+
+        envVars.remove(UserOperatorConfig.STRIMZI_SCRAM_SHA_BATCH_SIZE);
+        envVars.put(UserOperatorConfig.STRIMZI_SCRAM_SHA_WORKER_POOL_SIZE, "many");
+
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
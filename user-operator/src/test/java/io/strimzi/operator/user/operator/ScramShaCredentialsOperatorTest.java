@@ -0,0 +1,224 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramShaCredentialsOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    /**
+     * Mocks the Admin client to record the requested alterations and to complete each of them with the error returned
+     * by the given map (or successfully when there is no error for the user)
+     */
+    private Admin mockAdminClient(List<List<UserScramCredentialAlteration>> requests, Map<String, Throwable> errors) {
+        Admin mockAdminClient = mock(Admin.class);
+
+        when(mockAdminClient.alterUserScramCredentials(any())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+            synchronized (requests) {
+                requests.add(alterations);
+            }
+
+            Map<String, KafkaFuture<Void>> values = new HashMap<>(alterations.size());
+            for (UserScramCredentialAlteration alteration : alterations) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                Throwable error = errors.get(alteration.user());
+
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(null);
+                }
+
+                values.put(alteration.user(), future);
+            }
+
+            return new AlterUserScramCredentialsResult(values);
+        });
+
+        return mockAdminClient;
+    }
+
+    @Test
+    public void testChangesAreSentInSingleRequest(VertxTestContext context) {
+        List<List<UserScramCredentialAlteration>> requests = new ArrayList<>();
+        Admin mockAdminClient = mockAdminClient(requests, Map.of());
+        ScramShaCredentials mockCredentials = mock(ScramShaCredentials.class);
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mockCredentials, mockAdminClient, 10, 2);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(operator.reconcile("user1", "password1"),
+                operator.reconcile("user2", "password2"),
+                operator.reconcile("user3", null))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(requests, hasSize(1));
+                assertThat(requests.get(0).stream().map(UserScramCredentialAlteration::user).collect(Collectors.toList()), contains("user1", "user2", "user3"));
+                assertThat(requests.get(0).get(0), instanceOf(UserScramCredentialUpsertion.class));
+                assertThat(requests.get(0).get(2), instanceOf(UserScramCredentialDeletion.class));
+
+                verify(mockCredentials, never()).createOrUpdate(anyString(), anyString());
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFullBatchIsSentImmediately(VertxTestContext context) {
+        List<List<UserScramCredentialAlteration>> requests = new ArrayList<>();
+        Admin mockAdminClient = mockAdminClient(requests, Map.of());
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mock(ScramShaCredentials.class), mockAdminClient, 2, 2);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(operator.reconcile("user1", "password1"),
+                operator.reconcile("user2", "password2"),
+                operator.reconcile("user3", "password3"))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(requests, hasSize(2));
+                assertThat(requests.get(0).stream().map(UserScramCredentialAlteration::user).collect(Collectors.toList()), contains("user1", "user2"));
+                assertThat(requests.get(1).stream().map(UserScramCredentialAlteration::user).collect(Collectors.toList()), contains("user3"));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRepeatedChangesOfSameUserAreMerged(VertxTestContext context) {
+        List<List<UserScramCredentialAlteration>> requests = new ArrayList<>();
+        Admin mockAdminClient = mockAdminClient(requests, Map.of());
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mock(ScramShaCredentials.class), mockAdminClient, 10, 2);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(operator.reconcile("user1", "password1"), operator.reconcile("user1", null))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(requests, hasSize(1));
+                assertThat(requests.get(0), hasSize(1));
+                assertThat(requests.get(0).get(0), instanceOf(UserScramCredentialDeletion.class));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDeletionOfMissingCredentialsSucceeds(VertxTestContext context) {
+        List<List<UserScramCredentialAlteration>> requests = new ArrayList<>();
+        Admin mockAdminClient = mockAdminClient(requests, Map.of(
+                "missing-user", new ResourceNotFoundException("Attempt to delete a user credential that does not exist"),
+                "failing-user", new ResourceNotFoundException("Unexpected error")));
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mock(ScramShaCredentials.class), mockAdminClient, 10, 2);
+
+        Checkpoint async = context.checkpoint(2);
+        operator.reconcile("missing-user", null)
+            .onComplete(context.succeeding(v -> async.flag()));
+        operator.reconcile("failing-user", "password")
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(ResourceNotFoundException.class));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFallbackToZookeeperWhenAdminApiIsNotSupported(VertxTestContext context) {
+        List<List<UserScramCredentialAlteration>> requests = new ArrayList<>();
+        Admin mockAdminClient = mockAdminClient(requests, Map.of(
+                "user1", new UnsupportedVersionException("The broker does not support ALTER_USER_SCRAM_CREDENTIALS")));
+        ScramShaCredentials mockCredentials = mock(ScramShaCredentials.class);
+        when(mockCredentials.exists(anyString())).thenReturn(true);
+        when(mockCredentials.list()).thenReturn(asList("user1", "user2"));
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mockCredentials, mockAdminClient, 10, 2);
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile("user1", "password1")
+            .compose(v -> operator.reconcile("user2", null))
+            .compose(v -> Future.succeededFuture(operator.list()))
+            .onComplete(context.succeeding(users -> context.verify(() -> {
+                assertThat(requests, hasSize(1));
+                verify(mockCredentials).createOrUpdate("user1", "password1");
+                verify(mockCredentials).delete("user2");
+                assertThat(users, contains("user1", "user2"));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testChangesCompletedByAdminClientThreadCompleteOnContext(VertxTestContext context) {
+        Admin mockAdminClient = mock(Admin.class);
+        when(mockAdminClient.alterUserScramCredentials(any())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> values = new HashMap<>(alterations.size());
+            alterations.forEach(alteration -> values.put(alteration.user(), new KafkaFutureImpl<>()));
+
+            // The Admin client completes the futures from its own network thread
+            new Thread(() -> values.values().forEach(future -> ((KafkaFutureImpl<Void>) future).complete(null))).start();
+
+            return new AlterUserScramCredentialsResult(values);
+        });
+
+        ScramShaCredentialsOperator operator = new ScramShaCredentialsOperator(vertx, mock(ScramShaCredentials.class), mockAdminClient, 10, 2);
+
+        Checkpoint async = context.checkpoint(2);
+        operator.reconcile("user1", "password1")
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(Context.isOnEventLoopThread(), is(true));
+                async.flag();
+            })));
+        operator.reconcile("user2", null)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(Context.isOnEventLoopThread(), is(true));
+                async.flag();
+            })));
+    }
+}
@@ -10,6 +10,7 @@ import io.strimzi.api.kafka.model.AclRuleType;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -37,10 +38,15 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -53,6 +59,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -165,7 +174,7 @@ public class SimpleAclOperatorTest {
         assertDoesNotThrow(() -> {
             mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
             mockCreateAcls(mockAdminClient, aclBindingsCaptor);
-            mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
+            mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
         });
 
         Checkpoint async = context.checkpoint();
@@ -208,7 +217,7 @@ public class SimpleAclOperatorTest {
         ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
         assertDoesNotThrow(() -> {
             mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
-            mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor);
+            mockDeleteAcls(mockAdminClient, aclBindingFiltersCaptor);
         });
 
         Checkpoint async = context.checkpoint();
@@ -228,6 +237,124 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileOfMultipleUsersIsBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        KafkaPrincipal bar = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=bar");
+        AclBinding fooReadAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding barReadAclBinding = new AclBinding(resource, new AccessControlEntry(bar.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, null, emptyList());
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+        });
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(aclOp.reconcile("CN=foo", Collections.singleton(readRule)), aclOp.reconcile("CN=bar", Collections.singleton(readRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // Both users are reconciled against a single snapshot of the ACL rules
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+
+                    // The rules of both users are created in a single request
+                    verify(mockAdminClient, times(1)).createAcls(any());
+                    assertThat(aclBindingsCaptor.getValue(), hasSize(2));
+                    assertThat(aclBindingsCaptor.getValue(), hasItems(fooReadAclBinding, barReadAclBinding));
+
+                    // The created rules are added to the snapshot
+                    assertThat(aclOp.getAcls("CN=foo"), is(Collections.singleton(readRule)));
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testGetUsersWithAclsRefreshesSnapshot(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        assertDoesNotThrow(() -> mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, Collections.singleton(readAclBinding)));
+        assertThat(aclOp.getUsersWithAcls(), is(Collections.singleton("foo")));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", Collections.singleton(readRule))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+                    verify(mockAdminClient, never()).createAcls(any());
+                    verify(mockAdminClient, never()).deleteAcls(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSnapshotLoadedDuringBatchIsNotUsed(VertxTestContext context) throws InterruptedException, ExecutionException {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, emptyList());
+        mockCreateAcls(mockAdminClient, ArgumentCaptor.forClass(Collection.class));
+        assertThat(aclOp.getUsersWithAcls(), is(Collections.emptySet()));
+
+        // The next periodic listing reads the rules before the batch is sent, but finishes only after it was applied
+        CountDownLatch describeStarted = new CountDownLatch(1);
+        CountDownLatch describeReleased = new CountDownLatch(1);
+        DescribeAclsResult result = mock(DescribeAclsResult.class);
+        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
+        when(future.get()).thenAnswer(invocation -> {
+            describeStarted.countDown();
+            describeReleased.await();
+            return emptyList();
+        });
+        when(result.values()).thenReturn(future);
+        when(mockAdminClient.describeAcls(any())).thenReturn(result);
+
+        CompletableFuture<Set<String>> users = CompletableFuture.supplyAsync(aclOp::getUsersWithAcls);
+        assertThat(describeStarted.await(1, TimeUnit.MINUTES), is(true));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", Collections.singleton(readRule))
+                .onComplete(context.succeeding(rr -> {
+                    describeReleased.countDown();
+
+                    context.verify(() -> {
+                        assertThat(users.get(1, TimeUnit.MINUTES), is(Collections.emptySet()));
+
+                        // The stale listing did not replace the snapshot with the created rules
+                        assertThat(aclOp.getAcls("CN=foo"), is(Collections.singleton(readRule)));
+                        verify(mockAdminClient, times(1)).createAcls(any());
+
+                        async.flag();
+                    });
+                }));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
@@ -237,21 +364,31 @@ public class SimpleAclOperatorTest {
         when(mockAdminClient.describeAcls(aclBindingFilter != null ? aclBindingFilter : any())).thenReturn(result);
     }
 
-    private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor)
-            throws InterruptedException, ExecutionException {
-        CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(null);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
+    private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor) {
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>(aclBindings.size());
+            aclBindings.forEach(aclBinding -> values.put(aclBinding, KafkaFuture.completedFuture(null)));
+
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
     }
 
-    private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor)
-            throws InterruptedException, ExecutionException {
-        DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(aclBindings);
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
+    private void mockDeleteAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> aclBindingFilters = invocation.getArgument(0);
+            Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> values = new HashMap<>(aclBindingFilters.size());
+            for (AclBindingFilter aclBindingFilter : aclBindingFilters) {
+                DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class);
+                when(filterResults.values()).thenReturn(emptyList());
+                values.put(aclBindingFilter, KafkaFuture.completedFuture(filterResults));
+            }
+
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
     }
 }
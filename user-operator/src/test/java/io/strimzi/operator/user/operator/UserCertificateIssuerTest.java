@@ -0,0 +1,93 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class UserCertificateIssuerTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static double metric(MeterRegistry registry, String name, String user) {
+        return registry.find("strimzi." + name).tag("kind", "KafkaUser").tag("user", user).timer().count();
+    }
+
+    @Test
+    public void testNewUsersAreIssuedFirst(VertxTestContext context) throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        UserCertificateIssuer issuer = new UserCertificateIssuer(vertx, 1, new MicrometerMetricsProvider(registry));
+        List<String> issued = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // Keeps the only worker thread busy until all the other users are queued
+        Future<String> first = issuer.issue(false, () -> {
+            started.countDown();
+            blocked.await(10, TimeUnit.SECONDS);
+            issued.add("renewed-1");
+            return "renewed-1";
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+
+        Future<String> renewed2 = issuer.issue(false, () -> {
+            issued.add("renewed-2");
+            return "renewed-2";
+        });
+        Future<String> renewed3 = issuer.issue(false, () -> {
+            throw new RuntimeException("failed");
+        });
+        Future<String> created = issuer.issue(true, () -> {
+            issued.add("new-1");
+            return "new-1";
+        });
+        assertThat(registry.find("strimzi.certificates.pending").gauge().value(), is(3.0));
+        blocked.countDown();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, renewed2, renewed3, created).onComplete(ar -> context.verify(() -> {
+            assertThat(issued, is(asList("renewed-1", "new-1", "renewed-2")));
+            assertThat(renewed2.result(), is("renewed-2"));
+            assertThat(renewed3.failed(), is(true));
+            assertThat(renewed3.cause().getMessage(), is("failed"));
+            assertThat(registry.find("strimzi.certificates.pending").gauge().value(), is(0.0));
+            assertThat(metric(registry, "certificates.duration", "new"), is(1.0));
+            assertThat(metric(registry, "certificates.duration", "existing"), is(3.0));
+            assertThat(metric(registry, "certificates.queue.duration", "existing"), is(3.0));
+            async.flag();
+        }));
+    }
+}